@@ -0,0 +1,99 @@
+package com.dailyhealthreminder.benchmark;
+
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+
+import java.util.Arrays;
+import java.util.function.ObjDoubleConsumer;
+
+/**
+ * Calibration tool that picks the BCrypt cost for {@code security.password.bcrypt-strength}.
+ * Measures the median hashing time of each cost on the current machine and
+ * selects the highest cost that stays within a target latency per hash.
+ * Lives with the benchmarks, outside the application sources; run it on the
+ * production hardware, e.g.
+ * {@code mvn -Pbenchmark test-compile exec:java -Dexec.mainClass=com.dailyhealthreminder.benchmark.BcryptCostCalibrator -Dexec.args=250}.
+ *
+ * @author Daily Health Reminder Team
+ * @version 1.0
+ */
+public final class BcryptCostCalibrator {
+
+    private static final int MIN_STRENGTH = 4;
+    private static final int MAX_STRENGTH = 16;
+    private static final int SAMPLES = 5;
+    private static final long DEFAULT_TARGET_MS = 250;
+    private static final String SAMPLE_PASSWORD = "calibration-Passw0rd!";
+
+    private BcryptCostCalibrator() {
+        // Private constructor to prevent instantiation
+    }
+
+    /**
+     * Measure the median time of one hash at a given cost.
+     *
+     * @param strength BCrypt cost (log2 rounds)
+     * @param samples Number of timed hashes
+     * @return Median hashing time in milliseconds
+     */
+    public static double measureMillis(int strength, int samples) {
+        BCryptPasswordEncoder encoder = new BCryptPasswordEncoder(strength);
+        // Warm up so the first sample does not include class loading and JIT
+        encoder.encode(SAMPLE_PASSWORD);
+
+        long[] nanos = new long[samples];
+        for (int i = 0; i < samples; i++) {
+            long start = System.nanoTime();
+            encoder.encode(SAMPLE_PASSWORD);
+            nanos[i] = System.nanoTime() - start;
+        }
+        Arrays.sort(nanos);
+        return nanos[samples / 2] / 1_000_000.0;
+    }
+
+    /**
+     * Find the highest cost whose median hashing time is within the target.
+     * Each additional cost step doubles the time, so measuring stops at the
+     * first cost over the target.
+     *
+     * @param targetMs Target latency per hash in milliseconds
+     * @return Recommended BCrypt cost, never below the minimum cost
+     */
+    public static int calibrate(long targetMs) {
+        return calibrate(targetMs, (strength, millis) -> { });
+    }
+
+    /**
+     * Find the highest cost whose median hashing time is within the target,
+     * reporting each measurement.
+     *
+     * @param targetMs Target latency per hash in milliseconds
+     * @param onMeasured Receives each measured cost and its median time in milliseconds
+     * @return Recommended BCrypt cost, never below the minimum cost
+     */
+    public static int calibrate(long targetMs, ObjDoubleConsumer<Integer> onMeasured) {
+        int selected = MIN_STRENGTH;
+        for (int strength = MIN_STRENGTH; strength <= MAX_STRENGTH; strength++) {
+            double millis = measureMillis(strength, SAMPLES);
+            onMeasured.accept(strength, millis);
+            if (millis > targetMs) {
+                break;
+            }
+            selected = strength;
+        }
+        return selected;
+    }
+
+    /**
+     * Print the hashing time per cost and the recommended setting.
+     *
+     * @param args Optional target latency per hash in milliseconds
+     */
+    public static void main(String[] args) {
+        long targetMs = args.length > 0 ? Long.parseLong(args[0]) : DEFAULT_TARGET_MS;
+        System.out.printf("BCrypt cost calibration, target %d ms per hash, %d cores%n",
+                targetMs, Runtime.getRuntime().availableProcessors());
+        int selected = calibrate(targetMs,
+                (strength, millis) -> System.out.printf("  cost %2d: %8.1f ms%n", strength, millis));
+        System.out.printf("Recommended: security.password.bcrypt-strength: %d%n", selected);
+    }
+}
@@ -0,0 +1,84 @@
+package com.dailyhealthreminder.benchmark;
+
+import com.dailyhealthreminder.entity.HealthLog;
+import com.dailyhealthreminder.entity.Reminder;
+import com.dailyhealthreminder.entity.User;
+import com.dailyhealthreminder.service.JwtService;
+import com.dailyhealthreminder.util.Constants;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Shared fixtures for the benchmarks.
+ *
+ * @author Daily Health Reminder Team
+ * @version 1.0
+ */
+final class BenchmarkFixtures {
+
+    static final String JWT_SECRET = "ZGFpbHktaGVhbHRoLXJlbWluZGVyLWJlbmNobWFyay1zZWNyZXQta2V5LTEyMzQ1Njc4";
+    static final long JWT_EXPIRATION_MS = 3_600_000;
+
+    private BenchmarkFixtures() {
+        // Private constructor to prevent instantiation
+    }
+
+    static JwtService jwtService() {
+        JwtService jwtService = new JwtService(new SimpleMeterRegistry());
+        ReflectionTestUtils.setField(jwtService, "secretKey", JWT_SECRET);
+        ReflectionTestUtils.setField(jwtService, "jwtExpiration", JWT_EXPIRATION_MS);
+        return jwtService;
+    }
+
+    static User user() {
+        return User.builder()
+                .id("65f1a2b3c4d5e6f708192a3b")
+                .name("Benchmark User")
+                .email("benchmark@example.com")
+                .password("$2a$10$abcdefghijklmnopqrstuv")
+                .roles(Set.of(Constants.ROLE_USER))
+                .build();
+    }
+
+    static HealthLog healthLog(User user, int index) {
+        return HealthLog.builder()
+                .id("65f1a2b3c4d5e6f7081930" + String.format("%02x", index))
+                .user(user)
+                .logType(Constants.HEALTH_LOG_TYPE_EXERCISE)
+                .logDate(LocalDateTime.of(2024, 3, 1, 7, 30).plusDays(index))
+                .value(5.2 + index)
+                .unit("km")
+                .metadata(Map.of("activity", "running", "heartRateAvg", 142, "route", "park loop"))
+                .notes("Morning run")
+                .durationMinutes(35)
+                .caloriesBurned(410)
+                .qualityRating(4)
+                .createdAt(LocalDateTime.of(2024, 3, 1, 8, 0).plusDays(index))
+                .updatedAt(LocalDateTime.of(2024, 3, 1, 8, 0).plusDays(index))
+                .build();
+    }
+
+    static Reminder reminder(User user, String frequency) {
+        return Reminder.builder()
+                .id("65f1a2b3c4d5e6f708194000")
+                .user(user)
+                .title("Take vitamins")
+                .description("One tablet after breakfast")
+                .reminderType(Constants.HEALTH_LOG_TYPE_MEDICATION)
+                .reminderTime(LocalTime.of(8, 30))
+                .frequency(frequency)
+                .daysOfWeek(List.of(1, 3, 5))
+                .dayOfMonth(31)
+                .startDate(LocalDateTime.of(2024, 1, 1, 0, 0))
+                .isActive(true)
+                .createdAt(LocalDateTime.of(2024, 1, 1, 0, 0))
+                .updatedAt(LocalDateTime.of(2024, 1, 1, 0, 0))
+                .build();
+    }
+}
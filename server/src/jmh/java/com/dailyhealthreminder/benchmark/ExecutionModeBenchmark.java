@@ -0,0 +1,101 @@
+package com.dailyhealthreminder.benchmark;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.core.task.SimpleAsyncTaskExecutor;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * Platform-thread pool against virtual threads for request handling that
+ * mostly waits on Mongo. Each invocation runs a burst of {@code concurrency}
+ * requests that block for {@code blockingMillis}, as a repository call does,
+ * and completes when the whole burst has been served. The platform pool is
+ * sized like Tomcat's default {@code server.tomcat.threads.max}.
+ * The virtual mode needs Java 21; for the end-to-end comparison run the
+ * load harness with {@code -Dspring.threads.virtual.enabled=true}.
+ *
+ * @author Daily Health Reminder Team
+ * @version 1.0
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 2, time = 2)
+@Measurement(iterations = 3, time = 3)
+@Fork(1)
+public class ExecutionModeBenchmark {
+
+    private static final int TOMCAT_MAX_THREADS = 200;
+
+    @Param({"platform", "virtual"})
+    private String mode;
+
+    @Param({"200", "2000"})
+    private int concurrency;
+
+    @Param({"5"})
+    private long blockingMillis;
+
+    private Executor executor;
+
+    /**
+     * Create the executor for the mode.
+     */
+    @Setup
+    public void setUp() {
+        if ("virtual".equals(mode)) {
+            SimpleAsyncTaskExecutor virtualExecutor = new SimpleAsyncTaskExecutor("request-");
+            // Throws on Java 17
+            virtualExecutor.setVirtualThreads(true);
+            executor = virtualExecutor;
+        } else {
+            executor = Executors.newFixedThreadPool(TOMCAT_MAX_THREADS);
+        }
+    }
+
+    /**
+     * Release the executor's threads.
+     */
+    @TearDown
+    public void tearDown() {
+        if (executor instanceof ExecutorService executorService) {
+            executorService.shutdownNow();
+        } else if (executor instanceof SimpleAsyncTaskExecutor simpleAsyncTaskExecutor) {
+            simpleAsyncTaskExecutor.close();
+        }
+    }
+
+    /**
+     * Serve a burst of blocking requests.
+     *
+     * @throws InterruptedException if interrupted while waiting for the burst
+     */
+    @Benchmark
+    public void burst() throws InterruptedException {
+        CountDownLatch done = new CountDownLatch(concurrency);
+        long blockingNanos = TimeUnit.MILLISECONDS.toNanos(blockingMillis);
+        for (int i = 0; i < concurrency; i++) {
+            executor.execute(() -> {
+                LockSupport.parkNanos(blockingNanos);
+                done.countDown();
+            });
+        }
+        done.await();
+    }
+}
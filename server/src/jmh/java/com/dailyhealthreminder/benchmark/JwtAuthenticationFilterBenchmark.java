@@ -0,0 +1,77 @@
+package com.dailyhealthreminder.benchmark;
+
+import com.dailyhealthreminder.config.JwtAuthenticationFilter;
+import com.dailyhealthreminder.entity.User;
+import com.dailyhealthreminder.security.AccessTokenRevocationList;
+import com.dailyhealthreminder.security.AuthenticatedUser;
+import com.dailyhealthreminder.security.PrincipalCache;
+import com.dailyhealthreminder.service.JwtService;
+import org.mockito.Mockito;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Authentication of one request by the JWT filter, with the principal
+ * cache and revocation list mocked so only the filter's own work is measured.
+ *
+ * @author Daily Health Reminder Team
+ * @version 1.0
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class JwtAuthenticationFilterBenchmark {
+
+    private JwtAuthenticationFilter filter;
+    private String authorization;
+
+    /**
+     * Create the filter with mocked lookups and a valid token.
+     */
+    @Setup
+    public void setUp() {
+        JwtService jwtService = BenchmarkFixtures.jwtService();
+        User user = BenchmarkFixtures.user();
+
+        PrincipalCache principalCache = Mockito.mock(PrincipalCache.class);
+        Mockito.when(principalCache.getPrincipal(user.getEmail())).thenReturn(AuthenticatedUser.from(user));
+        AccessTokenRevocationList revocationList = Mockito.mock(AccessTokenRevocationList.class);
+
+        filter = new JwtAuthenticationFilter(jwtService, principalCache, revocationList);
+        authorization = "Bearer " + jwtService.generateToken(user, "65f1a2b3c4d5e6f708195000");
+    }
+
+    /**
+     * Filter one authenticated request.
+     *
+     * @return Authentication set by the filter
+     * @throws Exception if filtering fails
+     */
+    @Benchmark
+    public Authentication authenticate() throws Exception {
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/v1/reminders");
+        request.addHeader("Authorization", authorization);
+        filter.doFilter(request, new MockHttpServletResponse(), new MockFilterChain());
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        SecurityContextHolder.clearContext();
+        return authentication;
+    }
+}
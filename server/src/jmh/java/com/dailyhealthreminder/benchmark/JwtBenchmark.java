@@ -0,0 +1,67 @@
+package com.dailyhealthreminder.benchmark;
+
+import com.dailyhealthreminder.entity.User;
+import com.dailyhealthreminder.service.JwtService;
+import io.jsonwebtoken.Claims;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Access token signing and verification, done on login and on every authenticated request.
+ *
+ * @author Daily Health Reminder Team
+ * @version 1.0
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class JwtBenchmark {
+
+    private JwtService jwtService;
+    private User user;
+    private String token;
+
+    /**
+     * Create the service and a token to verify.
+     */
+    @Setup
+    public void setUp() {
+        jwtService = BenchmarkFixtures.jwtService();
+        user = BenchmarkFixtures.user();
+        token = jwtService.generateToken(user, "65f1a2b3c4d5e6f708195000");
+    }
+
+    /**
+     * Sign an access token with a session ID.
+     *
+     * @return Token
+     */
+    @Benchmark
+    public String generateToken() {
+        return jwtService.generateToken(user, "65f1a2b3c4d5e6f708195000");
+    }
+
+    /**
+     * Verify a token the way the filter does: one parse, then validity.
+     *
+     * @return true if valid
+     */
+    @Benchmark
+    public boolean verifyToken() {
+        Claims claims = jwtService.parseClaims(token);
+        return jwtService.isTokenValid(claims, claims.getSubject());
+    }
+}
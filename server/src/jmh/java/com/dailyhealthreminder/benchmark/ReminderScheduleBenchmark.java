@@ -0,0 +1,63 @@
+package com.dailyhealthreminder.benchmark;
+
+import com.dailyhealthreminder.entity.Reminder;
+import com.dailyhealthreminder.entity.User;
+import com.dailyhealthreminder.util.Constants;
+import com.dailyhealthreminder.util.ReminderSchedule;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.time.LocalDateTime;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Next-occurrence computation of a reminder per frequency.
+ *
+ * @author Daily Health Reminder Team
+ * @version 1.0
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class ReminderScheduleBenchmark {
+
+    @Param({Constants.FREQUENCY_DAILY, Constants.FREQUENCY_WEEKLY, Constants.FREQUENCY_MONTHLY})
+    private String frequency;
+
+    private Reminder reminder;
+    private LocalDateTime from;
+
+    /**
+     * Build the reminder.
+     */
+    @Setup
+    public void setUp() {
+        User user = BenchmarkFixtures.user();
+        reminder = BenchmarkFixtures.reminder(user, frequency);
+        // After the reminder time, so daily reminders roll over to the next day
+        from = LocalDateTime.of(2024, 2, 1, 21, 0);
+    }
+
+    /**
+     * Compute the next occurrence.
+     *
+     * @return Next occurrence
+     */
+    @Benchmark
+    public Optional<LocalDateTime> nextOccurrence() {
+        return ReminderSchedule.nextOccurrence(reminder, from);
+    }
+}
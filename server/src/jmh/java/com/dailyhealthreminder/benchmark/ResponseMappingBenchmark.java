@@ -0,0 +1,160 @@
+package com.dailyhealthreminder.benchmark;
+
+import com.dailyhealthreminder.dto.response.ApiResponse;
+import com.dailyhealthreminder.dto.response.HealthLogResponse;
+import com.dailyhealthreminder.dto.response.ReminderResponse;
+import com.dailyhealthreminder.entity.HealthLog;
+import com.dailyhealthreminder.entity.Reminder;
+import com.dailyhealthreminder.entity.User;
+import com.dailyhealthreminder.service.HealthLogService;
+import com.dailyhealthreminder.service.ReminderService;
+import com.dailyhealthreminder.util.Constants;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Entity-to-DTO mapping and JSON serialization of a page of health logs,
+ * the response path of the list endpoints.
+ * The mappers are private, so they are called through method handles
+ * looked up once; the services are built without collaborators since the
+ * mappers do not use them.
+ *
+ * @author Daily Health Reminder Team
+ * @version 1.0
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class ResponseMappingBenchmark {
+
+    private static final int PAGE_SIZE = 20;
+
+    private MethodHandle mapHealthLog;
+    private MethodHandle mapReminder;
+    private HealthLog healthLog;
+    private Reminder reminder;
+    private List<HealthLog> healthLogs;
+    private ApiResponse<Page<HealthLogResponse>> page;
+    private ObjectMapper objectMapper;
+
+    /**
+     * Look up the mappers and build the fixtures.
+     *
+     * @throws ReflectiveOperationException if a mapper cannot be found
+     */
+    @Setup
+    public void setUp() throws ReflectiveOperationException {
+        HealthLogService healthLogService = new HealthLogService(null, null, null, null, null);
+        ReminderService reminderService = new ReminderService(null, null, null, null);
+        mapHealthLog = privateMethod(HealthLogService.class, "mapToHealthLogResponse",
+                HealthLogResponse.class, HealthLog.class).bindTo(healthLogService);
+        mapReminder = privateMethod(ReminderService.class, "mapToReminderResponse",
+                ReminderResponse.class, Reminder.class).bindTo(reminderService);
+
+        User user = BenchmarkFixtures.user();
+        healthLog = BenchmarkFixtures.healthLog(user, 0);
+        reminder = BenchmarkFixtures.reminder(user, Constants.FREQUENCY_WEEKLY);
+        healthLogs = new ArrayList<>();
+        List<HealthLogResponse> responses = new ArrayList<>();
+        for (int i = 0; i < PAGE_SIZE; i++) {
+            HealthLog log = BenchmarkFixtures.healthLog(user, i);
+            healthLogs.add(log);
+            responses.add(mapHealthLog(log));
+        }
+        page = ApiResponse.success(Constants.SUCCESS,
+                new PageImpl<>(responses, PageRequest.of(0, PAGE_SIZE), 500));
+        // Same date handling as the application's auto-configured mapper
+        objectMapper = Jackson2ObjectMapperBuilder.json()
+                .featuresToDisable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS)
+                .build();
+    }
+
+    /**
+     * Map one health log.
+     *
+     * @return Response DTO
+     */
+    @Benchmark
+    public HealthLogResponse mapToHealthLogResponse() {
+        return mapHealthLog(healthLog);
+    }
+
+    /**
+     * Map one reminder.
+     *
+     * @return Response DTO
+     */
+    @Benchmark
+    public ReminderResponse mapToReminderResponse() {
+        try {
+            return (ReminderResponse) mapReminder.invokeExact(reminder);
+        } catch (Throwable e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    /**
+     * Serialize a page of health log responses as the list endpoint does.
+     *
+     * @return JSON bytes
+     * @throws Exception if serialization fails
+     */
+    @Benchmark
+    public byte[] serializeHealthLogPage() throws Exception {
+        return objectMapper.writeValueAsBytes(page);
+    }
+
+    /**
+     * Map and serialize a page of health logs.
+     *
+     * @return JSON bytes
+     * @throws Exception if serialization fails
+     */
+    @Benchmark
+    public byte[] mapAndSerializeHealthLogPage() throws Exception {
+        List<HealthLogResponse> responses = new ArrayList<>(healthLogs.size());
+        for (HealthLog log : healthLogs) {
+            responses.add(mapHealthLog(log));
+        }
+        return objectMapper.writeValueAsBytes(ApiResponse.success(Constants.SUCCESS,
+                new PageImpl<>(responses, PageRequest.of(0, PAGE_SIZE), 500)));
+    }
+
+    private HealthLogResponse mapHealthLog(HealthLog log) {
+        try {
+            return (HealthLogResponse) mapHealthLog.invokeExact(log);
+        } catch (Throwable e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private static MethodHandle privateMethod(Class<?> type, String name, Class<?> returnType, Class<?> parameterType)
+            throws ReflectiveOperationException {
+        return MethodHandles.privateLookupIn(type, MethodHandles.lookup())
+                .findVirtual(type, name, MethodType.methodType(returnType, parameterType));
+    }
+}
@@ -0,0 +1,28 @@
+package com.dailyhealthreminder.bulkhead;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Runs a controller method on the bounded executor of a workload instead
+ * of the request thread. On a class it applies to every handler method
+ * that does not declare its own.
+ *
+ * @author Daily Health Reminder Team
+ * @version 1.0
+ */
+@Target({ElementType.METHOD, ElementType.TYPE})
+@Retention(RetentionPolicy.RUNTIME)
+@Documented
+public @interface Bulkhead {
+
+    /**
+     * Workload the method belongs to.
+     *
+     * @return Workload
+     */
+    Workload value();
+}
@@ -0,0 +1,145 @@
+package com.dailyhealthreminder.bulkhead;
+
+import com.dailyhealthreminder.exception.ServiceUnavailableException;
+import com.dailyhealthreminder.metrics.RequestTimings;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.web.context.request.async.WebAsyncTask;
+
+import java.util.concurrent.Callable;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Bounded executor of one workload. Work waits in a bounded queue and is
+ * rejected when the queue is full or, once it reaches a thread, when it
+ * waited longer than the queue timeout; the whole request is bounded by
+ * the workload's timeout. A saturated workload therefore fails fast with
+ * 503 instead of holding threads the other workloads need.
+ *
+ * @author Daily Health Reminder Team
+ * @version 1.0
+ */
+public class BulkheadExecutor {
+
+    static final String BUSY_MESSAGE = "Server is busy, please retry shortly";
+    static final String TIMEOUT_MESSAGE = "Request timed out, please retry shortly";
+
+    private final Workload workload;
+    private final ThreadPoolTaskExecutor executor;
+    private final long queueTimeoutNanos;
+    private final long timeoutMs;
+    private final Timer queueWait;
+    private final MeterRegistry meterRegistry;
+
+    /**
+     * Constructor with the bounds of the workload.
+     *
+     * @param workload Workload served
+     * @param settings Pool, queue and timeout settings
+     * @param threadFactory Thread factory, or null for named platform threads
+     * @param meterRegistry Meter registry
+     */
+    public BulkheadExecutor(Workload workload, Settings settings, ThreadFactory threadFactory,
+                            MeterRegistry meterRegistry) {
+        this.workload = workload;
+        this.queueTimeoutNanos = TimeUnit.MILLISECONDS.toNanos(settings.queueTimeoutMs());
+        this.timeoutMs = settings.timeoutMs();
+        this.meterRegistry = meterRegistry;
+
+        executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(settings.poolSize());
+        executor.setMaxPoolSize(settings.poolSize());
+        executor.setQueueCapacity(settings.queueCapacity());
+        executor.setThreadNamePrefix("bulkhead-" + workload.tag() + "-");
+        if (threadFactory != null) {
+            executor.setThreadFactory(threadFactory);
+        }
+        executor.setRejectedExecutionHandler((task, pool) -> {
+            rejected("queue_full");
+            new ThreadPoolExecutor.AbortPolicy().rejectedExecution(task, pool);
+        });
+        executor.setTaskDecorator(RequestTimings::propagate);
+        executor.initialize();
+
+        queueWait = Timer.builder("bulkhead.queue.wait")
+                .description("Time work waited for a bulkhead thread")
+                .tag("bulkhead", workload.tag())
+                .register(meterRegistry);
+        Gauge.builder("bulkhead.active", executor, ThreadPoolTaskExecutor::getActiveCount)
+                .description("Bulkhead threads running work")
+                .tag("bulkhead", workload.tag())
+                .register(meterRegistry);
+        Gauge.builder("bulkhead.queued", executor, ThreadPoolTaskExecutor::getQueueSize)
+                .description("Work waiting for a bulkhead thread")
+                .tag("bulkhead", workload.tag())
+                .register(meterRegistry);
+    }
+
+    /**
+     * Bounds of a bulkhead.
+     *
+     * @param poolSize Number of threads
+     * @param queueCapacity Work that may wait for a thread
+     * @param queueTimeoutMs Longest wait for a thread before the work is rejected
+     * @param timeoutMs Longest time from submission to result
+     */
+    public record Settings(int poolSize, int queueCapacity, long queueTimeoutMs, long timeoutMs) {
+    }
+
+    /**
+     * Wrap work for asynchronous request processing on this bulkhead.
+     *
+     * @param work Work producing the handler result
+     * @return Task to start on the request's async manager
+     */
+    public WebAsyncTask<Object> task(Callable<Object> work) {
+        long submitted = System.nanoTime();
+        WebAsyncTask<Object> task = new WebAsyncTask<>(timeoutMs, executor, () -> {
+            long waited = System.nanoTime() - submitted;
+            queueWait.record(waited, TimeUnit.NANOSECONDS);
+            if (waited > queueTimeoutNanos) {
+                rejected("queue_timeout");
+                throw new ServiceUnavailableException(BUSY_MESSAGE);
+            }
+            return work.call();
+        });
+        task.onTimeout(() -> {
+            Counter.builder("bulkhead.timeouts")
+                    .description("Requests that exceeded their bulkhead timeout")
+                    .tag("bulkhead", workload.tag())
+                    .register(meterRegistry)
+                    .increment();
+            throw new ServiceUnavailableException(TIMEOUT_MESSAGE);
+        });
+        return task;
+    }
+
+    /**
+     * Workload served.
+     *
+     * @return Workload
+     */
+    public Workload getWorkload() {
+        return workload;
+    }
+
+    /**
+     * Stop accepting work and interrupt the threads still running.
+     */
+    public void shutdown() {
+        executor.shutdown();
+    }
+
+    private void rejected(String reason) {
+        Counter.builder("bulkhead.rejected")
+                .description("Work rejected by a full or slow bulkhead")
+                .tags("bulkhead", workload.tag(), "reason", reason)
+                .register(meterRegistry)
+                .increment();
+    }
+}
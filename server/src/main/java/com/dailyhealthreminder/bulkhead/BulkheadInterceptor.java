@@ -0,0 +1,91 @@
+package com.dailyhealthreminder.bulkhead;
+
+import org.aopalliance.intercept.MethodInterceptor;
+import org.aopalliance.intercept.MethodInvocation;
+import org.springframework.aop.support.AopUtils;
+import org.springframework.core.annotation.AnnotatedElementUtils;
+import org.springframework.lang.NonNull;
+import org.springframework.web.context.request.RequestAttributes;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.context.request.ServletRequestAttributes;
+import org.springframework.web.context.request.async.WebAsyncManager;
+import org.springframework.web.context.request.async.WebAsyncTask;
+import org.springframework.web.context.request.async.WebAsyncUtils;
+import org.springframework.web.method.support.ModelAndViewContainer;
+
+import java.lang.reflect.Method;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Moves controller methods annotated with {@link Bulkhead} onto their
+ * workload's executor. The method is started as asynchronous request
+ * processing, so the request thread returns to the container at once and
+ * the result, or the exception, is rendered on the async dispatch exactly
+ * as if the method had returned it. Calls outside a request proceed on the
+ * calling thread.
+ *
+ * @author Daily Health Reminder Team
+ * @version 1.0
+ */
+public class BulkheadInterceptor implements MethodInterceptor {
+
+    private final BulkheadRegistry bulkheadRegistry;
+    private final Map<Method, Workload> workloads = new ConcurrentHashMap<>();
+
+    /**
+     * Constructor with registry.
+     *
+     * @param bulkheadRegistry Bulkheads of the workloads
+     */
+    public BulkheadInterceptor(BulkheadRegistry bulkheadRegistry) {
+        this.bulkheadRegistry = bulkheadRegistry;
+    }
+
+    /**
+     * Workload of a method, from the method or else its class.
+     *
+     * @param method Method
+     * @param targetClass Class the method is invoked on
+     * @return Workload, or null if neither is annotated
+     */
+    public static Workload workloadOf(Method method, Class<?> targetClass) {
+        Method specific = AopUtils.getMostSpecificMethod(method, targetClass);
+        Bulkhead bulkhead = AnnotatedElementUtils.findMergedAnnotation(specific, Bulkhead.class);
+        if (bulkhead == null) {
+            bulkhead = AnnotatedElementUtils.findMergedAnnotation(targetClass, Bulkhead.class);
+        }
+        return bulkhead != null ? bulkhead.value() : null;
+    }
+
+    @Override
+    public Object invoke(@NonNull MethodInvocation invocation) throws Throwable {
+        RequestAttributes attributes = RequestContextHolder.getRequestAttributes();
+        if (!(attributes instanceof ServletRequestAttributes servletAttributes)) {
+            return invocation.proceed();
+        }
+        WebAsyncManager asyncManager = WebAsyncUtils.getAsyncManager(servletAttributes.getRequest());
+        if (asyncManager.isConcurrentHandlingStarted()) {
+            return invocation.proceed();
+        }
+
+        Class<?> targetClass = invocation.getThis() != null
+                ? AopUtils.getTargetClass(invocation.getThis())
+                : invocation.getMethod().getDeclaringClass();
+        Workload workload = workloads.computeIfAbsent(invocation.getMethod(),
+                method -> workloadOf(method, targetClass));
+        WebAsyncTask<Object> task = bulkheadRegistry.get(workload).task(() -> {
+            try {
+                return invocation.proceed();
+            } catch (Exception | Error e) {
+                throw e;
+            } catch (Throwable t) {
+                throw new IllegalStateException(t);
+            }
+        });
+        // The handler adapter resumes with the container passed here; REST handlers leave it empty
+        asyncManager.startCallableProcessing(task, new ModelAndViewContainer());
+        // The handler adapter sees async processing started and renders the task's result instead
+        return null;
+    }
+}
@@ -0,0 +1,102 @@
+package com.dailyhealthreminder.bulkhead;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.thread.Threading;
+import org.springframework.core.env.Environment;
+import org.springframework.core.task.VirtualThreadTaskExecutor;
+import org.springframework.stereotype.Component;
+
+import java.util.EnumMap;
+import java.util.Map;
+
+/**
+ * The bulkhead of each workload, configured under
+ * {@code bulkhead.<workload>.*}. Bulkhead threads do the work request
+ * threads did before, so by default each pool is a share of
+ * {@code server.tomcat.threads.max} and together they stay within the
+ * concurrency the server was sized for. Authentication has no bulkhead:
+ * its cost is password hashing, which the password hashing executor
+ * already bounds. With virtual threads the bulkheads keep their bounds but
+ * run on virtual threads, so a blocked Mongo call only parks a virtual
+ * thread.
+ *
+ * @author Daily Health Reminder Team
+ * @version 1.0
+ */
+@Component
+@ConditionalOnProperty(name = "bulkhead.enabled", havingValue = "true", matchIfMissing = true)
+@Slf4j
+public class BulkheadRegistry {
+
+    private static final int DEFAULT_TOMCAT_MAX_THREADS = 200;
+
+    private final Map<Workload, BulkheadExecutor> bulkheads = new EnumMap<>(Workload.class);
+
+    /**
+     * Constructor creating the bulkheads.
+     *
+     * @param environment Environment with the bulkhead settings and threading mode
+     * @param meterRegistry Meter registry
+     */
+    public BulkheadRegistry(Environment environment, MeterRegistry meterRegistry) {
+        boolean virtual = Threading.VIRTUAL.isActive(environment);
+        int maxThreads = environment.getProperty("server.tomcat.threads.max", Integer.class,
+                DEFAULT_TOMCAT_MAX_THREADS);
+        defaults(maxThreads).forEach((workload, defaults) -> {
+            String prefix = "bulkhead." + workload.tag() + ".";
+            BulkheadExecutor.Settings settings = new BulkheadExecutor.Settings(
+                    environment.getProperty(prefix + "pool-size", Integer.class, defaults.poolSize()),
+                    environment.getProperty(prefix + "queue-capacity", Integer.class, defaults.queueCapacity()),
+                    environment.getProperty(prefix + "queue-timeout-ms", Long.class, defaults.queueTimeoutMs()),
+                    environment.getProperty(prefix + "timeout-ms", Long.class, defaults.timeoutMs()));
+            bulkheads.put(workload, new BulkheadExecutor(workload, settings,
+                    virtual ? new VirtualThreadTaskExecutor("bulkhead-" + workload.tag() + "-").getVirtualThreadFactory() : null,
+                    meterRegistry));
+            log.debug("Bulkhead {}: {}", workload.tag(), settings);
+        });
+    }
+
+    /**
+     * Get the bulkhead of a workload.
+     *
+     * @param workload Workload
+     * @return Bulkhead executor
+     */
+    public BulkheadExecutor get(Workload workload) {
+        BulkheadExecutor bulkhead = bulkheads.get(workload);
+        if (bulkhead == null) {
+            throw new IllegalArgumentException("No bulkhead for workload " + workload.tag());
+        }
+        return bulkhead;
+    }
+
+    /**
+     * Default bounds of the workloads with a bulkhead. Reads and writes get
+     * most of the request threads; exports stream for minutes, so they get
+     * a few threads and a short queue.
+     *
+     * @param maxThreads Maximum number of request threads
+     * @return Default settings per workload
+     */
+    private static Map<Workload, BulkheadExecutor.Settings> defaults(int maxThreads) {
+        return Map.of(
+                Workload.READ, new BulkheadExecutor.Settings(share(maxThreads, 0.4), 200, 1000, 10000),
+                Workload.WRITE, new BulkheadExecutor.Settings(share(maxThreads, 0.4), 200, 1000, 10000),
+                Workload.EXPORT, new BulkheadExecutor.Settings(share(maxThreads, 0.02), 8, 2000, 30000));
+    }
+
+    private static int share(int maxThreads, double fraction) {
+        return Math.max(1, (int) Math.round(maxThreads * fraction));
+    }
+
+    /**
+     * Shut the bulkheads down with the application context.
+     */
+    @PreDestroy
+    public void shutdown() {
+        bulkheads.values().forEach(BulkheadExecutor::shutdown);
+    }
+}
@@ -0,0 +1,43 @@
+package com.dailyhealthreminder.bulkhead;
+
+import java.util.Locale;
+
+/**
+ * Classes of work isolated from each other at the HTTP edge.
+ *
+ * @author Daily Health Reminder Team
+ * @version 1.0
+ */
+public enum Workload {
+
+    /**
+     * Credential checks, dominated by password hashing. They have no
+     * bulkhead and run on the request thread, which waits for the password
+     * hashing executor.
+     */
+    AUTH,
+
+    /**
+     * Short reads of a user's own data.
+     */
+    READ,
+
+    /**
+     * Creating, changing and deleting a user's data, and token rotation.
+     */
+    WRITE,
+
+    /**
+     * Long-running streamed reads over large ranges.
+     */
+    EXPORT;
+
+    /**
+     * Name used in configuration keys and metric tags.
+     *
+     * @return Lower-case name
+     */
+    public String tag() {
+        return name().toLowerCase(Locale.ROOT);
+    }
+}
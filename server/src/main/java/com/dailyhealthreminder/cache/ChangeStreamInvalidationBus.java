@@ -0,0 +1,300 @@
+package com.dailyhealthreminder.cache;
+
+import com.mongodb.DBRef;
+import com.mongodb.MongoServerException;
+import com.mongodb.client.ChangeStreamIterable;
+import com.mongodb.client.MongoChangeStreamCursor;
+import com.mongodb.client.MongoCollection;
+import com.mongodb.client.model.Aggregates;
+import com.mongodb.client.model.Filters;
+import com.mongodb.client.model.ReplaceOptions;
+import com.mongodb.client.model.changestream.ChangeStreamDocument;
+import com.mongodb.client.model.changestream.FullDocument;
+import com.mongodb.client.model.changestream.OperationType;
+import lombok.extern.slf4j.Slf4j;
+import org.bson.BsonDateTime;
+import org.bson.BsonDocument;
+import org.bson.BsonString;
+import org.bson.BsonValue;
+import org.bson.Document;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Tails the change streams of the cached collections and publishes
+ * invalidation events to every registered local cache, so writes made on
+ * other instances become visible here.
+ * The resume token is stored in {@value #TOKEN_COLLECTION} per consumer, so a
+ * restarted instance continues where it stopped. When the token can no longer
+ * be used (e.g. it fell off the oplog) the bus publishes a full flush and
+ * starts from the current position.
+ * Requires a replica set; enabled with {@code cache.invalidation.enabled}.
+ *
+ * @author Daily Health Reminder Team
+ * @version 1.0
+ */
+@Component
+@ConditionalOnProperty(name = "cache.invalidation.enabled", havingValue = "true")
+@Slf4j
+public class ChangeStreamInvalidationBus implements SmartLifecycle {
+
+    static final String TOKEN_COLLECTION = "change_stream_tokens";
+
+    private static final Map<String, InvalidationEvent.Type> WATCHED_COLLECTIONS = Map.of(
+            "users", InvalidationEvent.Type.USER,
+            "reminders", InvalidationEvent.Type.REMINDER,
+            "health_logs", InvalidationEvent.Type.HEALTH_LOG,
+            "refresh_tokens", InvalidationEvent.Type.REFRESH_TOKEN,
+            "roles", InvalidationEvent.Type.ROLE);
+
+    /**
+     * InvalidResumeToken, ChangeStreamFatalError and ChangeStreamHistoryLost.
+     */
+    private static final Set<Integer> LOST_RESUME_POINT_CODES = Set.of(260, 280, 286);
+    private static final long MAX_BACKOFF_MS = 30000;
+
+    private final MongoTemplate mongoTemplate;
+    private final List<InvalidationListener> listeners;
+    private final String consumerId;
+    private final long tokenSaveIntervalMs;
+
+    private volatile boolean running;
+    private Thread worker;
+    private BsonDocument lastSavedToken;
+    private long lastSaveMillis;
+
+    /**
+     * Constructor with listeners and settings.
+     *
+     * @param mongoTemplate Mongo template
+     * @param listeners Local caches to notify
+     * @param consumerId Name the resume token is stored under, unique per instance
+     * @param tokenSaveIntervalMs Minimum interval between resume token writes in milliseconds
+     */
+    public ChangeStreamInvalidationBus(MongoTemplate mongoTemplate,
+                                       List<InvalidationListener> listeners,
+                                       @Value("${cache.invalidation.consumer-id}") String consumerId,
+                                       @Value("${cache.invalidation.token-save-interval-ms:1000}") long tokenSaveIntervalMs) {
+        this.mongoTemplate = mongoTemplate;
+        this.listeners = new CopyOnWriteArrayList<>(listeners);
+        this.consumerId = consumerId;
+        this.tokenSaveIntervalMs = tokenSaveIntervalMs;
+    }
+
+    /**
+     * Register a local cache that is not a Spring bean.
+     *
+     * @param listener Listener to notify
+     */
+    public void register(InvalidationListener listener) {
+        listeners.add(listener);
+    }
+
+    @Override
+    public void start() {
+        running = true;
+        worker = new Thread(this::run, "cache-invalidation-bus");
+        worker.setDaemon(true);
+        worker.start();
+        log.info("Cache invalidation bus started for consumer: {}", consumerId);
+    }
+
+    @Override
+    public void stop() {
+        running = false;
+        if (worker != null) {
+            // Let the worker leave its await and save the resume token before forcing it out of a back-off
+            try {
+                worker.join(TimeUnit.SECONDS.toMillis(5));
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            worker.interrupt();
+        }
+    }
+
+    @Override
+    public boolean isRunning() {
+        return running;
+    }
+
+    private void run() {
+        long backoffMs = 1000;
+        while (running) {
+            BsonDocument resumeToken = loadToken();
+            MongoChangeStreamCursor<ChangeStreamDocument<Document>> cursor;
+            try {
+                cursor = open(resumeToken);
+            } catch (MongoServerException e) {
+                if (resumeToken != null) {
+                    // The server rejected the stored resume point
+                    discardToken(e);
+                } else {
+                    backoffMs = backOff(backoffMs, e);
+                }
+                continue;
+            } catch (RuntimeException e) {
+                backoffMs = backOff(backoffMs, e);
+                continue;
+            }
+
+            try (cursor) {
+                if (resumeToken == null) {
+                    // Nothing tells us what changed before this point
+                    publish(InvalidationEvent.flushAll());
+                }
+                backoffMs = 1000;
+                tail(cursor);
+            } catch (MongoServerException e) {
+                if (LOST_RESUME_POINT_CODES.contains(e.getCode())) {
+                    discardToken(e);
+                } else {
+                    backoffMs = backOff(backoffMs, e);
+                }
+            } catch (RuntimeException e) {
+                backoffMs = backOff(backoffMs, e);
+            }
+        }
+    }
+
+    private MongoChangeStreamCursor<ChangeStreamDocument<Document>> open(BsonDocument resumeToken) {
+        ChangeStreamIterable<Document> changeStream = mongoTemplate.getDb()
+                .watch(List.of(Aggregates.match(Filters.in("ns.coll", WATCHED_COLLECTIONS.keySet()))))
+                .fullDocument(FullDocument.UPDATE_LOOKUP)
+                .maxAwaitTime(1, TimeUnit.SECONDS);
+        if (resumeToken != null) {
+            changeStream = changeStream.resumeAfter(resumeToken);
+        }
+        return changeStream.cursor();
+    }
+
+    private void tail(MongoChangeStreamCursor<ChangeStreamDocument<Document>> cursor) {
+        try {
+            while (running) {
+                ChangeStreamDocument<Document> change = cursor.tryNext();
+                if (change != null && !apply(change)) {
+                    // The stream was invalidated; start over without a resume point
+                    deleteToken();
+                    return;
+                }
+                saveToken(cursor.getResumeToken(), false);
+            }
+        } finally {
+            if (!running) {
+                saveToken(cursor.getResumeToken(), true);
+            }
+        }
+    }
+
+    private boolean apply(ChangeStreamDocument<Document> change) {
+        switch (change.getOperationType()) {
+            case INSERT, UPDATE, REPLACE, DELETE -> {
+                InvalidationEvent.Type type = WATCHED_COLLECTIONS.get(change.getNamespace().getCollectionName());
+                String entityId = documentId(change.getDocumentKey());
+                if (type == null || entityId == null) {
+                    publish(InvalidationEvent.flushAll());
+                } else {
+                    String userId = type == InvalidationEvent.Type.USER ? entityId : userId(change.getFullDocument());
+                    publish(new InvalidationEvent(type, entityId, userId));
+                }
+                return true;
+            }
+            default -> {
+                // drop, rename, dropDatabase and invalidate
+                publish(InvalidationEvent.flushAll());
+                return change.getOperationType() != OperationType.INVALIDATE;
+            }
+        }
+    }
+
+    private void publish(InvalidationEvent event) {
+        for (InvalidationListener listener : listeners) {
+            try {
+                listener.onInvalidation(event);
+            } catch (RuntimeException e) {
+                log.error("Cache invalidation listener {} failed", listener.getClass().getSimpleName(), e);
+            }
+        }
+    }
+
+    private long backOff(long backoffMs, RuntimeException e) {
+        if (!running) {
+            return backoffMs;
+        }
+        log.warn("Cache invalidation stream failed, retrying in {} ms: {}", backoffMs, e.getMessage());
+        try {
+            Thread.sleep(backoffMs);
+        } catch (InterruptedException interrupted) {
+            Thread.currentThread().interrupt();
+            running = false;
+        }
+        return Math.min(backoffMs * 2, MAX_BACKOFF_MS);
+    }
+
+    private MongoCollection<BsonDocument> tokens() {
+        return mongoTemplate.getCollection(TOKEN_COLLECTION).withDocumentClass(BsonDocument.class);
+    }
+
+    private BsonDocument loadToken() {
+        BsonDocument stored = tokens().find(Filters.eq("_id", consumerId)).first();
+        lastSavedToken = stored != null ? stored.getDocument("token", null) : null;
+        lastSaveMillis = System.currentTimeMillis();
+        return lastSavedToken;
+    }
+
+    private void saveToken(BsonDocument token, boolean force) {
+        long now = System.currentTimeMillis();
+        if (token == null || token.equals(lastSavedToken) || (!force && now - lastSaveMillis < tokenSaveIntervalMs)) {
+            return;
+        }
+        BsonDocument document = new BsonDocument("_id", new BsonString(consumerId))
+                .append("token", token)
+                .append("updatedAt", new BsonDateTime(now));
+        tokens().replaceOne(Filters.eq("_id", consumerId), document, new ReplaceOptions().upsert(true));
+        lastSavedToken = token;
+        lastSaveMillis = now;
+    }
+
+    private void discardToken(MongoServerException e) {
+        log.warn("Resume token for {} is no longer usable, flushing caches: {}", consumerId, e.getMessage());
+        deleteToken();
+    }
+
+    private void deleteToken() {
+        tokens().deleteOne(Filters.eq("_id", consumerId));
+        lastSavedToken = null;
+    }
+
+    private static String documentId(BsonDocument documentKey) {
+        BsonValue id = documentKey != null ? documentKey.get("_id") : null;
+        if (id == null) {
+            return null;
+        }
+        return id.isObjectId() ? id.asObjectId().getValue().toHexString()
+                : id.isString() ? id.asString().getValue() : null;
+    }
+
+    private static String userId(Document document) {
+        if (document == null) {
+            return null;
+        }
+        Object user = document.get("user");
+        if (user instanceof DBRef dbRef) {
+            return String.valueOf(dbRef.getId());
+        }
+        if (user instanceof Document reference) {
+            Object id = reference.get("$id");
+            return id != null ? String.valueOf(id) : null;
+        }
+        return null;
+    }
+}
@@ -0,0 +1,37 @@
+package com.dailyhealthreminder.cache;
+
+/**
+ * Change to cached data, published by the invalidation bus.
+ *
+ * @param type Kind of entity that changed, or {@link Type#FLUSH_ALL}
+ * @param entityId ID of the changed document, null for {@link Type#FLUSH_ALL}
+ * @param userId ID of the owning user when known, null otherwise
+ * @author Daily Health Reminder Team
+ * @version 1.0
+ */
+public record InvalidationEvent(Type type, String entityId, String userId) {
+
+    /**
+     * Kind of invalidation.
+     */
+    public enum Type {
+        USER,
+        REMINDER,
+        HEALTH_LOG,
+        REFRESH_TOKEN,
+        ROLE,
+        /**
+         * Continuity of the change stream was lost; every cached entry may be stale.
+         */
+        FLUSH_ALL
+    }
+
+    /**
+     * Create an event that invalidates everything.
+     *
+     * @return Flush event
+     */
+    public static InvalidationEvent flushAll() {
+        return new InvalidationEvent(Type.FLUSH_ALL, null, null);
+    }
+}
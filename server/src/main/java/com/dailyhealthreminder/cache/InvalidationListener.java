@@ -0,0 +1,18 @@
+package com.dailyhealthreminder.cache;
+
+/**
+ * Local cache that is kept coherent by the invalidation bus.
+ * Implementations are called on the bus thread and must not block.
+ *
+ * @author Daily Health Reminder Team
+ * @version 1.0
+ */
+public interface InvalidationListener {
+
+    /**
+     * Handle a change to cached data.
+     *
+     * @param event Invalidation event
+     */
+    void onInvalidation(InvalidationEvent event);
+}
@@ -0,0 +1,204 @@
+package com.dailyhealthreminder.cache;
+
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.BiPredicate;
+import java.util.function.Supplier;
+
+/**
+ * Bounded in-process cache with least-recently-used eviction and a
+ * time-to-live per entry.
+ * Each load registers a token for its key; invalidating the key drops the
+ * token, and the loaded value is stored only if its token is still the
+ * registered one. Loads that overlap an invalidation of their key are
+ * therefore returned to the caller but not stored, so a write can never be
+ * hidden by a read that started before it, while invalidations of other
+ * keys leave the load alone.
+ *
+ * @param <K> Key type
+ * @param <V> Value type
+ * @author Daily Health Reminder Team
+ * @version 1.0
+ */
+public class LocalCache<K, V> {
+
+    private final int maxEntries;
+    private final long ttlNanos;
+    private final ReentrantLock lock = new ReentrantLock();
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+    private final LinkedHashMap<K, Entry<V>> entries;
+    // Guarded by lock; the token of the latest load of each key
+    private final Map<K, Object> pendingLoads = new HashMap<>();
+
+    /**
+     * Constructor with size bound and time-to-live.
+     *
+     * @param maxEntries Maximum number of entries
+     * @param ttl Time-to-live of an entry
+     */
+    public LocalCache(int maxEntries, Duration ttl) {
+        this.maxEntries = maxEntries;
+        this.ttlNanos = ttl.toNanos();
+        this.entries = new LinkedHashMap<>(16, 0.75f, true);
+    }
+
+    /**
+     * Get a cached value, loading and caching it on a miss.
+     *
+     * @param key Cache key
+     * @param loader Loads the value on a miss
+     * @return Cached or freshly loaded value
+     */
+    public V get(K key, Supplier<V> loader) {
+        V cached = getIfPresent(key);
+        if (cached != null) {
+            return cached;
+        }
+
+        Object token = new Object();
+        lock.lock();
+        try {
+            pendingLoads.put(key, token);
+        } finally {
+            lock.unlock();
+        }
+
+        V loaded = null;
+        try {
+            loaded = loader.get();
+            return loaded;
+        } finally {
+            lock.lock();
+            try {
+                // Only the latest load of a key that was not invalidated meanwhile may be stored
+                if (pendingLoads.remove(key, token) && loaded != null) {
+                    entries.put(key, new Entry<>(loaded, System.nanoTime() + ttlNanos));
+                    evictOverflow();
+                }
+            } finally {
+                lock.unlock();
+            }
+        }
+    }
+
+    /**
+     * Get a cached value without loading it.
+     *
+     * @param key Cache key
+     * @return Cached value, or null if absent or expired
+     */
+    public V getIfPresent(K key) {
+        lock.lock();
+        try {
+            Entry<V> entry = entries.get(key);
+            if (entry != null && entry.expiresAtNanos - System.nanoTime() > 0) {
+                hits.increment();
+                return entry.value;
+            }
+            if (entry != null) {
+                entries.remove(key);
+            }
+        } finally {
+            lock.unlock();
+        }
+        misses.increment();
+        return null;
+    }
+
+    /**
+     * Remove a key from the cache.
+     *
+     * @param key Cache key
+     */
+    public void invalidate(K key) {
+        lock.lock();
+        try {
+            pendingLoads.remove(key);
+            entries.remove(key);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Remove every entry matching a predicate.
+     * Runs under the cache lock, so the predicate must be cheap. Loads in
+     * progress have no value to test yet, so none of them is stored.
+     *
+     * @param predicate Tested with each key and value
+     * @return Number of removed entries
+     */
+    public int invalidateIf(BiPredicate<K, V> predicate) {
+        lock.lock();
+        try {
+            pendingLoads.clear();
+            int before = entries.size();
+            entries.entrySet().removeIf(entry -> predicate.test(entry.getKey(), entry.getValue().value));
+            return before - entries.size();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Remove every entry from the cache.
+     */
+    public void invalidateAll() {
+        lock.lock();
+        try {
+            pendingLoads.clear();
+            entries.clear();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Get the number of cached entries.
+     *
+     * @return Entry count
+     */
+    public int size() {
+        lock.lock();
+        try {
+            return entries.size();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Get the number of lookups answered from the cache.
+     *
+     * @return Hit count
+     */
+    public long hitCount() {
+        return hits.sum();
+    }
+
+    /**
+     * Get the number of lookups that missed the cache.
+     *
+     * @return Miss count
+     */
+    public long missCount() {
+        return misses.sum();
+    }
+
+    private void evictOverflow() {
+        Iterator<Map.Entry<K, Entry<V>>> iterator = entries.entrySet().iterator();
+        while (entries.size() > maxEntries && iterator.hasNext()) {
+            iterator.next();
+            iterator.remove();
+        }
+    }
+
+    private record Entry<V>(V value, long expiresAtNanos) {
+    }
+}
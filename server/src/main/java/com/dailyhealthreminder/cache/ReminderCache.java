@@ -0,0 +1,117 @@
+package com.dailyhealthreminder.cache;
+
+import com.dailyhealthreminder.entity.Reminder;
+import com.dailyhealthreminder.entity.User;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.function.Supplier;
+
+/**
+ * Per-user cache of reminder lists.
+ * Holds each user's full reminder list ordered by reminder time; the active
+ * and per-type views are derived from it by the caller. Cached reminders
+ * reference their owner by ID only, so the user document and its password
+ * hash are never held here. Changes made on other instances only arrive
+ * through the invalidation bus, so without it lists live for the short
+ * unshared time-to-live.
+ *
+ * @author Daily Health Reminder Team
+ * @version 1.0
+ */
+@Component
+@Slf4j
+public class ReminderCache implements InvalidationListener {
+
+    private final LocalCache<String, List<Reminder>> cache;
+
+    /**
+     * Constructor with cache bounds.
+     *
+     * @param maxEntries Maximum number of cached users
+     * @param ttlMs Time-to-live of a cached list in milliseconds
+     * @param unsharedTtlMs Time-to-live in milliseconds when the invalidation bus is disabled
+     * @param invalidationEnabled Whether changes on other instances are broadcast
+     */
+    public ReminderCache(@Value("${cache.reminders.max-entries:10000}") int maxEntries,
+                         @Value("${cache.reminders.ttl-ms:600000}") long ttlMs,
+                         @Value("${cache.reminders.unshared-ttl-ms:5000}") long unsharedTtlMs,
+                         @Value("${cache.invalidation.enabled:false}") boolean invalidationEnabled) {
+        long effectiveTtlMs = invalidationEnabled ? ttlMs : Math.min(ttlMs, unsharedTtlMs);
+        this.cache = new LocalCache<>(maxEntries, Duration.ofMillis(effectiveTtlMs));
+    }
+
+    /**
+     * Get the reminders of a user, loading them on a miss.
+     *
+     * @param userId User ID
+     * @param loader Loads the reminders ordered by reminder time
+     * @return Unmodifiable list of reminders, each referencing its owner by ID only
+     */
+    public List<Reminder> getReminders(String userId, Supplier<List<Reminder>> loader) {
+        return cache.get(userId, () -> {
+            User owner = User.builder().id(userId).build();
+            return loader.get().stream()
+                    .map(reminder -> reminder.toBuilder().user(owner).build())
+                    .toList();
+        });
+    }
+
+    /**
+     * Drop the cached reminders of a user.
+     *
+     * @param userId User ID
+     */
+    public void invalidateUser(String userId) {
+        cache.invalidate(userId);
+    }
+
+    /**
+     * Drop the cached list that contains a reminder.
+     * Used when only the reminder ID is known, e.g. for deletes seen on a change stream.
+     *
+     * @param reminderId Reminder ID
+     */
+    public void invalidateReminder(String reminderId) {
+        cache.invalidateIf((userId, reminders) -> reminders.stream()
+                .anyMatch(reminder -> reminderId.equals(reminder.getId())));
+    }
+
+    /**
+     * Drop every cached reminder list.
+     */
+    public void invalidateAll() {
+        cache.invalidateAll();
+        log.debug("Reminder cache flushed");
+    }
+
+    @Override
+    public void onInvalidation(InvalidationEvent event) {
+        switch (event.type()) {
+            case REMINDER -> {
+                if (event.userId() != null) {
+                    invalidateUser(event.userId());
+                } else {
+                    invalidateReminder(event.entityId());
+                }
+            }
+            case USER -> invalidateUser(event.entityId());
+            case FLUSH_ALL -> invalidateAll();
+            default -> {
+                // Health logs are not part of the reminder lists
+            }
+        }
+    }
+
+    /**
+     * Get the number of cached users.
+     *
+     * @return Entry count
+     */
+    public int size() {
+        return cache.size();
+    }
+}
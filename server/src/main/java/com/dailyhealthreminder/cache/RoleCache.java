@@ -0,0 +1,195 @@
+package com.dailyhealthreminder.cache;
+
+import com.dailyhealthreminder.entity.Role;
+import com.dailyhealthreminder.repository.RoleRepository;
+import com.dailyhealthreminder.util.Constants;
+import com.mongodb.client.MongoCollection;
+import com.mongodb.client.model.CountOptions;
+import com.mongodb.client.model.Filters;
+import com.mongodb.client.model.ReplaceOptions;
+import com.mongodb.client.result.UpdateResult;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.bson.Document;
+import org.bson.conversions.Bson;
+import org.bson.types.ObjectId;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Date;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * In-memory copy of the roles reference collection.
+ * Loaded once at startup into an immutable map by name and replaced as a
+ * whole when roles change, so role lookups never query the database.
+ * Users store role names directly; user documents that still hold role
+ * references are rewritten to role names once, on the first startup after
+ * the change.
+ *
+ * @author Daily Health Reminder Team
+ * @version 1.0
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class RoleCache implements InvalidationListener {
+
+    private static final String USERS_COLLECTION = "users";
+    private static final String MIGRATIONS_COLLECTION = "migrations";
+    static final String ROLE_NAMES_MIGRATION = "user-role-names";
+    private static final int REPORTED_USERS = 10;
+
+    private final RoleRepository roleRepository;
+    private final MongoTemplate mongoTemplate;
+
+    private volatile Map<String, Role> rolesByName = Map.of();
+
+    /**
+     * Make sure the default role exists, load all roles and migrate users
+     * that still reference roles.
+     */
+    @PostConstruct
+    public void load() {
+        ensureRole(Constants.DEFAULT_ROLE);
+        refresh();
+        migrateUserRoles();
+    }
+
+    /**
+     * Reload all roles and swap in the new map.
+     */
+    @Scheduled(fixedDelayString = "${cache.roles.refresh-interval-ms:300000}")
+    public void refresh() {
+        try {
+            rolesByName = roleRepository.findAll().stream()
+                    .collect(Collectors.toUnmodifiableMap(Role::getName, Function.identity()));
+            log.debug("Loaded {} roles", rolesByName.size());
+        } catch (RuntimeException e) {
+            log.warn("Failed to refresh roles: {}", e.getMessage());
+        }
+    }
+
+    /**
+     * Get a role by name.
+     *
+     * @param name Role name
+     * @return Optional containing the role if it exists
+     */
+    public Optional<Role> getRole(String name) {
+        return Optional.ofNullable(rolesByName.get(name));
+    }
+
+    /**
+     * Get the role assigned to newly registered users.
+     *
+     * @return Default role
+     */
+    public Role getDefaultRole() {
+        return getRole(Constants.DEFAULT_ROLE)
+                .orElseThrow(() -> new IllegalStateException("Default role missing: " + Constants.DEFAULT_ROLE));
+    }
+
+    /**
+     * Get all roles.
+     *
+     * @return Unmodifiable collection of roles
+     */
+    public Collection<Role> getRoles() {
+        return rolesByName.values();
+    }
+
+    @Override
+    public void onInvalidation(InvalidationEvent event) {
+        if (event.type() == InvalidationEvent.Type.ROLE || event.type() == InvalidationEvent.Type.FLUSH_ALL) {
+            refresh();
+        }
+    }
+
+    private void ensureRole(String name) {
+        if (roleRepository.existsByName(name)) {
+            return;
+        }
+        try {
+            roleRepository.save(new Role(name));
+            log.info("Created role: {}", name);
+        } catch (DuplicateKeyException e) {
+            // Created concurrently by another instance
+        }
+    }
+
+    /**
+     * Rewrite users whose roles are still stored as references into role
+     * names, with one server-side update, unless a previous startup already
+     * completed the migration. References to roles that no longer exist are
+     * left in place and reported; such users cannot be read until they are
+     * fixed, and the migration runs again on the next startup.
+     */
+    void migrateUserRoles() {
+        MongoCollection<Document> migrations = mongoTemplate.getCollection(MIGRATIONS_COLLECTION);
+        if (migrations.countDocuments(Filters.eq("_id", ROLE_NAMES_MIGRATION), new CountOptions().limit(1)) > 0) {
+            return;
+        }
+
+        MongoCollection<Document> users = mongoTemplate.getCollection(USERS_COLLECTION);
+        Bson referencingRoles = Filters.exists("roles.$id");
+        if (!rolesByName.isEmpty()) {
+            UpdateResult result = users.updateMany(referencingRoles, List.of(
+                    new Document("$set", new Document("roles", roleNames(rolesByName.values())))));
+            if (result.getModifiedCount() > 0) {
+                log.info("Migrated roles of {} users to role names", result.getModifiedCount());
+            }
+        }
+
+        long unresolved = users.countDocuments(referencingRoles);
+        if (unresolved > 0) {
+            List<Object> examples = users.find(referencingRoles)
+                    .projection(new Document("_id", 1))
+                    .limit(REPORTED_USERS)
+                    .map(user -> user.get("_id"))
+                    .into(new ArrayList<>());
+            log.error("{} users reference roles that do not exist and cannot be loaded until fixed, e.g. {}",
+                    unresolved, examples);
+            return;
+        }
+        migrations.replaceOne(Filters.eq("_id", ROLE_NAMES_MIGRATION),
+                new Document("_id", ROLE_NAMES_MIGRATION).append("completedAt", new Date()),
+                new ReplaceOptions().upsert(true));
+    }
+
+    /**
+     * Expression mapping each element of a user's roles to the name of the
+     * role it references. Names and unknown references are kept as they are.
+     */
+    static Document roleNames(Collection<Role> roles) {
+        List<Document> branches = roles.stream()
+                .map(role -> new Document("case", new Document("$eq", List.of("$$roleId", roleId(role.getId()))))
+                        .append("then", role.getName()))
+                .toList();
+        // The else branch is null, which List.of rejects
+        Document roleId = new Document("$cond", Arrays.asList(
+                new Document("$eq", List.of(new Document("$type", "$$role"), "object")),
+                new Document("$getField", new Document("field", new Document("$literal", "$id"))
+                        .append("input", "$$role")),
+                null));
+        return new Document("$map", new Document("input", "$roles")
+                .append("as", "role")
+                .append("in", new Document("$let", new Document("vars", new Document("roleId", roleId))
+                        .append("in", new Document("$switch", new Document("branches", branches)
+                                .append("default", "$$role"))))));
+    }
+
+    private static Object roleId(String id) {
+        return ObjectId.isValid(id) ? new ObjectId(id) : id;
+    }
+}
@@ -0,0 +1,115 @@
+package com.dailyhealthreminder.config;
+
+import com.dailyhealthreminder.metrics.MongoMetricsListener;
+import com.dailyhealthreminder.metrics.SlowQueryRecorder;
+import com.mongodb.ConnectionString;
+import com.mongodb.MongoClientSettings;
+import com.mongodb.client.MongoClient;
+import com.mongodb.client.MongoClients;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.mongo.MongoConnectionDetails;
+import org.springframework.boot.autoconfigure.mongo.MongoProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.data.mongodb.MongoDatabaseFactory;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.SimpleMongoClientDatabaseFactory;
+import org.springframework.data.mongodb.core.convert.DefaultDbRefResolver;
+import org.springframework.data.mongodb.core.convert.MappingMongoConverter;
+import org.springframework.data.mongodb.core.convert.MongoConverter;
+import org.springframework.data.mongodb.core.convert.MongoCustomConversions;
+import org.springframework.data.mongodb.core.mapping.MongoMappingContext;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Analytics Mongo configuration class.
+ * Aggregations and exports scan far more data than the per-user reads and
+ * writes, so they use a second client with a small connection pool of
+ * their own. When analytics saturates its pool, its queries wait for a
+ * connection or fail, while reminder and health log requests keep the
+ * main pool.
+ *
+ * @author Daily Health Reminder Team
+ * @version 1.0
+ */
+@Configuration
+public class AnalyticsMongoConfig {
+
+    private MongoClient analyticsClient;
+
+    /**
+     * Configure the main template, as Spring Boot would; declared here
+     * because a second template makes Boot back off from its own.
+     *
+     * @param mongoDatabaseFactory Factory of the main client
+     * @param mongoConverter Converter of the main client
+     * @return MongoTemplate
+     */
+    @Bean
+    @Primary
+    public MongoTemplate mongoTemplate(MongoDatabaseFactory mongoDatabaseFactory, MongoConverter mongoConverter) {
+        return new MongoTemplate(mongoDatabaseFactory, mongoConverter);
+    }
+
+    /**
+     * Configure the template for analytics queries, on its own client and pool.
+     * The client is not a bean, so Spring Boot still creates the main one.
+     *
+     * @param connectionDetails Connection details of the main client
+     * @param properties Mongo properties, for the database name
+     * @param mappingContext Mapping context
+     * @param conversions Custom conversions
+     * @param meterRegistry Meter registry
+     * @param slowQueryRecorder Slow query recorder
+     * @param maxPoolSize Maximum connections of the analytics pool
+     * @param maxWaitMs Longest wait for an analytics connection in milliseconds
+     * @return MongoTemplate
+     */
+    @Bean
+    public MongoTemplate analyticsMongoTemplate(MongoConnectionDetails connectionDetails,
+                                                MongoProperties properties,
+                                                MongoMappingContext mappingContext,
+                                                MongoCustomConversions conversions,
+                                                MeterRegistry meterRegistry,
+                                                SlowQueryRecorder slowQueryRecorder,
+                                                @Value("${mongo.analytics-pool.max-size:10}") int maxPoolSize,
+                                                @Value("${mongo.analytics-pool.max-wait-ms:2000}") long maxWaitMs) {
+        ConnectionString connectionString = connectionDetails.getConnectionString();
+        MongoMetricsListener listener = new MongoMetricsListener(meterRegistry, "analytics");
+        MongoClientSettings settings = MongoClientSettings.builder()
+                .applyConnectionString(connectionString)
+                .uuidRepresentation(properties.getUuidRepresentation())
+                .applicationName("daily-health-reminder-analytics")
+                .addCommandListener(listener)
+                .addCommandListener(slowQueryRecorder)
+                .applyToConnectionPoolSettings(pool -> pool
+                        .minSize(0)
+                        .maxSize(maxPoolSize)
+                        .maxWaitTime(maxWaitMs, TimeUnit.MILLISECONDS)
+                        .addConnectionPoolListener(listener))
+                .build();
+        analyticsClient = MongoClients.create(settings);
+
+        String database = properties.getDatabase() != null ? properties.getDatabase() : connectionString.getDatabase();
+        SimpleMongoClientDatabaseFactory factory = new SimpleMongoClientDatabaseFactory(analyticsClient, database);
+        MappingMongoConverter converter = new MappingMongoConverter(new DefaultDbRefResolver(factory), mappingContext);
+        converter.setCustomConversions(conversions);
+        converter.setCodecRegistryProvider(factory);
+        converter.afterPropertiesSet();
+        return new MongoTemplate(factory, converter);
+    }
+
+    /**
+     * Close the analytics client with the application context.
+     */
+    @PreDestroy
+    public void closeAnalyticsClient() {
+        if (analyticsClient != null) {
+            analyticsClient.close();
+        }
+    }
+}
@@ -0,0 +1,103 @@
+package com.dailyhealthreminder.config;
+
+import com.dailyhealthreminder.exception.ServiceUnavailableException;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.function.Supplier;
+
+/**
+ * Password encoder that runs the delegate's hashing and verification on a
+ * dedicated bounded executor.
+ * Request threads wait for the result; when the executor is saturated or the
+ * wait exceeds the limit the request fails fast with a 503 instead of
+ * competing with data endpoints for CPU.
+ *
+ * @author Daily Health Reminder Team
+ * @version 1.0
+ */
+public class BoundedPasswordEncoder implements PasswordEncoder {
+
+    private static final String BUSY_MESSAGE = "Authentication is busy, please retry shortly";
+
+    private static final String HASH_METRIC = "password.hash";
+    private static final String HASH_HELP = "Duration of password hashing and verification on the hashing executor";
+
+    private final PasswordEncoder delegate;
+    private final Executor executor;
+    private final long maxWaitMs;
+    private final Timer encodeTimer;
+    private final Timer matchesTimer;
+    private final Counter rejectedCounter;
+
+    /**
+     * Constructor with delegate, executor, wait limit and meter registry.
+     *
+     * @param delegate Encoder doing the actual hashing
+     * @param executor Bounded executor that rejects work when saturated
+     * @param maxWaitMs Maximum time a caller waits for a result in milliseconds
+     * @param meterRegistry Meter registry
+     */
+    public BoundedPasswordEncoder(PasswordEncoder delegate, Executor executor, long maxWaitMs,
+                                  MeterRegistry meterRegistry) {
+        this.delegate = delegate;
+        this.executor = executor;
+        this.maxWaitMs = maxWaitMs;
+        this.encodeTimer = Timer.builder(HASH_METRIC).description(HASH_HELP)
+                .tag("operation", "encode").register(meterRegistry);
+        this.matchesTimer = Timer.builder(HASH_METRIC).description(HASH_HELP)
+                .tag("operation", "matches").register(meterRegistry);
+        this.rejectedCounter = Counter.builder("password.hash.rejected")
+                .description("Password hashing requests rejected because the executor was saturated or too slow")
+                .register(meterRegistry);
+    }
+
+    @Override
+    public String encode(CharSequence rawPassword) {
+        return run(() -> encodeTimer.record(() -> delegate.encode(rawPassword)));
+    }
+
+    @Override
+    public boolean matches(CharSequence rawPassword, String encodedPassword) {
+        return run(() -> matchesTimer.record(() -> delegate.matches(rawPassword, encodedPassword)));
+    }
+
+    @Override
+    public boolean upgradeEncoding(String encodedPassword) {
+        return delegate.upgradeEncoding(encodedPassword);
+    }
+
+    private <T> T run(Supplier<T> task) {
+        CompletableFuture<T> future;
+        try {
+            future = CompletableFuture.supplyAsync(task, executor);
+        } catch (RejectedExecutionException e) {
+            rejectedCounter.increment();
+            throw new ServiceUnavailableException(BUSY_MESSAGE, e);
+        }
+
+        try {
+            return future.get(maxWaitMs, TimeUnit.MILLISECONDS);
+        } catch (TimeoutException e) {
+            future.cancel(false);
+            rejectedCounter.increment();
+            throw new ServiceUnavailableException(BUSY_MESSAGE, e);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new ServiceUnavailableException(BUSY_MESSAGE, e);
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof RuntimeException runtimeException) {
+                throw runtimeException;
+            }
+            throw new IllegalStateException(e.getCause());
+        }
+    }
+}
@@ -0,0 +1,53 @@
+package com.dailyhealthreminder.config;
+
+import com.dailyhealthreminder.bulkhead.Bulkhead;
+import com.dailyhealthreminder.bulkhead.BulkheadInterceptor;
+import com.dailyhealthreminder.bulkhead.BulkheadRegistry;
+import org.springframework.aop.Advisor;
+import org.springframework.aop.support.DefaultPointcutAdvisor;
+import org.springframework.aop.support.StaticMethodMatcherPointcut;
+import org.springframework.beans.factory.config.BeanDefinition;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Role;
+import org.springframework.core.annotation.AnnotatedElementUtils;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.lang.reflect.Method;
+
+/**
+ * Bulkhead configuration class.
+ * Runs controller methods annotated with {@link Bulkhead} on their
+ * workload's bounded executor, so a slow export or a burst of password
+ * checks cannot take the threads reminder and health log requests need.
+ *
+ * @author Daily Health Reminder Team
+ * @version 1.0
+ */
+@Configuration
+@ConditionalOnProperty(name = "bulkhead.enabled", havingValue = "true", matchIfMissing = true)
+public class BulkheadConfig {
+
+    /**
+     * Advise the {@link Bulkhead} methods of REST controllers. Registered
+     * as infrastructure so the auto-proxy creator applies it without
+     * AspectJ on the classpath; it runs after method security, so
+     * unauthorized calls are rejected before they queue.
+     *
+     * @param bulkheadRegistry Bulkheads of the workloads
+     * @return Advisor
+     */
+    @Bean
+    @Role(BeanDefinition.ROLE_INFRASTRUCTURE)
+    public Advisor bulkheadAdvisor(BulkheadRegistry bulkheadRegistry) {
+        StaticMethodMatcherPointcut pointcut = new StaticMethodMatcherPointcut() {
+            @Override
+            public boolean matches(Method method, Class<?> targetClass) {
+                return AnnotatedElementUtils.hasAnnotation(targetClass, RestController.class)
+                        && BulkheadInterceptor.workloadOf(method, targetClass) != null;
+            }
+        };
+        return new DefaultPointcutAdvisor(pointcut, new BulkheadInterceptor(bulkheadRegistry));
+    }
+}
@@ -0,0 +1,207 @@
+package com.dailyhealthreminder.config;
+
+import com.dailyhealthreminder.metrics.RequestTimings;
+import jakarta.annotation.PostConstruct;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnThreading;
+import org.springframework.boot.autoconfigure.thread.Threading;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.env.Environment;
+import org.springframework.core.task.SimpleAsyncTaskExecutor;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+
+import java.util.concurrent.ThreadPoolExecutor;
+
+/**
+ * Executor configuration class.
+ * Defines the bounded thread pools used for work that runs off the request thread.
+ * With {@code spring.threads.virtual.enabled} on Java 21+, Tomcat handles
+ * requests on virtual threads and the query fan-out follows; CPU-bound
+ * password hashing and the slow-query explainer stay on their small
+ * platform pools so they cannot monopolise the carrier threads. Code on
+ * the request path guards shared state with atomics and
+ * {@code java.util.concurrent} locks rather than {@code synchronized}, so
+ * a blocked virtual thread releases its carrier.
+ *
+ * @author Daily Health Reminder Team
+ * @version 1.0
+ */
+@Configuration
+@Slf4j
+public class ExecutorConfig {
+
+    private final Environment environment;
+
+    @Value("${executor.query.core-size:8}")
+    private int queryCoreSize;
+
+    @Value("${executor.query.max-size:16}")
+    private int queryMaxSize;
+
+    @Value("${executor.query.queue-capacity:200}")
+    private int queryQueueCapacity;
+
+    @Value("${executor.query.virtual-concurrency-limit:256}")
+    private int queryVirtualConcurrencyLimit;
+
+    @Value("${executor.streaming.pool-size:8}")
+    private int streamingPoolSize;
+
+    @Value("${executor.streaming.queue-capacity:16}")
+    private int streamingQueueCapacity;
+
+    @Value("${executor.streaming.virtual-concurrency-limit:1000}")
+    private int streamingVirtualConcurrencyLimit;
+
+    @Value("${executor.password-hashing.pool-size:2}")
+    private int passwordHashingPoolSize;
+
+    @Value("${executor.password-hashing.queue-capacity:32}")
+    private int passwordHashingQueueCapacity;
+
+    @Value("${executor.slow-queries.queue-capacity:100}")
+    private int slowQueryQueueCapacity;
+
+    /**
+     * Constructor with environment.
+     *
+     * @param environment Environment, to resolve the threading mode
+     */
+    public ExecutorConfig(Environment environment) {
+        this.environment = environment;
+    }
+
+    /**
+     * Report the threading mode, and that virtual threads were requested
+     * but are unavailable when running on Java 17.
+     */
+    @PostConstruct
+    public void logThreadingMode() {
+        boolean requested = environment.getProperty("spring.threads.virtual.enabled", Boolean.class, false);
+        if (Threading.VIRTUAL.isActive(environment)) {
+            log.info("Requests and query fan-out run on virtual threads");
+        } else if (requested) {
+            log.warn("Virtual threads requested but Java {} does not support them, using platform threads",
+                    Runtime.version().feature());
+        }
+    }
+
+    /**
+     * Configure the executor used to fan out independent Mongo queries.
+     * When saturated further queries are rejected rather than run on the
+     * request thread, where they would escape the dashboard timeout.
+     * Queries count towards the timings of the request that submitted them.
+     *
+     * @return ThreadPoolTaskExecutor
+     */
+    @Bean
+    @ConditionalOnThreading(Threading.PLATFORM)
+    public ThreadPoolTaskExecutor queryExecutor() {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(queryCoreSize);
+        executor.setMaxPoolSize(queryMaxSize);
+        executor.setQueueCapacity(queryQueueCapacity);
+        executor.setThreadNamePrefix("query-");
+        executor.setRejectedExecutionHandler(new ThreadPoolExecutor.AbortPolicy());
+        executor.setTaskDecorator(RequestTimings::propagate);
+        executor.setWaitForTasksToCompleteOnShutdown(true);
+        executor.initialize();
+        return executor;
+    }
+
+    /**
+     * Configure the query fan-out on virtual threads, one per query. The
+     * concurrency limit replaces the pool size as the cap on queries in
+     * flight, so a burst blocks the submitting requests rather than
+     * flooding the Mongo connection pool.
+     *
+     * @return SimpleAsyncTaskExecutor
+     */
+    @Bean("queryExecutor")
+    @ConditionalOnThreading(Threading.VIRTUAL)
+    public SimpleAsyncTaskExecutor virtualQueryExecutor() {
+        SimpleAsyncTaskExecutor executor = new SimpleAsyncTaskExecutor("query-");
+        executor.setVirtualThreads(true);
+        executor.setConcurrencyLimit(queryVirtualConcurrencyLimit);
+        executor.setTaskDecorator(RequestTimings::propagate);
+        executor.setTaskTerminationTimeout(5000);
+        return executor;
+    }
+
+    /**
+     * Configure the executor that writes streamed responses. Streams run
+     * off the Tomcat pool, so a slow client blocks a streaming thread rather
+     * than a request thread; when all are busy new streams are rejected.
+     *
+     * @return ThreadPoolTaskExecutor
+     */
+    @Bean
+    @ConditionalOnThreading(Threading.PLATFORM)
+    public ThreadPoolTaskExecutor streamingExecutor() {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(streamingPoolSize);
+        executor.setMaxPoolSize(streamingPoolSize);
+        executor.setQueueCapacity(streamingQueueCapacity);
+        executor.setThreadNamePrefix("streaming-");
+        executor.setRejectedExecutionHandler(new ThreadPoolExecutor.AbortPolicy());
+        executor.initialize();
+        return executor;
+    }
+
+    /**
+     * Configure streamed responses on virtual threads. A client reading
+     * slowly then only parks a virtual thread.
+     *
+     * @return SimpleAsyncTaskExecutor
+     */
+    @Bean("streamingExecutor")
+    @ConditionalOnThreading(Threading.VIRTUAL)
+    public SimpleAsyncTaskExecutor virtualStreamingExecutor() {
+        SimpleAsyncTaskExecutor executor = new SimpleAsyncTaskExecutor("streaming-");
+        executor.setVirtualThreads(true);
+        executor.setConcurrencyLimit(streamingVirtualConcurrencyLimit);
+        executor.setTaskTerminationTimeout(5000);
+        return executor;
+    }
+
+    /**
+     * Configure the executor that runs password hashing and verification.
+     * The pool is fixed and small so a login burst can only use a bounded
+     * share of the CPU; once the queue is full new work is rejected.
+     *
+     * @return ThreadPoolTaskExecutor
+     */
+    @Bean
+    public ThreadPoolTaskExecutor passwordHashingExecutor() {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(passwordHashingPoolSize);
+        executor.setMaxPoolSize(passwordHashingPoolSize);
+        executor.setQueueCapacity(passwordHashingQueueCapacity);
+        executor.setThreadNamePrefix("password-hashing-");
+        executor.setRejectedExecutionHandler(new ThreadPoolExecutor.AbortPolicy());
+        executor.initialize();
+        return executor;
+    }
+
+    /**
+     * Configure the executor that explains and stores slow queries.
+     * A single low-priority thread with a small queue; samples arriving
+     * while the queue is full are dropped.
+     *
+     * @return ThreadPoolTaskExecutor
+     */
+    @Bean
+    public ThreadPoolTaskExecutor slowQueryExecutor() {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(1);
+        executor.setMaxPoolSize(1);
+        executor.setQueueCapacity(slowQueryQueueCapacity);
+        executor.setThreadNamePrefix("slow-query-");
+        executor.setThreadPriority(Thread.MIN_PRIORITY);
+        executor.setRejectedExecutionHandler(new ThreadPoolExecutor.AbortPolicy());
+        executor.initialize();
+        return executor;
+    }
+}
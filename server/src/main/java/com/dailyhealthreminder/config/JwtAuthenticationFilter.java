@@ -1,7 +1,11 @@
 package com.dailyhealthreminder.config;
 
+import com.dailyhealthreminder.metrics.RequestTimings;
+import com.dailyhealthreminder.security.AccessTokenRevocationList;
+import com.dailyhealthreminder.security.AuthenticatedUser;
+import com.dailyhealthreminder.security.PrincipalCache;
 import com.dailyhealthreminder.service.JwtService;
-import com.dailyhealthreminder.service.UserService;
+import io.jsonwebtoken.Claims;
 import jakarta.servlet.FilterChain;
 import jakarta.servlet.ServletException;
 import jakarta.servlet.http.HttpServletRequest;
@@ -11,7 +15,6 @@ import lombok.extern.slf4j.Slf4j;
 import org.springframework.lang.NonNull;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
 import org.springframework.security.core.context.SecurityContextHolder;
-import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.security.web.authentication.WebAuthenticationDetailsSource;
 import org.springframework.stereotype.Component;
 import org.springframework.web.filter.OncePerRequestFilter;
@@ -31,7 +34,8 @@ import java.io.IOException;
 public class JwtAuthenticationFilter extends OncePerRequestFilter {
 
     private final JwtService jwtService;
-    private final UserService userService;
+    private final PrincipalCache principalCache;
+    private final AccessTokenRevocationList accessTokenRevocationList;
 
     /**
      * Filter requests to validate JWT tokens.
@@ -60,17 +64,25 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
         try {
             // Extract JWT token
             final String jwt = authHeader.substring(7);
-            final String userEmail = jwtService.extractUsername(jwt);
+            // Verify the signature once and read every claim from the result
+            final Claims claims = jwtService.parseClaims(jwt);
+            final String userEmail = claims.getSubject();
 
-            // Validate token and set authentication
-            if (userEmail != null && SecurityContextHolder.getContext().getAuthentication() == null) {
-                UserDetails userDetails = userService.loadUserByUsername(userEmail);
+            // Reject revoked tokens before loading the user
+            if (accessTokenRevocationList.isRevoked(claims.getId())
+                    || accessTokenRevocationList.isSessionRevoked(jwtService.extractSessionId(claims))) {
+                log.debug("Rejected revoked access token for user: {}", userEmail);
+            } else if (userEmail != null && SecurityContextHolder.getContext().getAuthentication() == null) {
+                // Validate token and set authentication
+                long resolveStart = System.nanoTime();
+                AuthenticatedUser principal = principalCache.getPrincipal(userEmail);
+                RequestTimings.record(RequestTimings.Phase.USER, System.nanoTime() - resolveStart);
 
-                if (jwtService.isTokenValid(jwt, userDetails)) {
+                if (jwtService.isTokenValid(claims, principal.getName())) {
                     UsernamePasswordAuthenticationToken authToken = new UsernamePasswordAuthenticationToken(
-                            userDetails,
+                            principal,
                             null,
-                            userDetails.getAuthorities()
+                            principal.authorities()
                     );
                     authToken.setDetails(new WebAuthenticationDetailsSource().buildDetails(request));
                     SecurityContextHolder.getContext().setAuthentication(authToken);
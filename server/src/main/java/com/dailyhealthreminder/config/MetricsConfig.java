@@ -0,0 +1,88 @@
+package com.dailyhealthreminder.config;
+
+import com.dailyhealthreminder.metrics.MongoMetricsListener;
+import com.dailyhealthreminder.metrics.SlowQueryRecorder;
+import com.dailyhealthreminder.metrics.Timed;
+import com.dailyhealthreminder.metrics.TimedJsonHttpMessageConverter;
+import com.dailyhealthreminder.metrics.TimedMethodInterceptor;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.aop.Advisor;
+import org.springframework.aop.support.DefaultPointcutAdvisor;
+import org.springframework.aop.support.StaticMethodMatcherPointcut;
+import org.springframework.beans.factory.config.BeanDefinition;
+import org.springframework.boot.autoconfigure.mongo.MongoClientSettingsBuilderCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Role;
+import org.springframework.core.annotation.AnnotatedElementUtils;
+import org.springframework.http.converter.HttpMessageConverter;
+import org.springframework.http.converter.json.MappingJackson2HttpMessageConverter;
+import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+import java.util.List;
+
+/**
+ * Metrics configuration class.
+ * Wires the Micrometer registry into the Mongo driver, into beans annotated
+ * with {@link Timed} and into JSON serialization.
+ *
+ * @author Daily Health Reminder Team
+ * @version 1.0
+ */
+@Configuration
+public class MetricsConfig implements WebMvcConfigurer {
+
+    /**
+     * Register the Mongo command and connection pool listener and the slow query recorder.
+     *
+     * @param meterRegistry Meter registry
+     * @param slowQueryRecorder Slow query recorder
+     * @return MongoClientSettingsBuilderCustomizer
+     */
+    @Bean
+    public MongoClientSettingsBuilderCustomizer mongoMetricsCustomizer(MeterRegistry meterRegistry,
+                                                                       SlowQueryRecorder slowQueryRecorder) {
+        MongoMetricsListener listener = new MongoMetricsListener(meterRegistry);
+        return builder -> builder
+                .addCommandListener(listener)
+                .addCommandListener(slowQueryRecorder)
+                .applyToConnectionPoolSettings(pool -> pool.addConnectionPoolListener(listener));
+    }
+
+    /**
+     * Time the public methods of beans annotated with {@link Timed}.
+     * Registered as infrastructure so the auto-proxy creator applies it
+     * without AspectJ on the classpath.
+     *
+     * @param meterRegistry Meter registry
+     * @return Advisor
+     */
+    @Bean
+    @Role(BeanDefinition.ROLE_INFRASTRUCTURE)
+    public Advisor timedMethodAdvisor(MeterRegistry meterRegistry) {
+        StaticMethodMatcherPointcut pointcut = new StaticMethodMatcherPointcut() {
+            @Override
+            public boolean matches(Method method, Class<?> targetClass) {
+                return Modifier.isPublic(method.getModifiers())
+                        && method.getDeclaringClass() != Object.class
+                        && AnnotatedElementUtils.hasAnnotation(targetClass, Timed.class);
+            }
+        };
+        return new DefaultPointcutAdvisor(pointcut, new TimedMethodInterceptor(meterRegistry));
+    }
+
+    /**
+     * Replace the JSON converter with one that measures serialization.
+     *
+     * @param converters Configured message converters
+     */
+    @Override
+    public void extendMessageConverters(List<HttpMessageConverter<?>> converters) {
+        converters.replaceAll(converter -> converter instanceof MappingJackson2HttpMessageConverter jackson
+                && !(converter instanceof TimedJsonHttpMessageConverter)
+                ? new TimedJsonHttpMessageConverter(jackson.getObjectMapper())
+                : converter);
+    }
+}
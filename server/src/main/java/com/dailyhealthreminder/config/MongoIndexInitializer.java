@@ -0,0 +1,79 @@
+package com.dailyhealthreminder.config;
+
+import com.dailyhealthreminder.entity.HealthLog;
+import com.dailyhealthreminder.entity.RateLimitWindow;
+import com.dailyhealthreminder.entity.RefreshToken;
+import com.dailyhealthreminder.entity.Reminder;
+import com.dailyhealthreminder.entity.RevokedAccessToken;
+import com.dailyhealthreminder.entity.Role;
+import com.dailyhealthreminder.entity.User;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.index.IndexDefinition;
+import org.springframework.data.mongodb.core.index.IndexOperations;
+import org.springframework.data.mongodb.core.index.MongoPersistentEntityIndexResolver;
+import org.springframework.data.mongodb.core.mapping.MongoMappingContext;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+
+/**
+ * Creates the indexes the application relies on at startup.
+ * Production runs with {@code auto-index-creation} disabled, but some
+ * indexes are part of the application's correctness: the unique email
+ * index is the only guard against duplicate registrations, the TTL indexes
+ * expire revoked access tokens, refresh tokens and rate limit windows, and
+ * the compound indexes keep the per-user queries off collection scans. The
+ * definitions are resolved from the entity annotations, so they cannot
+ * drift from the mapping; creating an index that already exists is a
+ * no-op. Startup fails if an index cannot be created.
+ *
+ * @author Daily Health Reminder Team
+ * @version 1.0
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class MongoIndexInitializer {
+
+    /**
+     * Entities whose annotated indexes are ensured.
+     */
+    private static final List<Class<?>> INDEXED_ENTITIES = List.of(
+            User.class,
+            Role.class,
+            Reminder.class,
+            HealthLog.class,
+            RefreshToken.class,
+            RevokedAccessToken.class,
+            RateLimitWindow.class);
+
+    private final MongoTemplate mongoTemplate;
+    private final MongoMappingContext mappingContext;
+
+    /**
+     * Ensure every annotated index of the indexed entities.
+     *
+     * @throws IllegalStateException if an index cannot be created
+     */
+    @PostConstruct
+    public void ensureIndexes() {
+        MongoPersistentEntityIndexResolver resolver = new MongoPersistentEntityIndexResolver(mappingContext);
+        int ensured = 0;
+        for (Class<?> entity : INDEXED_ENTITIES) {
+            IndexOperations indexOps = mongoTemplate.indexOps(entity);
+            for (IndexDefinition index : resolver.resolveIndexFor(entity)) {
+                try {
+                    indexOps.ensureIndex(index);
+                } catch (RuntimeException e) {
+                    throw new IllegalStateException("Failed to create index " + index.getIndexKeys()
+                            + " on " + entity.getSimpleName(), e);
+                }
+                ensured++;
+            }
+        }
+        log.info("Ensured {} indexes", ensured);
+    }
+}
@@ -1,8 +1,12 @@
 package com.dailyhealthreminder.config;
 
 import com.dailyhealthreminder.util.Constants;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.servlet.DispatcherType;
 import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.actuate.autoconfigure.security.servlet.EndpointRequest;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.security.authentication.AuthenticationManager;
@@ -25,6 +29,7 @@ import org.springframework.web.cors.UrlBasedCorsConfigurationSource;
 
 import java.util.Arrays;
 import java.util.List;
+import java.util.concurrent.Executor;
 
 /**
  * Security configuration class.
@@ -42,6 +47,16 @@ public class SecurityConfig {
     private final JwtAuthenticationFilter jwtAuthFilter;
     private final UserDetailsService userDetailsService;
 
+    @Qualifier("passwordHashingExecutor")
+    private final Executor passwordHashingExecutor;
+    private final MeterRegistry meterRegistry;
+
+    @Value("${security.password.bcrypt-strength:10}")
+    private int bcryptStrength;
+
+    @Value("${security.password.max-wait-ms:2000}")
+    private long passwordMaxWaitMs;
+
     @Value("${cors.allowed-origins}")
     private String allowedOrigins;
 
@@ -67,6 +82,10 @@ public class SecurityConfig {
                 .csrf(AbstractHttpConfigurer::disable)
                 .cors(cors -> cors.configurationSource(corsConfigurationSource()))
                 .authorizeHttpRequests(auth -> auth
+                        // Completion of a streamed response; the request itself was authorized
+                        .dispatcherTypeMatchers(DispatcherType.ASYNC).permitAll()
+                        // Served on the loopback-bound management port only
+                        .requestMatchers(EndpointRequest.toAnyEndpoint()).permitAll()
                         .requestMatchers(Constants.PUBLIC_URLS).permitAll()
                         .anyRequest().authenticated()
                 )
@@ -125,11 +144,14 @@ public class SecurityConfig {
 
     /**
      * Configure password encoder.
+     * BCrypt runs on the bounded password hashing executor so login and
+     * registration bursts cannot starve request threads.
      * 
      * @return PasswordEncoder
      */
     @Bean
     public PasswordEncoder passwordEncoder() {
-        return new BCryptPasswordEncoder();
+        return new BoundedPasswordEncoder(
+                new BCryptPasswordEncoder(bcryptStrength), passwordHashingExecutor, passwordMaxWaitMs, meterRegistry);
     }
 }
\ No newline at end of file
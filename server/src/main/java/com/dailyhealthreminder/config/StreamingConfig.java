@@ -0,0 +1,41 @@
+package com.dailyhealthreminder.config;
+
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.task.AsyncTaskExecutor;
+import org.springframework.web.servlet.config.annotation.AsyncSupportConfigurer;
+import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+
+/**
+ * Streaming configuration class.
+ * Runs streamed responses on the streaming executor instead of an
+ * unbounded default, with a timeout for clients that stop reading.
+ *
+ * @author Daily Health Reminder Team
+ * @version 1.0
+ */
+@Configuration
+public class StreamingConfig implements WebMvcConfigurer {
+
+    private final AsyncTaskExecutor streamingExecutor;
+    private final long timeoutMs;
+
+    /**
+     * Constructor with executor and timeout.
+     *
+     * @param streamingExecutor Executor writing streamed responses
+     * @param timeoutMs Maximum duration of a streamed response in milliseconds
+     */
+    public StreamingConfig(@Qualifier("streamingExecutor") AsyncTaskExecutor streamingExecutor,
+                           @Value("${streaming.timeout-ms:300000}") long timeoutMs) {
+        this.streamingExecutor = streamingExecutor;
+        this.timeoutMs = timeoutMs;
+    }
+
+    @Override
+    public void configureAsyncSupport(AsyncSupportConfigurer configurer) {
+        configurer.setTaskExecutor(streamingExecutor);
+        configurer.setDefaultTimeout(timeoutMs);
+    }
+}
@@ -0,0 +1,52 @@
+package com.dailyhealthreminder.controller;
+
+import com.dailyhealthreminder.bulkhead.Bulkhead;
+import com.dailyhealthreminder.bulkhead.Workload;
+import com.dailyhealthreminder.dto.response.ApiResponse;
+import com.dailyhealthreminder.dto.response.SlowQueryResponse;
+import com.dailyhealthreminder.service.SlowQueryService;
+import com.dailyhealthreminder.util.Constants;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.security.SecurityRequirement;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.web.bind.annotation.*;
+
+import java.util.List;
+
+/**
+ * REST controller for operational endpoints.
+ * Restricted to administrators.
+ *
+ * @author Daily Health Reminder Team
+ * @version 1.0
+ */
+@RestController
+@RequestMapping(Constants.ADMIN_BASE_PATH)
+@Bulkhead(Workload.READ)
+@RequiredArgsConstructor
+@PreAuthorize("hasRole('ADMIN')")
+@SecurityRequirement(name = "Bearer Authentication")
+@Tag(name = "Admin", description = "Operational APIs for administrators")
+public class AdminController {
+
+    private final SlowQueryService slowQueryService;
+
+    /**
+     * Get the slowest query shapes ranked by total time.
+     *
+     * @param limit Maximum number of shapes
+     * @return List of slow query shapes
+     */
+    @GetMapping("/slow-queries")
+    @Operation(summary = "Get slow queries",
+               description = "Rank captured slow query shapes by total time, with their explain plan summary")
+    public ResponseEntity<ApiResponse<List<SlowQueryResponse>>> getSlowQueries(
+            @RequestParam(defaultValue = "20") int limit) {
+        List<SlowQueryResponse> slowQueries = slowQueryService.getTopSlowQueries(limit);
+        ApiResponse<List<SlowQueryResponse>> response = ApiResponse.success(Constants.SUCCESS, slowQueries);
+        return ResponseEntity.ok(response);
+    }
+}
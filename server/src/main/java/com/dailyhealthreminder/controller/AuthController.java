@@ -1,20 +1,28 @@
 package com.dailyhealthreminder.controller;
 
+import com.dailyhealthreminder.bulkhead.Bulkhead;
+import com.dailyhealthreminder.bulkhead.Workload;
 import com.dailyhealthreminder.dto.request.LoginRequest;
 import com.dailyhealthreminder.dto.request.RegisterRequest;
 import com.dailyhealthreminder.dto.response.ApiResponse;
 import com.dailyhealthreminder.dto.response.AuthResponse;
+import com.dailyhealthreminder.dto.response.SessionResponse;
 import com.dailyhealthreminder.service.AuthService;
 import com.dailyhealthreminder.util.Constants;
 import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.security.SecurityRequirement;
 import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.servlet.http.HttpServletRequest;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.core.Authentication;
 import org.springframework.web.bind.annotation.*;
 
+import java.util.List;
+
 /**
  * REST controller for authentication endpoints.
  * Handles user registration, login, token refresh, and logout.
@@ -48,12 +56,15 @@ public class AuthController {
      * Login user.
      * 
      * @param request Login request
+     * @param httpRequest HTTP request, used for the client address and user agent
      * @return Authentication response with tokens
      */
     @PostMapping("/login")
     @Operation(summary = "Login user", description = "Authenticate user and return JWT tokens")
-    public ResponseEntity<ApiResponse<AuthResponse>> login(@Valid @RequestBody LoginRequest request) {
-        AuthResponse authResponse = authService.login(request);
+    public ResponseEntity<ApiResponse<AuthResponse>> login(@Valid @RequestBody LoginRequest request,
+                                                           HttpServletRequest httpRequest) {
+        AuthResponse authResponse = authService.login(
+                request, httpRequest.getRemoteAddr(), httpRequest.getHeader(HttpHeaders.USER_AGENT));
         ApiResponse<AuthResponse> response = ApiResponse.success(Constants.SUCCESS, authResponse);
         return ResponseEntity.ok(response);
     }
@@ -65,6 +76,7 @@ public class AuthController {
      * @return Authentication response with new access token
      */
     @PostMapping("/refresh")
+    @Bulkhead(Workload.WRITE)
     @Operation(summary = "Refresh access token", description = "Get a new access token using refresh token")
     public ResponseEntity<ApiResponse<AuthResponse>> refreshToken(
             @RequestParam("refreshToken") String refreshToken) {
@@ -77,14 +89,59 @@ public class AuthController {
      * Logout user.
      * 
      * @param authentication Authentication object
+     * @param authorization Authorization header carrying the access token
      * @return Success response
      */
     @PostMapping("/logout")
-    @Operation(summary = "Logout user", description = "Revoke user's refresh token")
-    public ResponseEntity<ApiResponse<String>> logout(Authentication authentication) {
+    @Bulkhead(Workload.WRITE)
+    @Operation(summary = "Logout user", description = "Revoke user's refresh token and current access token")
+    public ResponseEntity<ApiResponse<String>> logout(
+            Authentication authentication,
+            @RequestHeader(Constants.AUTHORIZATION_HEADER) String authorization) {
         String email = authentication.getName();
-        authService.logout(email);
+        authService.logout(email, authorization.substring(Constants.BEARER_PREFIX.length()));
         ApiResponse<String> response = ApiResponse.success("Logged out successfully");
         return ResponseEntity.ok(response);
     }
-}
\ No newline at end of file
+
+    /**
+     * Get the active sessions of the current user.
+     * 
+     * @param authentication Authentication object
+     * @param authorization Authorization header carrying the access token
+     * @return List of sessions
+     */
+    @GetMapping("/sessions")
+    @Bulkhead(Workload.READ)
+    @SecurityRequirement(name = "Bearer Authentication")
+    @Operation(summary = "Get sessions", description = "List the devices the current user is signed in on")
+    public ResponseEntity<ApiResponse<List<SessionResponse>>> getSessions(
+            Authentication authentication,
+            @RequestHeader(Constants.AUTHORIZATION_HEADER) String authorization) {
+        String email = authentication.getName();
+        List<SessionResponse> sessions = authService.getSessions(
+                email, authorization.substring(Constants.BEARER_PREFIX.length()));
+        ApiResponse<List<SessionResponse>> response = ApiResponse.success(Constants.SUCCESS, sessions);
+        return ResponseEntity.ok(response);
+    }
+
+    /**
+     * Revoke a session of the current user.
+     * 
+     * @param authentication Authentication object
+     * @param sessionId Session ID
+     * @return Success response
+     */
+    @DeleteMapping("/sessions/{sessionId}")
+    @Bulkhead(Workload.WRITE)
+    @SecurityRequirement(name = "Bearer Authentication")
+    @Operation(summary = "Revoke session", description = "Sign the current user out of one device")
+    public ResponseEntity<ApiResponse<String>> revokeSession(
+            Authentication authentication,
+            @PathVariable String sessionId) {
+        String email = authentication.getName();
+        authService.revokeSession(email, sessionId);
+        ApiResponse<String> response = ApiResponse.success("Session revoked successfully");
+        return ResponseEntity.ok(response);
+    }
+}
@@ -0,0 +1,49 @@
+package com.dailyhealthreminder.controller;
+
+import com.dailyhealthreminder.bulkhead.Bulkhead;
+import com.dailyhealthreminder.bulkhead.Workload;
+import com.dailyhealthreminder.dto.response.ApiResponse;
+import com.dailyhealthreminder.dto.response.DashboardResponse;
+import com.dailyhealthreminder.service.DashboardService;
+import com.dailyhealthreminder.util.Constants;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.security.SecurityRequirement;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.core.Authentication;
+import org.springframework.web.bind.annotation.*;
+
+/**
+ * REST controller for the dashboard summary endpoint.
+ * Returns everything the client dashboard needs in one call.
+ *
+ * @author Daily Health Reminder Team
+ * @version 1.0
+ */
+@RestController
+@RequestMapping(Constants.DASHBOARD_BASE_PATH)
+@Bulkhead(Workload.READ)
+@RequiredArgsConstructor
+@SecurityRequirement(name = "Bearer Authentication")
+@Tag(name = "Dashboard", description = "Dashboard summary APIs")
+public class DashboardController {
+
+    private final DashboardService dashboardService;
+
+    /**
+     * Get the dashboard summary for the current user.
+     *
+     * @param authentication Authentication object
+     * @return Dashboard summary
+     */
+    @GetMapping
+    @Operation(summary = "Get dashboard summary",
+               description = "Get profile, today's reminders, counts, latest values and a 7-day trend in one call")
+    public ResponseEntity<ApiResponse<DashboardResponse>> getDashboard(Authentication authentication) {
+        String email = authentication.getName();
+        DashboardResponse dashboardResponse = dashboardService.getDashboard(email);
+        ApiResponse<DashboardResponse> response = ApiResponse.success(Constants.SUCCESS, dashboardResponse);
+        return ResponseEntity.ok(response);
+    }
+}
@@ -1,5 +1,7 @@
 package com.dailyhealthreminder.controller;
 
+import com.dailyhealthreminder.bulkhead.Bulkhead;
+import com.dailyhealthreminder.bulkhead.Workload;
 import com.dailyhealthreminder.dto.request.HealthLogRequest;
 import com.dailyhealthreminder.dto.response.ApiResponse;
 import com.dailyhealthreminder.dto.response.HealthLogResponse;
@@ -19,6 +21,7 @@ import org.springframework.web.bind.annotation.*;
 
 import java.time.LocalDateTime;
 import java.util.List;
+import java.util.Map;
 
 /**
  * REST controller for health log management endpoints.
@@ -44,6 +47,7 @@ public class HealthLogController {
      * @return Created health log response
      */
     @PostMapping
+    @Bulkhead(Workload.WRITE)
     @Operation(summary = "Create health log", description = "Create a new health log entry")
     public ResponseEntity<ApiResponse<HealthLogResponse>> createHealthLog(
             Authentication authentication,
@@ -63,6 +67,7 @@ public class HealthLogController {
      * @return Page of health logs
      */
     @GetMapping
+    @Bulkhead(Workload.READ)
     @Operation(summary = "Get all health logs", description = "Get all health logs for the current user with pagination")
     public ResponseEntity<ApiResponse<Page<HealthLogResponse>>> getUserHealthLogs(
             Authentication authentication,
@@ -84,6 +89,7 @@ public class HealthLogController {
      * @return Page of health logs
      */
     @GetMapping("/type/{logType}")
+    @Bulkhead(Workload.READ)
     @Operation(summary = "Get health logs by type", description = "Get health logs filtered by type")
     public ResponseEntity<ApiResponse<Page<HealthLogResponse>>> getHealthLogsByType(
             Authentication authentication,
@@ -107,6 +113,7 @@ public class HealthLogController {
      * @return Page of health logs
      */
     @GetMapping("/date-range")
+    @Bulkhead(Workload.READ)
     @Operation(summary = "Get health logs by date range", description = "Get health logs within a date range")
     public ResponseEntity<ApiResponse<Page<HealthLogResponse>>> getHealthLogsByDateRange(
             Authentication authentication,
@@ -131,6 +138,7 @@ public class HealthLogController {
      * @return List of health logs
      */
     @GetMapping("/type/{logType}/date-range")
+    @Bulkhead(Workload.READ)
     @Operation(summary = "Get health logs by type and date range", 
                description = "Get health logs filtered by type and date range")
     public ResponseEntity<ApiResponse<List<HealthLogResponse>>> getHealthLogsByTypeAndDateRange(
@@ -145,6 +153,24 @@ public class HealthLogController {
         return ResponseEntity.ok(response);
     }
 
+    /**
+     * Get the latest health log of each type.
+     * 
+     * @param authentication Authentication object
+     * @return Latest health log per log type
+     */
+    @GetMapping("/latest")
+    @Bulkhead(Workload.READ)
+    @Operation(summary = "Get latest health logs", 
+               description = "Get the most recent health log of each type for the current user")
+    public ResponseEntity<ApiResponse<Map<String, HealthLogResponse>>> getLatestHealthLogs(
+            Authentication authentication) {
+        String email = authentication.getName();
+        Map<String, HealthLogResponse> healthLogs = healthLogService.getLatestHealthLogs(email);
+        ApiResponse<Map<String, HealthLogResponse>> response = ApiResponse.success(Constants.SUCCESS, healthLogs);
+        return ResponseEntity.ok(response);
+    }
+
     /**
      * Get health log by ID.
      * 
@@ -153,6 +179,7 @@ public class HealthLogController {
      * @return Health log response
      */
     @GetMapping("/{logId}")
+    @Bulkhead(Workload.READ)
     @Operation(summary = "Get health log by ID", description = "Get a specific health log by ID")
     public ResponseEntity<ApiResponse<HealthLogResponse>> getHealthLogById(
             Authentication authentication,
@@ -172,6 +199,7 @@ public class HealthLogController {
      * @return Updated health log response
      */
     @PutMapping("/{logId}")
+    @Bulkhead(Workload.WRITE)
     @Operation(summary = "Update health log", description = "Update an existing health log")
     public ResponseEntity<ApiResponse<HealthLogResponse>> updateHealthLog(
             Authentication authentication,
@@ -191,10 +219,11 @@ public class HealthLogController {
      * @return Success response
      */
     @DeleteMapping("/{logId}")
+    @Bulkhead(Workload.WRITE)
     @Operation(summary = "Delete health log", description = "Delete a health log")
     public ResponseEntity<ApiResponse<String>> deleteHealthLog(
             Authentication authentication,
-            @PathPath logId) {
+            @PathVariable String logId) {
         String email = authentication.getName();
         healthLogService.deleteHealthLog(email, logId);
         ApiResponse<String> response = ApiResponse.success(Constants.DELETED);
@@ -208,6 +237,7 @@ public class HealthLogController {
      * @return Health log count
      */
     @GetMapping("/count")
+    @Bulkhead(Workload.READ)
     @Operation(summary = "Get health log count", description = "Get total count of user's health logs")
     public ResponseEntity<ApiResponse<Long>> getHealthLogCount(Authentication authentication) {
         String email = authentication.getName();
@@ -224,6 +254,7 @@ public class HealthLogController {
      * @return Health log count
      */
     @GetMapping("/count/type/{logType}")
+    @Bulkhead(Workload.READ)
     @Operation(summary = "Get health log count by type", 
                description = "Get count of user's health logs by type")
     public ResponseEntity<ApiResponse<Long>> getHealthLogCountByType(
@@ -0,0 +1,102 @@
+package com.dailyhealthreminder.controller;
+
+import com.dailyhealthreminder.bulkhead.Bulkhead;
+import com.dailyhealthreminder.bulkhead.Workload;
+import com.dailyhealthreminder.service.HealthLogService;
+import com.dailyhealthreminder.util.Constants;
+import com.dailyhealthreminder.util.JsonStreamWriter;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.security.SecurityRequirement;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import lombok.RequiredArgsConstructor;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.core.Authentication;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestHeader;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import java.time.LocalDateTime;
+import java.util.function.Supplier;
+import java.util.stream.Stream;
+
+/**
+ * REST controller for streamed health log endpoints.
+ * Serves ranges too large to page through, written as they are read from
+ * the database cursor: as a JSON array or, when the client accepts
+ * {@code application/x-ndjson}, as one JSON object per line. The user is
+ * resolved before the response starts and the cursor is opened only once
+ * the body is written. Responses are not wrapped in {@code ApiResponse}, so
+ * clients can parse them incrementally.
+ *
+ * @author Daily Health Reminder Team
+ * @version 1.0
+ */
+@RestController
+@RequestMapping(Constants.HEALTH_LOG_BASE_PATH + "/stream")
+@Bulkhead(Workload.EXPORT)
+@RequiredArgsConstructor
+@SecurityRequirement(name = "Bearer Authentication")
+@Tag(name = "Health Log Stream", description = "Streamed health log export APIs")
+public class HealthLogStreamController {
+
+    private final HealthLogService healthLogService;
+    private final ObjectMapper objectMapper;
+
+    /**
+     * Stream health logs by date range, newest first.
+     *
+     * @param authentication Authentication object
+     * @param accept Accept header
+     * @param startDate Start date
+     * @param endDate End date
+     * @param logType Log type (optional)
+     * @return Streamed health logs
+     */
+    @GetMapping(produces = {MediaType.APPLICATION_JSON_VALUE, MediaType.APPLICATION_NDJSON_VALUE})
+    @Operation(summary = "Stream health logs",
+               description = "Stream all health logs within a date range as a JSON array or NDJSON")
+    public ResponseEntity<StreamingResponseBody> streamHealthLogs(
+            Authentication authentication,
+            @RequestHeader(value = HttpHeaders.ACCEPT, required = false) String accept,
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime startDate,
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime endDate,
+            @RequestParam(required = false) String logType) {
+        String email = authentication.getName();
+        return stream(accept, healthLogService.streamHealthLogs(email, logType, startDate, endDate));
+    }
+
+    /**
+     * Stream daily aggregates per log type by date range.
+     *
+     * @param authentication Authentication object
+     * @param accept Accept header
+     * @param startDate Start date (inclusive)
+     * @param endDate End date (exclusive)
+     * @return Streamed daily trend entries
+     */
+    @GetMapping(value = "/daily-trend", produces = {MediaType.APPLICATION_JSON_VALUE, MediaType.APPLICATION_NDJSON_VALUE})
+    @Operation(summary = "Stream daily trend",
+               description = "Stream daily aggregates per log type within a date range as a JSON array or NDJSON")
+    public ResponseEntity<StreamingResponseBody> streamDailyTrend(
+            Authentication authentication,
+            @RequestHeader(value = HttpHeaders.ACCEPT, required = false) String accept,
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime startDate,
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime endDate) {
+        String email = authentication.getName();
+        return stream(accept, healthLogService.streamDailyTrend(email, startDate, endDate));
+    }
+
+    private ResponseEntity<StreamingResponseBody> stream(String accept, Supplier<? extends Stream<?>> elements) {
+        boolean ndjson = accept != null && accept.contains(MediaType.APPLICATION_NDJSON_VALUE);
+        return ResponseEntity.ok()
+                .contentType(ndjson ? MediaType.APPLICATION_NDJSON : MediaType.APPLICATION_JSON)
+                .body(JsonStreamWriter.write(objectMapper, elements, ndjson));
+    }
+}
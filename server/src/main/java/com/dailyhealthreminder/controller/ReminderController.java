@@ -1,5 +1,7 @@
 package com.dailyhealthreminder.controller;
 
+import com.dailyhealthreminder.bulkhead.Bulkhead;
+import com.dailyhealthreminder.bulkhead.Workload;
 import com.dailyhealthreminder.dto.request.ReminderRequest;
 import com.dailyhealthreminder.dto.response.ApiResponse;
 import com.dailyhealthreminder.dto.response.ReminderResponse;
@@ -41,6 +43,7 @@ public class ReminderController {
      * @return Created reminder response
      */
     @PostMapping
+    @Bulkhead(Workload.WRITE)
     @Operation(summary = "Create reminder", description = "Create a new reminder for the user")
     public ResponseEntity<ApiResponse<ReminderResponse>> createReminder(
             Authentication authentication,
@@ -58,6 +61,7 @@ public class ReminderController {
      * @return List of reminders
      */
     @GetMapping
+    @Bulkhead(Workload.READ)
     @Operation(summary = "Get all reminders", description = "Get all reminders for the current user")
     public ResponseEntity<ApiResponse<List<ReminderResponse>>> getUserReminders(
             Authentication authentication) {
@@ -74,6 +78,7 @@ public class ReminderController {
      * @return List of active reminders
      */
     @GetMapping("/active")
+    @Bulkhead(Workload.READ)
     @Operation(summary = "Get active reminders", description = "Get all active reminders for the current user")
     public ResponseEntity<ApiResponse<List<ReminderResponse>>> getActiveReminders(
             Authentication authentication) {
@@ -91,6 +96,7 @@ public class ReminderController {
      * @return List of reminders
      */
     @GetMapping("/type/{reminderType}")
+    @Bulkhead(Workload.READ)
     @Operation(summary = "Get reminders by type", description = "Get reminders filtered by type")
     public ResponseEntity<ApiResponse<List<ReminderResponse>>> getRemindersByType(
             Authentication authentication,
@@ -109,6 +115,7 @@ public class ReminderController {
      * @return Reminder response
      */
     @GetMapping("/{reminderId}")
+    @Bulkhead(Workload.READ)
     @Operation(summary = "Get reminder by ID", description = "Get a specific reminder by ID")
     public ResponseEntity<ApiResponse<ReminderResponse>> getReminderById(
             Authentication authentication,
@@ -128,6 +135,7 @@ public class ReminderController {
      * @return Updated reminder response
      */
     @PutMapping("/{reminderId}")
+    @Bulkhead(Workload.WRITE)
     @Operation(summary = "Update reminder", description = "Update an existing reminder")
     public ResponseEntity<ApiResponse<ReminderResponse>> updateReminder(
             Authentication authentication,
@@ -147,6 +155,7 @@ public class ReminderController {
      * @return Updated reminder response
      */
     @PatchMapping("/{reminderId}/toggle")
+    @Bulkhead(Workload.WRITE)
     @Operation(summary = "Toggle reminder status", description = "Toggle reminder active/inactive status")
     public ResponseEntity<ApiResponse<ReminderResponse>> toggleReminderStatus(
             Authentication authentication,
@@ -165,6 +174,7 @@ public class ReminderController {
      * @return Success response
      */
     @DeleteMapping("/{reminderId}")
+    @Bulkhead(Workload.WRITE)
     @Operation(summary = "Delete reminder", description = "Delete a reminder")
     public ResponseEntity<ApiResponse<String>> deleteReminder(
             Authentication authentication,
@@ -182,6 +192,7 @@ public class ReminderController {
      * @return Reminder count
      */
     @GetMapping("/count")
+    @Bulkhead(Workload.READ)
     @Operation(summary = "Get reminder count", description = "Get total count of user's reminders")
     public ResponseEntity<ApiResponse<Long>> getReminderCount(Authentication authentication) {
         String email = authentication.getName();
@@ -1,5 +1,7 @@
 package com.dailyhealthreminder.controller;
 
+import com.dailyhealthreminder.bulkhead.Bulkhead;
+import com.dailyhealthreminder.bulkhead.Workload;
 import com.dailyhealthreminder.dto.response.ApiResponse;
 import com.dailyhealthreminder.dto.response.UserResponse;
 import com.dailyhealthreminder.service.UserService;
@@ -35,6 +37,7 @@ public class UserController {
      * @return User profile response
      */
     @GetMapping("/profile")
+    @Bulkhead(Workload.READ)
     @Operation(summary = "Get user profile", description = "Get current authenticated user's profile")
     public ResponseEntity<ApiResponse<UserResponse>> getUserProfile(Authentication authentication) {
         String email = authentication.getName();
@@ -50,6 +53,7 @@ public class UserController {
      * @return User response
      */
     @GetMapping("/{userId}")
+    @Bulkhead(Workload.READ)
     @Operation(summary = "Get user by ID", description = "Get user information by user ID")
     public ResponseEntity<ApiResponse<UserResponse>> getUserById(@PathVariable String userId) {
         UserResponse userResponse = userService.getUserById(userId);
@@ -67,6 +71,7 @@ public class UserController {
      * @return Updated user profile
      */
     @PutMapping("/profile")
+    @Bulkhead(Workload.WRITE)
     @Operation(summary = "Update user profile", description = "Update current user's profile information")
     public ResponseEntity<ApiResponse<UserResponse>> updateUserProfile(
             Authentication authentication,
@@ -87,6 +92,7 @@ public class UserController {
      * @return Updated user profile
      */
     @PatchMapping("/profile/picture")
+    @Bulkhead(Workload.WRITE)
     @Operation(summary = "Update profile picture", description = "Update user's profile picture URL")
     public ResponseEntity<ApiResponse<UserResponse>> updateProfilePicture(
             Authentication authentication,
@@ -104,6 +110,7 @@ public class UserController {
      * @return Success response
      */
     @DeleteMapping("/profile")
+    @Bulkhead(Workload.WRITE)
     @Operation(summary = "Delete user account", description = "Delete current user's account")
     public ResponseEntity<ApiResponse<String>> deleteUser(Authentication authentication) {
         String email = authentication.getName();
@@ -2,6 +2,7 @@ package com.dailyhealthreminder.dto.request;
 
 import jakarta.validation.constraints.Email;
 import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.Size;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Data;
@@ -32,4 +33,10 @@ public class LoginRequest {
      */
     @NotBlank(message = "Password is required")
     private String password;
+
+    /**
+     * Optional name of the device, shown in the session list.
+     */
+    @Size(max = 100, message = "Device name must not exceed 100 characters")
+    private String deviceName;
 }
\ No newline at end of file
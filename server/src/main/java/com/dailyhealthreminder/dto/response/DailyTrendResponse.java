@@ -0,0 +1,49 @@
+package com.dailyhealthreminder.dto.response;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDate;
+
+/**
+ * DTO for one day of a health log trend.
+ * Aggregates the logs of a single type on a single day.
+ *
+ * @author Daily Health Reminder Team
+ * @version 1.0
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public class DailyTrendResponse {
+
+    /**
+     * Day of the aggregated logs.
+     */
+    private LocalDate date;
+
+    /**
+     * Type of the aggregated logs.
+     */
+    private String logType;
+
+    /**
+     * Number of logs on that day.
+     */
+    private long count;
+
+    /**
+     * Sum of the log values.
+     */
+    private Double totalValue;
+
+    /**
+     * Average of the log values.
+     */
+    private Double averageValue;
+}
@@ -0,0 +1,71 @@
+package com.dailyhealthreminder.dto.response;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * DTO for the dashboard summary.
+ * Combines everything the client dashboard needs into a single payload.
+ *
+ * @author Daily Health Reminder Team
+ * @version 1.0
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public class DashboardResponse {
+
+    /**
+     * Date the summary was built for.
+     */
+    private LocalDate date;
+
+    /**
+     * Current user's profile.
+     */
+    private UserResponse profile;
+
+    /**
+     * Reminders firing today, ordered by reminder time.
+     */
+    private List<ReminderResponse> todayReminders;
+
+    /**
+     * Total number of reminders.
+     */
+    private long reminderCount;
+
+    /**
+     * Number of reminders per reminder type.
+     */
+    private Map<String, Long> reminderCountsByType;
+
+    /**
+     * Total number of health logs.
+     */
+    private long healthLogCount;
+
+    /**
+     * Number of health logs per log type.
+     */
+    private Map<String, Long> healthLogCountsByType;
+
+    /**
+     * Most recent health log per log type.
+     */
+    private Map<String, HealthLogResponse> latestHealthLogs;
+
+    /**
+     * Daily aggregates per log type over the last seven days.
+     */
+    private List<DailyTrendResponse> weeklyTrend;
+}
@@ -0,0 +1,62 @@
+package com.dailyhealthreminder.dto.response;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * DTO for a login session response.
+ * Describes one device the user is signed in on.
+ * 
+ * @author Daily Health Reminder Team
+ * @version 1.0
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class SessionResponse {
+
+    /**
+     * Session ID.
+     */
+    private String id;
+
+    /**
+     * Device name supplied at login.
+     */
+    private String deviceName;
+
+    /**
+     * User agent of the client at login.
+     */
+    private String userAgent;
+
+    /**
+     * IP address of the client at login.
+     */
+    private String ipAddress;
+
+    /**
+     * Timestamp when the session was created.
+     */
+    private LocalDateTime createdAt;
+
+    /**
+     * Timestamp when the session was last used.
+     */
+    private LocalDateTime lastUsedAt;
+
+    /**
+     * Expiry date and time of the session.
+     */
+    private LocalDateTime expiryDate;
+
+    /**
+     * Flag indicating if this is the session making the request.
+     */
+    private boolean current;
+}
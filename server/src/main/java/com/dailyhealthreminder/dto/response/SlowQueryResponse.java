@@ -0,0 +1,93 @@
+package com.dailyhealthreminder.dto.response;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * DTO for one slow query shape, aggregated over its captured samples.
+ *
+ * @author Daily Health Reminder Team
+ * @version 1.0
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public class SlowQueryResponse {
+
+    /**
+     * Shape of the command with all values replaced.
+     */
+    private String fingerprint;
+
+    /**
+     * Command name.
+     */
+    private String command;
+
+    /**
+     * Collection the command ran against.
+     */
+    private String collection;
+
+    /**
+     * Repository method and calling application method of the latest sample.
+     */
+    private String caller;
+
+    /**
+     * Number of captured samples.
+     */
+    private long count;
+
+    /**
+     * Total duration of all samples in milliseconds.
+     */
+    private double totalMs;
+
+    /**
+     * Average duration in milliseconds.
+     */
+    private double averageMs;
+
+    /**
+     * Longest duration in milliseconds.
+     */
+    private double maxMs;
+
+    /**
+     * Access type of the winning plan.
+     */
+    private String scanType;
+
+    /**
+     * Stages and indexes of the winning plan.
+     */
+    private String planSummary;
+
+    /**
+     * Documents examined by the explained query.
+     */
+    private Long docsExamined;
+
+    /**
+     * Index keys examined by the explained query.
+     */
+    private Long keysExamined;
+
+    /**
+     * Documents returned by the explained query.
+     */
+    private Long docsReturned;
+
+    /**
+     * Timestamp of the latest sample.
+     */
+    private LocalDateTime lastSeenAt;
+}
@@ -7,6 +7,7 @@ import lombok.NoArgsConstructor;
 import org.springframework.data.annotation.CreatedDate;
 import org.springframework.data.annotation.Id;
 import org.springframework.data.annotation.LastModifiedDate;
+import org.springframework.data.mongodb.core.index.CompoundIndex;
 import org.springframework.data.mongodb.core.mapping.DBRef;
 import org.springframework.data.mongodb.core.mapping.Document;
 
@@ -25,6 +26,8 @@ import java.util.Map;
 @AllArgsConstructor
 @Builder
 @Document(collection = "health_logs")
+@CompoundIndex(name = "user_logType_logDate_idx", def = "{'user': 1, 'logType': 1, 'logDate': -1}")
+@CompoundIndex(name = "user_logDate_idx", def = "{'user': 1, 'logDate': -1}")
 public class HealthLog {
 
     /**
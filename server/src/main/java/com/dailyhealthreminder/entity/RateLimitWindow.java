@@ -0,0 +1,44 @@
+package com.dailyhealthreminder.entity;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import org.springframework.data.annotation.Id;
+import org.springframework.data.mongodb.core.index.Indexed;
+import org.springframework.data.mongodb.core.mapping.Document;
+
+import java.util.Date;
+
+/**
+ * Entity class counting attempts for one rate limit key in one fixed window.
+ * Shared by all instances so limits hold across nodes; documents expire
+ * through a TTL index once the window has passed.
+ *
+ * @author Daily Health Reminder Team
+ * @version 1.0
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+@Document(collection = "rate_limit_windows")
+public class RateLimitWindow {
+
+    /**
+     * Rate limit key followed by the window start.
+     */
+    @Id
+    private String id;
+
+    /**
+     * Number of attempts counted in the window.
+     */
+    private long count;
+
+    /**
+     * When the window ends and the document may be removed.
+     */
+    @Indexed(expireAfterSeconds = 0)
+    private Date expiresAt;
+}
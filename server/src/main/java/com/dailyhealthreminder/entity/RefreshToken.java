@@ -6,6 +6,7 @@ import lombok.Data;
 import lombok.NoArgsConstructor;
 import org.springframework.data.annotation.CreatedDate;
 import org.springframework.data.annotation.Id;
+import org.springframework.data.mongodb.core.index.CompoundIndex;
 import org.springframework.data.mongodb.core.mapping.DBRef;
 import org.springframework.data.mongodb.core.mapping.Document;
 import org.springframework.data.mongodb.core.index.Indexed;
@@ -15,6 +16,7 @@ import java.time.LocalDateTime;
 /**
  * Entity class representing a refresh token.
  * Refresh tokens are used to obtain new access tokens without re-authentication.
+ * Each token is one login session of a user on one device.
  * 
  * @author Daily Health Reminder Team
  * @version 1.0
@@ -22,8 +24,9 @@ import java.time.LocalDateTime;
 @Data
 @NoArgsConstructor
 @AllArgsConstructor
-@Builder
+@Builder(toBuilder = true)
 @Document(collection = "refresh_tokens")
+@CompoundIndex(name = "user_expiryDate_idx", def = "{'user': 1, 'expiryDate': 1}")
 public class RefreshToken {
 
     /**
@@ -33,8 +36,8 @@ public class RefreshToken {
     private String id;
 
     /**
-     * The actual token string.
-     * Must be unique.
+     * SHA-256 hash of the token string, hex encoded.
+     * The token itself is only ever returned to the client. Must be unique.
      */
     @Indexed(unique = true)
     private String token;
@@ -57,6 +60,26 @@ public class RefreshToken {
     @CreatedDate
     private LocalDateTime createdAt;
 
+    /**
+     * Timestamp when the token was last used to refresh an access token.
+     */
+    private LocalDateTime lastUsedAt;
+
+    /**
+     * Device name supplied by the client at login.
+     */
+    private String deviceName;
+
+    /**
+     * User agent of the client at login.
+     */
+    private String userAgent;
+
+    /**
+     * IP address of the client at login.
+     */
+    private String ipAddress;
+
     /**
      * Flag indicating if the token has been revoked.
      */
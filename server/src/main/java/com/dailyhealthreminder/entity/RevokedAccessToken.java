@@ -0,0 +1,51 @@
+package com.dailyhealthreminder.entity;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import org.springframework.data.annotation.Id;
+import org.springframework.data.mongodb.core.index.Indexed;
+import org.springframework.data.mongodb.core.mapping.Document;
+
+import java.time.LocalDateTime;
+
+/**
+ * Entity class representing a revoked access token.
+ * Instances share revocations through this collection; a document expires
+ * together with the token it revokes.
+ *
+ * @author Daily Health Reminder Team
+ * @version 1.0
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+@Document(collection = "revoked_access_tokens")
+public class RevokedAccessToken {
+
+    /**
+     * Token ID (jti claim) of the revoked access token, or "sid:" followed
+     * by the session ID when all access tokens of a session are revoked.
+     */
+    @Id
+    private String id;
+
+    /**
+     * ID of the user the token was issued to.
+     */
+    private String userId;
+
+    /**
+     * Timestamp when the token was revoked, used by instances to poll for new revocations.
+     */
+    @Indexed
+    private LocalDateTime revokedAt;
+
+    /**
+     * Expiry date and time of the revoked token.
+     */
+    @Indexed(expireAfterSeconds = 0)
+    private LocalDateTime expiresAt;
+}
@@ -0,0 +1,87 @@
+package com.dailyhealthreminder.entity;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import org.springframework.data.annotation.Id;
+import org.springframework.data.mongodb.core.mapping.Document;
+
+import java.time.LocalDateTime;
+
+/**
+ * Entity class representing one sampled slow Mongo command.
+ * Stored in a capped collection, so the oldest samples are dropped once it
+ * is full; the plan fields come from an explain of the same query shape.
+ *
+ * @author Daily Health Reminder Team
+ * @version 1.0
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+@Document(collection = "slow_queries")
+public class SlowQuery {
+
+    /**
+     * Unique identifier for the sample.
+     */
+    @Id
+    private String id;
+
+    /**
+     * Shape of the command with all values replaced, identifying queries that differ only in their values.
+     */
+    private String fingerprint;
+
+    /**
+     * Command name (e.g., find, aggregate).
+     */
+    private String command;
+
+    /**
+     * Collection the command ran against.
+     */
+    private String collection;
+
+    /**
+     * Repository method that issued the command and the application method that called it.
+     */
+    private String caller;
+
+    /**
+     * Duration of the command in milliseconds.
+     */
+    private double durationMs;
+
+    /**
+     * Access type of the winning plan (e.g., COLLSCAN, IXSCAN).
+     */
+    private String scanType;
+
+    /**
+     * Stages and indexes of the winning plan.
+     */
+    private String planSummary;
+
+    /**
+     * Documents examined by the explained query.
+     */
+    private Long docsExamined;
+
+    /**
+     * Index keys examined by the explained query.
+     */
+    private Long keysExamined;
+
+    /**
+     * Documents returned by the explained query.
+     */
+    private Long docsReturned;
+
+    /**
+     * Timestamp when the command completed.
+     */
+    private LocalDateTime capturedAt;
+}
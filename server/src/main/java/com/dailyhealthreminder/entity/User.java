@@ -7,7 +7,6 @@ import lombok.NoArgsConstructor;
 import org.springframework.data.annotation.CreatedDate;
 import org.springframework.data.annotation.Id;
 import org.springframework.data.annotation.LastModifiedDate;
-import org.springframework.data.mongodb.core.mapping.DBRef;
 import org.springframework.data.mongodb.core.mapping.Document;
 import org.springframework.data.mongodb.core.index.Indexed;
 import org.springframework.security.core.GrantedAuthority;
@@ -60,6 +59,7 @@ public class User implements UserDetails {
     /**
      * User's phone number.
      */
+    @Indexed(sparse = true)
     private String phoneNumber;
 
     /**
@@ -90,11 +90,12 @@ public class User implements UserDetails {
     private boolean accountNonLocked = true;
 
     /**
-     * Set of roles assigned to the user.
+     * Names of the roles assigned to the user (e.g., ROLE_USER).
+     * Embedded by name so loading a user is a single document read; role
+     * details live in the roles reference collection.
      */
-    @DBRef
     @Builder.Default
-    private Set<Role> roles = new HashSet<>();
+    private Set<String> roles = new HashSet<>();
 
     /**
      * Timestamp when the user was created.
@@ -116,7 +117,7 @@ public class User implements UserDetails {
     @Override
     public Collection<? extends GrantedAuthority> getAuthorities() {
         return roles.stream()
-                .map(role -> new SimpleGrantedAuthority(role.getName()))
+                .map(SimpleGrantedAuthority::new)
                 .collect(Collectors.toList());
     }
 
@@ -0,0 +1,76 @@
+package com.dailyhealthreminder.entity;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import org.springframework.data.annotation.Id;
+import org.springframework.data.mongodb.core.mapping.Document;
+
+import java.time.LocalDateTime;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Entity class holding pre-aggregated counters for a single user.
+ * Maintained atomically with $inc on every create and delete so that
+ * count endpoints are a single point read instead of a collection scan.
+ *
+ * @author Daily Health Reminder Team
+ * @version 1.0
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+@Document(collection = "user_stats")
+public class UserStats {
+
+    /**
+     * Identifier of the user these counters belong to.
+     */
+    @Id
+    private String id;
+
+    /**
+     * Total number of health logs owned by the user.
+     */
+    @Builder.Default
+    private long healthLogCount = 0;
+
+    /**
+     * Number of health logs per log type.
+     * Keys are encoded by {@code UserStatsService} to be safe as field names.
+     */
+    @Builder.Default
+    private Map<String, Long> healthLogCountsByType = new HashMap<>();
+
+    /**
+     * Total number of reminders owned by the user.
+     */
+    @Builder.Default
+    private long reminderCount = 0;
+
+    /**
+     * Number of reminders per reminder type.
+     * Keys are encoded by {@code UserStatsService} to be safe as field names.
+     */
+    @Builder.Default
+    private Map<String, Long> reminderCountsByType = new HashMap<>();
+
+    /**
+     * Timestamp of the last counter update.
+     */
+    private LocalDateTime updatedAt;
+
+    /**
+     * Timestamp of the last reconciliation against the source collections.
+     */
+    private LocalDateTime reconciledAt;
+
+    /**
+     * Incremented by every counter update, so a reconciliation can tell
+     * whether the counters changed while it was counting.
+     */
+    private long version;
+}
@@ -4,6 +4,7 @@ import com.dailyhealthreminder.dto.response.ApiResponse;
 import io.jsonwebtoken.ExpiredJwtException;
 import io.jsonwebtoken.MalformedJwtException;
 import io.jsonwebtoken.security.SignatureException;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.authentication.BadCredentialsException;
@@ -16,6 +17,7 @@ import org.springframework.web.context.request.WebRequest;
 
 import java.util.HashMap;
 import java.util.Map;
+import java.util.concurrent.RejectedExecutionException;
 
 /**
  * Global exception handler for the application.
@@ -69,6 +71,51 @@ public class GlobalExceptionHandler {
         return new ResponseEntity<>(response, HttpStatus.UNAUTHORIZED);
     }
 
+    /**
+     * Handle ServiceUnavailableException.
+     *
+     * @param ex Exception
+     * @param request Web request
+     * @return Error response
+     */
+    @ExceptionHandler(ServiceUnavailableException.class)
+    public ResponseEntity<ApiResponse<Object>> handleServiceUnavailableException(
+            ServiceUnavailableException ex, WebRequest request) {
+        ApiResponse<Object> response = ApiResponse.error(ex.getMessage());
+        return new ResponseEntity<>(response, HttpStatus.SERVICE_UNAVAILABLE);
+    }
+
+    /**
+     * Handle work rejected by a full executor, e.g. a bulkhead whose queue is full.
+     *
+     * @param ex Exception
+     * @param request Web request
+     * @return Error response
+     */
+    @ExceptionHandler(RejectedExecutionException.class)
+    public ResponseEntity<ApiResponse<Object>> handleRejectedExecutionException(
+            RejectedExecutionException ex, WebRequest request) {
+        ApiResponse<Object> response = ApiResponse.error("Server is busy, please retry shortly");
+        return new ResponseEntity<>(response, HttpStatus.SERVICE_UNAVAILABLE);
+    }
+
+    /**
+     * Handle TooManyRequestsException.
+     *
+     * @param ex Exception
+     * @param request Web request
+     * @return Error response with a Retry-After header
+     */
+    @ExceptionHandler(TooManyRequestsException.class)
+    public ResponseEntity<ApiResponse<Object>> handleTooManyRequestsException(
+            TooManyRequestsException ex, WebRequest request) {
+        ApiResponse<Object> response = ApiResponse.error(ex.getMessage());
+        long retryAfterSeconds = Math.max(1, (ex.getRetryAfter().toMillis() + 999) / 1000);
+        return ResponseEntity.status(HttpStatus.TOO_MANY_REQUESTS)
+                .header(HttpHeaders.RETRY_AFTER, String.valueOf(retryAfterSeconds))
+                .body(response);
+    }
+
     /**
      * Handle validation errors.
      * 
@@ -0,0 +1,29 @@
+package com.dailyhealthreminder.exception;
+
+/**
+ * Exception thrown when the server is temporarily unable to handle a request.
+ *
+ * @author Daily Health Reminder Team
+ * @version 1.0
+ */
+public class ServiceUnavailableException extends RuntimeException {
+
+    /**
+     * Constructor with message.
+     *
+     * @param message Exception message
+     */
+    public ServiceUnavailableException(String message) {
+        super(message);
+    }
+
+    /**
+     * Constructor with message and cause.
+     *
+     * @param message Exception message
+     * @param cause Exception cause
+     */
+    public ServiceUnavailableException(String message, Throwable cause) {
+        super(message, cause);
+    }
+}
@@ -0,0 +1,34 @@
+package com.dailyhealthreminder.exception;
+
+import java.time.Duration;
+
+/**
+ * Exception thrown when a client exceeds a rate limit.
+ *
+ * @author Daily Health Reminder Team
+ * @version 1.0
+ */
+public class TooManyRequestsException extends RuntimeException {
+
+    private final Duration retryAfter;
+
+    /**
+     * Constructor with message and retry delay.
+     *
+     * @param message Exception message
+     * @param retryAfter Time after which the client may retry
+     */
+    public TooManyRequestsException(String message, Duration retryAfter) {
+        super(message);
+        this.retryAfter = retryAfter;
+    }
+
+    /**
+     * Get the time after which the client may retry.
+     *
+     * @return Retry delay
+     */
+    public Duration getRetryAfter() {
+        return retryAfter;
+    }
+}
@@ -0,0 +1,280 @@
+package com.dailyhealthreminder.metrics;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordedFrame;
+import jdk.jfr.consumer.RecordingStream;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.ToDoubleFunction;
+
+/**
+ * In-process Flight Recorder consumer publishing rolling statistics.
+ * Streams the application's own events ({@link ServiceOperationEvent},
+ * {@link MongoCommandEvent}, {@link ReminderDispatchEvent}) together with
+ * GC pauses and sampled allocations, aggregates them over fixed windows and
+ * exposes the last complete window as {@code jfr.window.*} gauges, so a GC
+ * or allocation spike shows up next to the operations that ran in the same
+ * window. Virtual threads blocking while pinned to their carrier are
+ * counted and each new pinning site is logged once. The full events stay
+ * available to any other recording, e.g. a continuous
+ * {@code -XX:StartFlightRecording} dump for offline analysis.
+ * Enabled with {@code metrics.jfr.streaming.enabled}.
+ *
+ * @author Daily Health Reminder Team
+ * @version 1.0
+ */
+@Component
+@ConditionalOnProperty(name = "metrics.jfr.streaming.enabled", havingValue = "true")
+@Slf4j
+public class FlightRecorderStatistics implements SmartLifecycle {
+
+    private static final String GC_EVENT = "jdk.GarbageCollection";
+    private static final String ALLOCATION_EVENT = "jdk.ObjectAllocationSample";
+    /**
+     * Emitted on Java 21+ when a virtual thread blocks while pinned to its carrier.
+     */
+    private static final String PINNED_EVENT = "jdk.VirtualThreadPinned";
+    private static final int MAX_REPORTED_PIN_SITES = 100;
+
+    /**
+     * Statistics of one kind of event over a window.
+     *
+     * @param count Number of events
+     * @param totalNanos Sum of the event durations
+     * @param maxNanos Longest event duration
+     * @param documents Sum of the documents or reminders the events reported
+     */
+    public record OperationStats(long count, long totalNanos, long maxNanos, long documents) {
+
+        static final OperationStats EMPTY = new OperationStats(0, 0, 0, 0);
+
+        /**
+         * Mean event duration.
+         *
+         * @return Mean duration in nanoseconds, 0 without events
+         */
+        public double meanNanos() {
+            return count == 0 ? 0 : (double) totalNanos / count;
+        }
+    }
+
+    /**
+     * Key of the statistics: the event and what it was about, e.g. the
+     * service operation or the Mongo command and collection.
+     *
+     * @param event service_operation, mongo_command or reminder_dispatch
+     * @param name Operation within the event
+     */
+    public record OperationKey(String event, String name) {
+    }
+
+    /**
+     * Statistics of a complete window.
+     *
+     * @param start Start of the window
+     * @param length Length of the window
+     * @param operations Statistics per operation
+     * @param gcCount Garbage collections in the window
+     * @param gcPauseNanos Sum of GC pauses in the window
+     * @param allocatedBytes Estimated bytes allocated in the window, from allocation samples
+     * @param pinnedCount Virtual threads that blocked while pinned in the window
+     */
+    public record WindowSnapshot(Instant start, Duration length, Map<OperationKey, OperationStats> operations,
+                                 long gcCount, long gcPauseNanos, long allocatedBytes, long pinnedCount) {
+    }
+
+    private final MeterRegistry meterRegistry;
+    private final Duration window;
+    private final String allocationThrottle;
+    private final Set<OperationKey> registeredKeys = ConcurrentHashMap.newKeySet();
+
+    // Written only by the stream's dispatch thread
+    private final Set<String> reportedPinSites = new HashSet<>();
+    private final Map<OperationKey, Accumulator> accumulators = new HashMap<>();
+    private Instant windowStart = Instant.now();
+    private long gcCount;
+    private long gcPauseNanos;
+    private long allocatedBytes;
+    private long pinnedCount;
+
+    private volatile WindowSnapshot snapshot = new WindowSnapshot(Instant.now(), Duration.ZERO, Map.of(), 0, 0, 0, 0);
+    private volatile RecordingStream stream;
+
+    /**
+     * Constructor with window settings.
+     *
+     * @param meterRegistry Meter registry
+     * @param windowMs Length of a statistics window in milliseconds
+     * @param allocationThrottle Rate of allocation samples, e.g. "100/s"
+     */
+    public FlightRecorderStatistics(MeterRegistry meterRegistry,
+                                    @Value("${metrics.jfr.streaming.window-ms:10000}") long windowMs,
+                                    @Value("${metrics.jfr.streaming.allocation-throttle:100/s}") String allocationThrottle) {
+        this.meterRegistry = meterRegistry;
+        this.window = Duration.ofMillis(windowMs);
+        this.allocationThrottle = allocationThrottle;
+        Gauge.builder("jfr.window.gc.count", () -> snapshot.gcCount())
+                .description("Garbage collections in the last window")
+                .register(meterRegistry);
+        Gauge.builder("jfr.window.gc.pause", () -> snapshot.gcPauseNanos() / 1e9)
+                .description("Sum of GC pauses in the last window")
+                .baseUnit("seconds")
+                .register(meterRegistry);
+        Gauge.builder("jfr.window.allocated", () -> snapshot.allocatedBytes())
+                .description("Estimated bytes allocated in the last window")
+                .baseUnit("bytes")
+                .register(meterRegistry);
+        Gauge.builder("jfr.window.virtual.thread.pinned", () -> snapshot.pinnedCount())
+                .description("Virtual threads blocked while pinned in the last window")
+                .register(meterRegistry);
+    }
+
+    /**
+     * Statistics of the last complete window.
+     *
+     * @return Window snapshot
+     */
+    public WindowSnapshot snapshot() {
+        return snapshot;
+    }
+
+    @Override
+    public void start() {
+        RecordingStream recordingStream = new RecordingStream();
+        recordingStream.enable(ServiceOperationEvent.NAME);
+        recordingStream.enable(MongoCommandEvent.NAME);
+        recordingStream.enable(ReminderDispatchEvent.NAME);
+        recordingStream.enable(GC_EVENT);
+        recordingStream.enable(ALLOCATION_EVENT).with("throttle", allocationThrottle);
+        recordingStream.enable(PINNED_EVENT).withStackTrace();
+        recordingStream.setMaxAge(window.multipliedBy(2));
+
+        recordingStream.onEvent(ServiceOperationEvent.NAME, event -> add(
+                new OperationKey("service_operation", event.getString("operation")),
+                event, event.getInt("documentCount")));
+        recordingStream.onEvent(MongoCommandEvent.NAME, event -> add(
+                new OperationKey("mongo_command", event.getString("command") + " " + event.getString("collection")),
+                event, 0));
+        recordingStream.onEvent(ReminderDispatchEvent.NAME, event -> add(
+                new OperationKey("reminder_dispatch", "reminders_for_date"),
+                event, event.getInt("remindersDue")));
+        recordingStream.onEvent(GC_EVENT, event -> {
+            gcCount++;
+            gcPauseNanos += event.getDuration("sumOfPauses").toNanos();
+        });
+        recordingStream.onEvent(ALLOCATION_EVENT, event -> allocatedBytes += event.getLong("weight"));
+        recordingStream.onEvent(PINNED_EVENT, this::onPinned);
+        recordingStream.onFlush(this::rollIfDue);
+
+        recordingStream.startAsync();
+        stream = recordingStream;
+        log.info("Flight Recorder statistics published every {} ms", window.toMillis());
+    }
+
+    @Override
+    public void stop() {
+        RecordingStream recordingStream = stream;
+        if (recordingStream != null) {
+            recordingStream.close();
+            stream = null;
+        }
+    }
+
+    @Override
+    public boolean isRunning() {
+        return stream != null;
+    }
+
+    private void add(OperationKey key, RecordedEvent event, long documents) {
+        accumulators.computeIfAbsent(key, k -> new Accumulator()).add(event.getDuration().toNanos(), documents);
+    }
+
+    private void onPinned(RecordedEvent event) {
+        pinnedCount++;
+        if (event.getStackTrace() == null || reportedPinSites.size() >= MAX_REPORTED_PIN_SITES) {
+            return;
+        }
+        String site = event.getStackTrace().getFrames().stream()
+                .map(RecordedFrame::getMethod)
+                .filter(method -> !method.getType().getName().startsWith("java.")
+                        && !method.getType().getName().startsWith("jdk."))
+                .map(method -> method.getType().getName() + "." + method.getName())
+                .findFirst()
+                .orElse("unknown");
+        if (reportedPinSites.add(site)) {
+            log.warn("Virtual thread pinned for {} ms at {}", event.getDuration().toMillis(), site);
+        }
+    }
+
+    private void rollIfDue() {
+        Instant now = Instant.now();
+        if (Duration.between(windowStart, now).compareTo(window) < 0) {
+            return;
+        }
+        Map<OperationKey, OperationStats> operations = new HashMap<>();
+        accumulators.forEach((key, accumulator) -> operations.put(key, accumulator.toStats()));
+        snapshot = new WindowSnapshot(windowStart, Duration.between(windowStart, now), Map.copyOf(operations),
+                gcCount, gcPauseNanos, allocatedBytes, pinnedCount);
+        operations.keySet().forEach(this::registerGauges);
+
+        accumulators.clear();
+        gcCount = 0;
+        gcPauseNanos = 0;
+        allocatedBytes = 0;
+        pinnedCount = 0;
+        windowStart = now;
+    }
+
+    private void registerGauges(OperationKey key) {
+        if (!registeredKeys.add(key)) {
+            return;
+        }
+        gauge(key, "jfr.window.events", "Events in the last window", null, OperationStats::count);
+        gauge(key, "jfr.window.mean", "Mean event duration in the last window", "seconds",
+                stats -> stats.meanNanos() / 1e9);
+        gauge(key, "jfr.window.max", "Longest event in the last window", "seconds",
+                stats -> stats.maxNanos() / 1e9);
+        gauge(key, "jfr.window.documents", "Documents or reminders reported by events in the last window", null,
+                OperationStats::documents);
+    }
+
+    private void gauge(OperationKey key, String name, String help, String baseUnit,
+                       ToDoubleFunction<OperationStats> value) {
+        Gauge.builder(name, () -> value.applyAsDouble(snapshot.operations().getOrDefault(key, OperationStats.EMPTY)))
+                .description(help)
+                .baseUnit(baseUnit)
+                .tags("event", key.event(), "name", key.name())
+                .register(meterRegistry);
+    }
+
+    private static final class Accumulator {
+        private long count;
+        private long totalNanos;
+        private long maxNanos;
+        private long documents;
+
+        void add(long nanos, long documentCount) {
+            count++;
+            totalNanos += nanos;
+            maxNanos = Math.max(maxNanos, nanos);
+            documents += documentCount;
+        }
+
+        OperationStats toStats() {
+            return new OperationStats(count, totalNanos, maxNanos, documents);
+        }
+    }
+}
@@ -0,0 +1,35 @@
+package com.dailyhealthreminder.metrics;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * Flight Recorder event for a Mongo round trip, from the command being
+ * sent to its reply.
+ *
+ * @author Daily Health Reminder Team
+ * @version 1.0
+ */
+@Name(MongoCommandEvent.NAME)
+@Label("Mongo Command")
+@Category({"Daily Health Reminder", "Mongo"})
+@Description("Round trip of a Mongo command")
+@StackTrace(false)
+public class MongoCommandEvent extends Event {
+
+    public static final String NAME = "com.dailyhealthreminder.MongoCommand";
+
+    @Label("Command")
+    String command;
+
+    @Label("Collection")
+    String collection;
+
+    @Label("Status")
+    @Description("SUCCESS or FAILED")
+    String status;
+}
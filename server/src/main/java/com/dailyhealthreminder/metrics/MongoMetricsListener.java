@@ -0,0 +1,210 @@
+package com.dailyhealthreminder.metrics;
+
+import com.mongodb.connection.ServerId;
+import com.mongodb.event.CommandFailedEvent;
+import com.mongodb.event.CommandListener;
+import com.mongodb.event.CommandStartedEvent;
+import com.mongodb.event.CommandSucceededEvent;
+import com.mongodb.event.ConnectionCheckOutFailedEvent;
+import com.mongodb.event.ConnectionCheckOutStartedEvent;
+import com.mongodb.event.ConnectionCheckedInEvent;
+import com.mongodb.event.ConnectionCheckedOutEvent;
+import com.mongodb.event.ConnectionClosedEvent;
+import com.mongodb.event.ConnectionCreatedEvent;
+import com.mongodb.event.ConnectionPoolClosedEvent;
+import com.mongodb.event.ConnectionPoolCreatedEvent;
+import com.mongodb.event.ConnectionPoolListener;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.Meter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+import io.micrometer.core.instrument.Timer;
+import org.bson.BsonDocument;
+import org.bson.BsonValue;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Consumer;
+
+/**
+ * Mongo driver listener recording command latency per command and
+ * collection, and connection pool usage per client pool and server. Each
+ * round trip is also a {@link MongoCommandEvent} when Flight Recorder is
+ * recording.
+ *
+ * @author Daily Health Reminder Team
+ * @version 1.0
+ */
+public class MongoMetricsListener implements CommandListener, ConnectionPoolListener {
+
+    private static final String COMMAND_METRIC = "mongodb.driver.commands";
+    private static final String COMMAND_HELP = "Duration of Mongo commands";
+
+    /**
+     * Commands whose first field does not name a collection.
+     */
+    private static final Set<String> COLLECTION_FIELD_COMMANDS = Set.of("getMore");
+
+    private final MeterRegistry meterRegistry;
+    private final String pool;
+    private final Map<Integer, String> collectionByRequestId = new ConcurrentHashMap<>();
+    private final Map<Integer, MongoCommandEvent> eventByRequestId = new ConcurrentHashMap<>();
+    private final Map<ServerId, PoolStats> poolStats = new ConcurrentHashMap<>();
+
+    /**
+     * Constructor with registry, for the application's main client.
+     *
+     * @param meterRegistry Meter registry
+     */
+    public MongoMetricsListener(MeterRegistry meterRegistry) {
+        this(meterRegistry, "default");
+    }
+
+    /**
+     * Constructor with registry and the name of the client's pool, which
+     * tells apart the pools of clients connected to the same servers.
+     *
+     * @param meterRegistry Meter registry
+     * @param pool Name of the client's connection pool
+     */
+    public MongoMetricsListener(MeterRegistry meterRegistry, String pool) {
+        this.meterRegistry = meterRegistry;
+        this.pool = pool;
+    }
+
+    @Override
+    public void commandStarted(CommandStartedEvent event) {
+        collectionByRequestId.put(event.getRequestId(), collection(event.getCommandName(), event.getCommand()));
+        MongoCommandEvent flightRecorderEvent = new MongoCommandEvent();
+        if (flightRecorderEvent.isEnabled()) {
+            flightRecorderEvent.begin();
+            eventByRequestId.put(event.getRequestId(), flightRecorderEvent);
+        }
+    }
+
+    @Override
+    public void commandSucceeded(CommandSucceededEvent event) {
+        record(event.getRequestId(), event.getCommandName(), "SUCCESS", event.getElapsedTime(TimeUnit.NANOSECONDS));
+    }
+
+    @Override
+    public void commandFailed(CommandFailedEvent event) {
+        record(event.getRequestId(), event.getCommandName(), "FAILED", event.getElapsedTime(TimeUnit.NANOSECONDS));
+    }
+
+    @Override
+    public void connectionPoolCreated(ConnectionPoolCreatedEvent event) {
+        ServerId serverId = event.getServerId();
+        Tags tags = Tags.of("pool", pool, "server", server(serverId));
+        poolStats.computeIfAbsent(serverId, key -> {
+            PoolStats stats = new PoolStats();
+            stats.gauges = List.of(
+                    gauge("mongodb.driver.pool.size", "Open connections in the pool", stats.size, tags),
+                    gauge("mongodb.driver.pool.checkedout", "Connections checked out of the pool",
+                            stats.checkedOut, tags),
+                    gauge("mongodb.driver.pool.waitqueuesize", "Threads waiting for a connection",
+                            stats.waitQueue, tags));
+            return stats;
+        });
+    }
+
+    @Override
+    public void connectionPoolClosed(ConnectionPoolClosedEvent event) {
+        PoolStats stats = poolStats.remove(event.getServerId());
+        if (stats != null) {
+            stats.gauges.forEach(meterRegistry::remove);
+        }
+    }
+
+    @Override
+    public void connectionCreated(ConnectionCreatedEvent event) {
+        update(event.getConnectionId().getServerId(), stats -> stats.size.incrementAndGet());
+    }
+
+    @Override
+    public void connectionClosed(ConnectionClosedEvent event) {
+        update(event.getConnectionId().getServerId(), stats -> stats.size.decrementAndGet());
+    }
+
+    @Override
+    public void connectionCheckOutStarted(ConnectionCheckOutStartedEvent event) {
+        update(event.getServerId(), stats -> stats.waitQueue.incrementAndGet());
+    }
+
+    @Override
+    public void connectionCheckedOut(ConnectionCheckedOutEvent event) {
+        update(event.getConnectionId().getServerId(), stats -> {
+            stats.waitQueue.decrementAndGet();
+            stats.checkedOut.incrementAndGet();
+        });
+    }
+
+    @Override
+    public void connectionCheckOutFailed(ConnectionCheckOutFailedEvent event) {
+        update(event.getServerId(), stats -> stats.waitQueue.decrementAndGet());
+    }
+
+    @Override
+    public void connectionCheckedIn(ConnectionCheckedInEvent event) {
+        update(event.getConnectionId().getServerId(), stats -> stats.checkedOut.decrementAndGet());
+    }
+
+    private void record(int requestId, String commandName, String status, long nanos) {
+        String collection = collectionByRequestId.remove(requestId);
+        MongoCommandEvent flightRecorderEvent = eventByRequestId.remove(requestId);
+        if (flightRecorderEvent != null) {
+            flightRecorderEvent.end();
+            if (flightRecorderEvent.shouldCommit()) {
+                flightRecorderEvent.command = commandName;
+                flightRecorderEvent.collection = collection;
+                flightRecorderEvent.status = status;
+                flightRecorderEvent.commit();
+            }
+        }
+        RequestTimings.record(RequestTimings.Phase.DB, nanos);
+        Timer.builder(COMMAND_METRIC)
+                .description(COMMAND_HELP)
+                .tags("command", commandName,
+                        "collection", collection != null ? collection : "unknown",
+                        "status", status)
+                .register(meterRegistry)
+                .record(nanos, TimeUnit.NANOSECONDS);
+    }
+
+    private Meter gauge(String name, String help, AtomicInteger value, Tags tags) {
+        return Gauge.builder(name, value, AtomicInteger::get)
+                .description(help)
+                .tags(tags)
+                .strongReference(true)
+                .register(meterRegistry);
+    }
+
+    private void update(ServerId serverId, Consumer<PoolStats> update) {
+        PoolStats stats = poolStats.get(serverId);
+        if (stats != null) {
+            update.accept(stats);
+        }
+    }
+
+    private static String collection(String commandName, BsonDocument command) {
+        BsonValue value = COLLECTION_FIELD_COMMANDS.contains(commandName)
+                ? command.get("collection")
+                : command.get(commandName);
+        return value != null && value.isString() ? value.asString().getValue() : "none";
+    }
+
+    private static String server(ServerId serverId) {
+        return serverId.getAddress().toString();
+    }
+
+    private static final class PoolStats {
+        private final AtomicInteger size = new AtomicInteger();
+        private final AtomicInteger checkedOut = new AtomicInteger();
+        private final AtomicInteger waitQueue = new AtomicInteger();
+        private List<Meter> gauges = List.of();
+    }
+}
@@ -0,0 +1,128 @@
+package com.dailyhealthreminder.metrics;
+
+import org.bson.BsonArray;
+import org.bson.BsonDocument;
+import org.bson.BsonValue;
+
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * Summary of an explain result: how the winning plan accesses the
+ * collection and how much it read for what it returned.
+ * Parses the classic and slot-based plan formats, and aggregate explains
+ * where the query plan is nested under the first pipeline stage.
+ *
+ * @param scanType COLLSCAN, IXSCAN or the leaf stage of the plan
+ * @param summary Stages from root to leaf, with the indexes used
+ * @param docsExamined Documents examined, null without execution stats
+ * @param keysExamined Index keys examined, null without execution stats
+ * @param docsReturned Documents returned, null without execution stats
+ * @author Daily Health Reminder Team
+ * @version 1.0
+ */
+public record QueryPlan(String scanType, String summary, Long docsExamined, Long keysExamined, Long docsReturned) {
+
+    private static final String COLLSCAN = "COLLSCAN";
+    private static final String IXSCAN = "IXSCAN";
+
+    /**
+     * Summarise an explain result.
+     *
+     * @param explain Result of the explain command
+     * @return Plan summary
+     */
+    public static QueryPlan from(BsonDocument explain) {
+        BsonDocument queryPlanner = find(explain, "queryPlanner");
+        BsonDocument winningPlan = queryPlanner != null ? queryPlanner.getDocument("winningPlan", null) : null;
+
+        List<String> stages = new ArrayList<>();
+        Set<String> indexes = new LinkedHashSet<>();
+        if (winningPlan != null) {
+            collectStages(winningPlan, stages, indexes);
+        }
+
+        String scanType;
+        if (stages.contains(COLLSCAN)) {
+            scanType = COLLSCAN;
+        } else if (stages.stream().anyMatch(stage -> stage.contains(IXSCAN))) {
+            scanType = IXSCAN;
+        } else {
+            scanType = stages.isEmpty() ? "UNKNOWN" : stages.get(stages.size() - 1);
+        }
+
+        String summary = String.join(" <- ", stages);
+        if (!indexes.isEmpty()) {
+            summary += " " + indexes;
+        }
+
+        BsonDocument executionStats = find(explain, "executionStats");
+        return new QueryPlan(scanType, summary,
+                number(executionStats, "totalDocsExamined"),
+                number(executionStats, "totalKeysExamined"),
+                number(executionStats, "nReturned"));
+    }
+
+    private static void collectStages(BsonDocument plan, List<String> stages, Set<String> indexes) {
+        BsonValue stage = plan.get("stage");
+        if (stage != null && stage.isString()) {
+            stages.add(stage.asString().getValue());
+        }
+        BsonValue indexName = plan.get("indexName");
+        if (indexName != null && indexName.isString()) {
+            indexes.add(indexName.asString().getValue());
+        }
+        for (String child : List.of("queryPlan", "inputStage", "outerStage", "innerStage")) {
+            BsonValue value = plan.get(child);
+            if (value != null && value.isDocument()) {
+                collectStages(value.asDocument(), stages, indexes);
+            }
+        }
+        BsonValue inputStages = plan.get("inputStages");
+        if (inputStages != null && inputStages.isArray()) {
+            for (BsonValue input : inputStages.asArray()) {
+                if (input.isDocument()) {
+                    collectStages(input.asDocument(), stages, indexes);
+                }
+            }
+        }
+    }
+
+    /**
+     * Depth-first search for the first sub-document with the given field name.
+     */
+    private static BsonDocument find(BsonValue value, String field) {
+        if (value.isDocument()) {
+            BsonDocument document = value.asDocument();
+            BsonValue direct = document.get(field);
+            if (direct != null && direct.isDocument()) {
+                return direct.asDocument();
+            }
+            for (BsonValue child : document.values()) {
+                BsonDocument found = find(child, field);
+                if (found != null) {
+                    return found;
+                }
+            }
+        } else if (value.isArray()) {
+            BsonArray array = value.asArray();
+            for (BsonValue child : array) {
+                BsonDocument found = find(child, field);
+                if (found != null) {
+                    return found;
+                }
+            }
+        }
+        return null;
+    }
+
+    private static Long number(BsonDocument document, String field) {
+        if (document == null) {
+            return null;
+        }
+        BsonValue value = document.get(field);
+        return value != null && value.isNumber() ? value.asNumber().longValue() : null;
+    }
+}
@@ -0,0 +1,37 @@
+package com.dailyhealthreminder.metrics;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * Flight Recorder event for resolving the batch of reminders of a user
+ * that fire on a date.
+ *
+ * @author Daily Health Reminder Team
+ * @version 1.0
+ */
+@Name(ReminderDispatchEvent.NAME)
+@Label("Reminder Dispatch")
+@Category({"Daily Health Reminder", "Reminders"})
+@Description("Reminders of a user resolved for a date")
+@StackTrace(false)
+public class ReminderDispatchEvent extends Event {
+
+    public static final String NAME = "com.dailyhealthreminder.ReminderDispatch";
+
+    @Label("User ID Hash")
+    public long userIdHash;
+
+    @Label("Date")
+    public String date;
+
+    @Label("Reminders Considered")
+    public int remindersConsidered;
+
+    @Label("Reminders Due")
+    public int remindersDue;
+}
@@ -0,0 +1,97 @@
+package com.dailyhealthreminder.metrics;
+
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.lang.NonNull;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.servlet.HandlerMapping;
+
+import java.io.IOException;
+
+/**
+ * Binds {@link RequestTimings} to each request.
+ * JSON responses get their Server-Timing header from
+ * {@link TimedJsonHttpMessageConverter} just before the body is written;
+ * bodiless responses get it here. Requests over the query or latency
+ * threshold are logged with their full breakdown, which is how N+1 access
+ * patterns show up. Asynchronous requests keep their timings across
+ * dispatches and are reported on the dispatch that completes them.
+ *
+ * @author Daily Health Reminder Team
+ * @version 1.0
+ */
+@Component
+@Order(Ordered.HIGHEST_PRECEDENCE + 1)
+@ConditionalOnProperty(name = "metrics.request-timing.enabled", havingValue = "true", matchIfMissing = true)
+@Slf4j
+public class RequestTimingFilter extends OncePerRequestFilter {
+
+    static final String SERVER_TIMING_HEADER = "Server-Timing";
+    private static final String TIMINGS_ATTRIBUTE = RequestTimingFilter.class.getName() + ".timings";
+
+    private final boolean serverTimingHeader;
+    private final long logQueryThreshold;
+    private final long logSlowMs;
+
+    /**
+     * Constructor with thresholds.
+     *
+     * @param serverTimingHeader Whether to send the Server-Timing header
+     * @param logQueryThreshold Log requests issuing more Mongo commands than this
+     * @param logSlowMs Log requests slower than this in milliseconds
+     */
+    public RequestTimingFilter(@Value("${metrics.request-timing.server-timing-header:true}") boolean serverTimingHeader,
+                               @Value("${metrics.request-timing.log-query-threshold:5}") long logQueryThreshold,
+                               @Value("${metrics.request-timing.log-slow-ms:1000}") long logSlowMs) {
+        this.serverTimingHeader = serverTimingHeader;
+        this.logQueryThreshold = logQueryThreshold;
+        this.logSlowMs = logSlowMs;
+    }
+
+    @Override
+    protected void doFilterInternal(
+            @NonNull HttpServletRequest request,
+            @NonNull HttpServletResponse response,
+            @NonNull FilterChain filterChain) throws ServletException, IOException {
+        RequestTimings timings = request.getAttribute(TIMINGS_ATTRIBUTE) instanceof RequestTimings started
+                ? RequestTimings.resume(started)
+                : RequestTimings.start(serverTimingHeader);
+        try {
+            filterChain.doFilter(request, response);
+        } finally {
+            RequestTimings.clear();
+            if (request.isAsyncStarted()) {
+                request.setAttribute(TIMINGS_ATTRIBUTE, timings);
+            } else {
+                report(request, response, timings);
+            }
+        }
+    }
+
+    @Override
+    protected boolean shouldNotFilterAsyncDispatch() {
+        return false;
+    }
+
+    private void report(HttpServletRequest request, HttpServletResponse response, RequestTimings timings) {
+        if (serverTimingHeader && !response.isCommitted() && !response.containsHeader(SERVER_TIMING_HEADER)) {
+            response.setHeader(SERVER_TIMING_HEADER, timings.toServerTiming());
+        }
+        if (timings.count(RequestTimings.Phase.DB) > logQueryThreshold || timings.elapsedMillis() > logSlowMs) {
+            Object pattern = request.getAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE);
+            log.warn("request_timings method={} uri={} status={} {}",
+                    request.getMethod(),
+                    pattern != null ? pattern : request.getRequestURI(),
+                    response.getStatus(),
+                    timings.toLogFields());
+        }
+    }
+}
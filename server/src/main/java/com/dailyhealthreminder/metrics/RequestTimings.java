@@ -0,0 +1,204 @@
+package com.dailyhealthreminder.metrics;
+
+import java.util.Locale;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * Per-request breakdown of where time went: Mongo round trips, JWT
+ * verification, user resolution and JSON serialization.
+ * Bound to the request thread by {@link RequestTimingFilter} and carried
+ * to executor threads by {@link #propagate(Runnable)}; recording outside a
+ * request is a no-op. Counters are atomic because fanned-out queries
+ * record concurrently.
+ *
+ * @author Daily Health Reminder Team
+ * @version 1.0
+ */
+public final class RequestTimings {
+
+    /**
+     * Measured phases, named as they appear in the Server-Timing header.
+     */
+    public enum Phase {
+        DB("db"),
+        JWT("jwt"),
+        USER("user"),
+        SERIALIZATION("ser");
+
+        private final String metricName;
+
+        Phase(String metricName) {
+            this.metricName = metricName;
+        }
+    }
+
+    private static final ThreadLocal<RequestTimings> CURRENT = new ThreadLocal<>();
+    private static final int PHASES = Phase.values().length;
+
+    private final boolean serverTimingHeader;
+    private final long startNanos = System.nanoTime();
+    private final AtomicLongArray nanos = new AtomicLongArray(PHASES);
+    private final AtomicLongArray counts = new AtomicLongArray(PHASES);
+
+    private RequestTimings(boolean serverTimingHeader) {
+        this.serverTimingHeader = serverTimingHeader;
+    }
+
+    /**
+     * Start timing a request on the current thread.
+     *
+     * @param serverTimingHeader Whether the response should carry a Server-Timing header
+     * @return Timings of the request
+     */
+    static RequestTimings start(boolean serverTimingHeader) {
+        RequestTimings timings = new RequestTimings(serverTimingHeader);
+        CURRENT.set(timings);
+        return timings;
+    }
+
+    /**
+     * Continue timing a request on the current thread, e.g. on the
+     * dispatch that completes an asynchronous request.
+     *
+     * @param timings Timings started on an earlier dispatch
+     * @return The same timings
+     */
+    static RequestTimings resume(RequestTimings timings) {
+        CURRENT.set(timings);
+        return timings;
+    }
+
+    /**
+     * Stop timing on the current thread.
+     */
+    static void clear() {
+        CURRENT.remove();
+    }
+
+    /**
+     * Get the timings of the request running on the current thread.
+     *
+     * @return Timings, or null outside a request
+     */
+    public static RequestTimings current() {
+        return CURRENT.get();
+    }
+
+    /**
+     * Add a measured duration to the current request, if any.
+     *
+     * @param phase Phase the time was spent in
+     * @param durationNanos Duration in nanoseconds
+     */
+    public static void record(Phase phase, long durationNanos) {
+        RequestTimings timings = CURRENT.get();
+        if (timings != null) {
+            timings.nanos.addAndGet(phase.ordinal(), durationNanos);
+            timings.counts.incrementAndGet(phase.ordinal());
+        }
+    }
+
+    /**
+     * Wrap a task so it records into the timings of the submitting request.
+     * Used as the task decorator of executors that run work for a request.
+     *
+     * @param task Task to wrap
+     * @return Wrapped task
+     */
+    public static Runnable propagate(Runnable task) {
+        RequestTimings timings = CURRENT.get();
+        if (timings == null) {
+            return task;
+        }
+        return () -> {
+            RequestTimings previous = CURRENT.get();
+            CURRENT.set(timings);
+            try {
+                task.run();
+            } finally {
+                if (previous != null) {
+                    CURRENT.set(previous);
+                } else {
+                    CURRENT.remove();
+                }
+            }
+        };
+    }
+
+    /**
+     * Check whether the response should carry a Server-Timing header.
+     *
+     * @return true if the header is enabled
+     */
+    public boolean isServerTimingHeader() {
+        return serverTimingHeader;
+    }
+
+    /**
+     * Get the number of recorded operations in a phase, e.g. Mongo commands.
+     *
+     * @param phase Phase
+     * @return Count
+     */
+    public long count(Phase phase) {
+        return counts.get(phase.ordinal());
+    }
+
+    /**
+     * Get the time spent in a phase.
+     *
+     * @param phase Phase
+     * @return Duration in milliseconds
+     */
+    public double millis(Phase phase) {
+        return nanos.get(phase.ordinal()) / 1_000_000.0;
+    }
+
+    /**
+     * Get the time elapsed since the request started.
+     *
+     * @return Duration in milliseconds
+     */
+    public double elapsedMillis() {
+        return (System.nanoTime() - startNanos) / 1_000_000.0;
+    }
+
+    /**
+     * Render the timings as a Server-Timing header value.
+     *
+     * @return Header value, e.g. {@code db;dur=4.2;desc="3 queries", total;dur=9.8}
+     */
+    public String toServerTiming() {
+        StringBuilder header = new StringBuilder(128);
+        for (Phase phase : Phase.values()) {
+            if (count(phase) == 0) {
+                continue;
+            }
+            header.append(phase.metricName).append(";dur=").append(format(millis(phase)));
+            if (phase == Phase.DB) {
+                header.append(";desc=\"").append(count(phase)).append(" queries\"");
+            }
+            header.append(", ");
+        }
+        return header.append("total;dur=").append(format(elapsedMillis())).toString();
+    }
+
+    /**
+     * Render the timings as key=value pairs for a structured log line.
+     *
+     * @return Log fields
+     */
+    public String toLogFields() {
+        StringBuilder fields = new StringBuilder(128)
+                .append("total_ms=").append(format(elapsedMillis()))
+                .append(" db_queries=").append(count(Phase.DB));
+        for (Phase phase : Phase.values()) {
+            fields.append(' ').append(phase.metricName).append("_ms=").append(format(millis(phase)));
+        }
+        return fields.toString();
+    }
+
+    private static String format(double millis) {
+        return String.format(Locale.ROOT, "%.1f", millis);
+    }
+}
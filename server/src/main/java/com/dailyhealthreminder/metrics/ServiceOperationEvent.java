@@ -0,0 +1,56 @@
+package com.dailyhealthreminder.metrics;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * Flight Recorder event for a call to a {@link Timed} service method.
+ *
+ * @author Daily Health Reminder Team
+ * @version 1.0
+ */
+@Name(ServiceOperationEvent.NAME)
+@Label("Service Operation")
+@Category({"Daily Health Reminder", "Service"})
+@Description("Call to a service method")
+@StackTrace(false)
+public class ServiceOperationEvent extends Event {
+
+    public static final String NAME = "com.dailyhealthreminder.ServiceOperation";
+
+    @Label("Operation")
+    @Description("Service class and method")
+    String operation;
+
+    @Label("User ID Hash")
+    @Description("Hash of the authenticated user's ID, 0 when anonymous")
+    long userIdHash;
+
+    @Label("Document Count")
+    @Description("Elements in the returned collection or page, 1 for a single result")
+    int documentCount;
+
+    @Label("Exception")
+    @Description("Simple name of the exception thrown, if any")
+    String exception;
+
+    /**
+     * Hash a user ID so events can be correlated per user without recording the ID itself.
+     *
+     * @param userId User ID, may be null
+     * @return Mixed 64-bit hash, 0 for null
+     */
+    public static long hashUserId(String userId) {
+        if (userId == null) {
+            return 0;
+        }
+        long z = userId.hashCode() * 0x9e3779b97f4a7c15L;
+        z = (z ^ (z >>> 30)) * 0xbf58476d1ce4e5b9L;
+        z = (z ^ (z >>> 27)) * 0x94d049bb133111ebL;
+        return z ^ (z >>> 31);
+    }
+}
@@ -0,0 +1,366 @@
+package com.dailyhealthreminder.metrics;
+
+import com.dailyhealthreminder.cache.LocalCache;
+import com.dailyhealthreminder.entity.SlowQuery;
+import com.mongodb.event.CommandFailedEvent;
+import com.mongodb.event.CommandListener;
+import com.mongodb.event.CommandStartedEvent;
+import com.mongodb.event.CommandSucceededEvent;
+import lombok.extern.slf4j.Slf4j;
+import org.bson.BsonArray;
+import org.bson.BsonDocument;
+import org.bson.BsonString;
+import org.bson.BsonValue;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.mongodb.core.CollectionOptions;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Mongo command listener that captures slow queries.
+ * Commands slower than the threshold are handed to a background executor,
+ * which explains the same query shape (at most once per interval per
+ * shape) and stores the sample with its plan summary in the capped
+ * {@value #COLLECTION} collection. The request thread only pays for
+ * copying the shape of explainable commands and, for slow ones, one stack
+ * walk to find the calling repository method.
+ *
+ * @author Daily Health Reminder Team
+ * @version 1.0
+ */
+@Component
+@Slf4j
+public class SlowQueryRecorder implements CommandListener {
+
+    static final String COLLECTION = "slow_queries";
+
+    private static final String APPLICATION_PACKAGE = "com.dailyhealthreminder.";
+    private static final String REPOSITORY_PACKAGE = APPLICATION_PACKAGE + "repository.";
+    private static final String METRICS_PACKAGE = APPLICATION_PACKAGE + "metrics.";
+    private static final int MAX_CACHED_PLANS = 1000;
+
+    /**
+     * Explainable commands and the fields that make up their shape.
+     */
+    private static final Map<String, List<String>> SHAPE_FIELDS = Map.of(
+            "find", List.of("filter", "sort", "projection"),
+            "aggregate", List.of("pipeline"),
+            "count", List.of("query"),
+            "distinct", List.of("key", "query"),
+            "findAndModify", List.of("query", "sort"),
+            "update", List.of("updates"),
+            "delete", List.of("deletes"));
+
+    private static final Set<String> LITERAL_FIELDS = Set.of("sort", "projection", "key");
+
+    /**
+     * Options copied along with the shape fields, so that explain plans the
+     * command as the server did.
+     */
+    private static final List<String> OPTION_FIELDS = List.of(
+            "limit", "skip", "hint", "collation", "let", "cursor", "update", "remove", "new", "upsert");
+
+    /**
+     * Statement arrays of batched writes, of which only the first statement is copied.
+     */
+    private static final Set<String> STATEMENT_FIELDS = Set.of("updates", "deletes");
+
+    private final ObjectProvider<MongoTemplate> mongoTemplate;
+    private final Executor executor;
+    private final boolean enabled;
+    private final long thresholdNanos;
+    private final long cappedSizeBytes;
+
+    private final Map<Integer, BsonDocument> startedCommands = new ConcurrentHashMap<>();
+    private final LocalCache<String, Optional<QueryPlan>> plansByFingerprint;
+    private volatile boolean collectionReady;
+
+    /**
+     * Constructor with settings.
+     * The template is resolved lazily because this listener is part of the
+     * settings of the client the template is built on.
+     *
+     * @param mongoTemplate Mongo template provider
+     * @param executor Executor running explains and inserts
+     * @param enabled Whether slow queries are captured
+     * @param thresholdMs Commands slower than this are captured
+     * @param explainIntervalMs Minimum time between explains of the same shape
+     * @param cappedSizeBytes Size of the capped collection
+     */
+    public SlowQueryRecorder(ObjectProvider<MongoTemplate> mongoTemplate,
+                             @Qualifier("slowQueryExecutor") Executor executor,
+                             @Value("${metrics.slow-queries.enabled:true}") boolean enabled,
+                             @Value("${metrics.slow-queries.threshold-ms:100}") long thresholdMs,
+                             @Value("${metrics.slow-queries.explain-interval-ms:300000}") long explainIntervalMs,
+                             @Value("${metrics.slow-queries.capped-size-bytes:16777216}") long cappedSizeBytes) {
+        this.mongoTemplate = mongoTemplate;
+        this.executor = executor;
+        this.enabled = enabled;
+        this.thresholdNanos = TimeUnit.MILLISECONDS.toNanos(thresholdMs);
+        this.cappedSizeBytes = cappedSizeBytes;
+        this.plansByFingerprint = new LocalCache<>(MAX_CACHED_PLANS, Duration.ofMillis(explainIntervalMs));
+    }
+
+    @Override
+    public void commandStarted(CommandStartedEvent event) {
+        if (!enabled || !SHAPE_FIELDS.containsKey(event.getCommandName())) {
+            return;
+        }
+        BsonValue collection = event.getCommand().get(event.getCommandName());
+        if (collection == null || !collection.isString() || COLLECTION.equals(collection.asString().getValue())) {
+            return;
+        }
+        // The event's document is only valid during the callback
+        startedCommands.put(event.getRequestId(), shapeOf(event.getCommandName(), event.getCommand()));
+    }
+
+    @Override
+    public void commandSucceeded(CommandSucceededEvent event) {
+        BsonDocument command = startedCommands.remove(event.getRequestId());
+        long nanos = event.getElapsedTime(TimeUnit.NANOSECONDS);
+        if (command == null || nanos < thresholdNanos) {
+            return;
+        }
+
+        String caller = findCaller();
+        LocalDateTime capturedAt = LocalDateTime.now();
+        try {
+            executor.execute(() -> capture(event.getDatabaseName(), event.getCommandName(), command,
+                    nanos / 1_000_000.0, caller, capturedAt));
+        } catch (RejectedExecutionException e) {
+            log.debug("Slow query capture queue full, dropping sample of {}", event.getCommandName());
+        }
+    }
+
+    @Override
+    public void commandFailed(CommandFailedEvent event) {
+        startedCommands.remove(event.getRequestId());
+    }
+
+    private void capture(String databaseName, String commandName, BsonDocument command,
+                         double durationMs, String caller, LocalDateTime capturedAt) {
+        try {
+            MongoTemplate template = mongoTemplate.getObject();
+            ensureCollection(template);
+
+            String fingerprint = fingerprint(commandName, command);
+            QueryPlan plan = plan(template, databaseName, fingerprint, command);
+            template.insert(SlowQuery.builder()
+                    .fingerprint(fingerprint)
+                    .command(commandName)
+                    .collection(command.getString(commandName).getValue())
+                    .caller(caller)
+                    .durationMs(durationMs)
+                    .scanType(plan != null ? plan.scanType() : null)
+                    .planSummary(plan != null ? plan.summary() : null)
+                    .docsExamined(plan != null ? plan.docsExamined() : null)
+                    .keysExamined(plan != null ? plan.keysExamined() : null)
+                    .docsReturned(plan != null ? plan.docsReturned() : null)
+                    .capturedAt(capturedAt)
+                    .build());
+        } catch (RuntimeException e) {
+            log.warn("Failed to capture slow {} command: {}", commandName, e.getMessage());
+        }
+    }
+
+    /**
+     * Explain a command, or reuse a recent plan of the same shape.
+     * A command that cannot be explained yields no plan; its sample is
+     * still recorded, and the failure is cached like a plan so the explain
+     * is not retried on every slow execution.
+     */
+    private QueryPlan plan(MongoTemplate template, String databaseName, String fingerprint, BsonDocument command) {
+        return plansByFingerprint.get(fingerprint, () -> {
+            try {
+                BsonDocument result = template.getMongoDatabaseFactory().getMongoDatabase(databaseName)
+                        .runCommand(new BsonDocument("explain", command)
+                                .append("verbosity", new BsonString("executionStats")), BsonDocument.class);
+                return Optional.of(QueryPlan.from(result));
+            } catch (RuntimeException e) {
+                log.debug("Failed to explain slow {}: {}", fingerprint, e.getMessage());
+                return Optional.empty();
+            }
+        }).orElse(null);
+    }
+
+    /**
+     * Copy what is needed to fingerprint and explain a command: the
+     * collection, the shape fields and the planning options. Only the first
+     * statement of a batched update or delete is kept, since the statements
+     * of a batch share their shape and explaining them all costs as much as
+     * the batch, and replacement documents are emptied, since they do not
+     * affect the plan. Session fields and write payloads are left behind.
+     *
+     * @param commandName Command name
+     * @param command Command document
+     * @return Copy of the command to explain
+     */
+    static BsonDocument shapeOf(String commandName, BsonDocument command) {
+        BsonDocument shape = new BsonDocument(commandName, command.get(commandName));
+        for (String field : SHAPE_FIELDS.get(commandName)) {
+            copyField(command, field, shape);
+        }
+        for (String field : OPTION_FIELDS) {
+            if (!field.equals(commandName)) {
+                copyField(command, field, shape);
+            }
+        }
+        return shape;
+    }
+
+    private static void copyField(BsonDocument command, String field, BsonDocument shape) {
+        BsonValue value = command.get(field);
+        if (value == null) {
+            return;
+        }
+        if (STATEMENT_FIELDS.contains(field) && value.isArray()) {
+            BsonArray statements = value.asArray();
+            BsonArray first = new BsonArray();
+            if (!statements.isEmpty()) {
+                BsonDocument statement = statements.get(0).asDocument();
+                BsonDocument firstStatement = new BsonDocument();
+                for (String key : statement.keySet()) {
+                    BsonValue part = statement.get(key);
+                    firstStatement.append(key, "u".equals(key) ? withoutPayload(part) : copy(part));
+                }
+                first.add(firstStatement);
+            }
+            shape.append(field, first);
+        } else if ("update".equals(field)) {
+            shape.append(field, withoutPayload(value));
+        } else {
+            shape.append(field, copy(value));
+        }
+    }
+
+    /**
+     * Empty a replacement document; update operators and pipelines are kept.
+     */
+    private static BsonValue withoutPayload(BsonValue update) {
+        if (update.isDocument() && !update.asDocument().isEmpty()
+                && !update.asDocument().getFirstKey().startsWith("$")) {
+            return new BsonDocument();
+        }
+        return copy(update);
+    }
+
+    /**
+     * Detach a value from the event's buffer; scalars are decoded on access.
+     */
+    private static BsonValue copy(BsonValue value) {
+        if (value.isDocument()) {
+            return value.asDocument().clone();
+        }
+        return value.isArray() ? value.asArray().clone() : value;
+    }
+
+    private void ensureCollection(MongoTemplate template) {
+        if (collectionReady) {
+            return;
+        }
+        if (!template.collectionExists(COLLECTION)) {
+            try {
+                template.createCollection(COLLECTION, CollectionOptions.empty().capped().size(cappedSizeBytes));
+            } catch (RuntimeException e) {
+                // Created concurrently by another instance
+                log.debug("Slow query collection not created: {}", e.getMessage());
+            }
+        }
+        collectionReady = true;
+    }
+
+    /**
+     * Build the shape of a command: the collection and the shape fields
+     * with every filter value replaced by "?", so the same query with
+     * different values maps to the same fingerprint. Sort, projection and
+     * distinct key are kept as they are, since they are part of the shape.
+     *
+     * @param commandName Command name
+     * @param command Command document
+     * @return Fingerprint
+     */
+    static String fingerprint(String commandName, BsonDocument command) {
+        StringBuilder fingerprint = new StringBuilder(commandName).append(' ')
+                .append(command.getString(commandName).getValue());
+        for (String field : SHAPE_FIELDS.get(commandName)) {
+            BsonValue value = command.get(field);
+            if (value != null) {
+                fingerprint.append(' ').append(field).append('=');
+                if (LITERAL_FIELDS.contains(field)) {
+                    fingerprint.append(value.isString() ? value.asString().getValue() : value.toString());
+                } else {
+                    appendShape(fingerprint, value);
+                }
+            }
+        }
+        return fingerprint.toString();
+    }
+
+    private static void appendShape(StringBuilder out, BsonValue value) {
+        if (value.isDocument()) {
+            out.append('{');
+            boolean first = true;
+            for (Map.Entry<String, BsonValue> entry : value.asDocument().entrySet()) {
+                if (!first) {
+                    out.append(',');
+                }
+                first = false;
+                out.append(entry.getKey()).append(':');
+                appendShape(out, entry.getValue());
+            }
+            out.append('}');
+        } else if (value.isArray()) {
+            // Only the first element counts, so $in lists of any length share a shape
+            out.append('[');
+            if (!value.asArray().isEmpty()) {
+                appendShape(out, value.asArray().get(0));
+            }
+            out.append(']');
+        } else {
+            out.append('?');
+        }
+    }
+
+    /**
+     * Find the repository method that issued the command and the
+     * application method that called the repository.
+     */
+    private static String findCaller() {
+        return StackWalker.getInstance(StackWalker.Option.RETAIN_CLASS_REFERENCE).walk(frames -> {
+            String repositoryMethod = null;
+            for (StackWalker.StackFrame frame : (Iterable<StackWalker.StackFrame>) frames::iterator) {
+                Class<?> type = frame.getDeclaringClass();
+                if (repositoryMethod == null) {
+                    Optional<Class<?>> repository = Arrays.stream(type.getInterfaces())
+                            .filter(candidate -> candidate.getName().startsWith(REPOSITORY_PACKAGE))
+                            .findFirst();
+                    if (repository.isPresent()) {
+                        repositoryMethod = repository.get().getSimpleName() + "." + frame.getMethodName();
+                        continue;
+                    }
+                }
+                String className = frame.getClassName();
+                if (className.startsWith(APPLICATION_PACKAGE) && !className.startsWith(METRICS_PACKAGE)
+                        && !className.contains("$$")) {
+                    String applicationMethod = type.getSimpleName() + "." + frame.getMethodName();
+                    return repositoryMethod != null ? repositoryMethod + " <- " + applicationMethod : applicationMethod;
+                }
+            }
+            return repositoryMethod != null ? repositoryMethod : "unknown";
+        });
+    }
+}
@@ -0,0 +1,21 @@
+package com.dailyhealthreminder.metrics;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Marks a bean whose public methods are timed.
+ * Each call is recorded in {@code service_method_seconds}, tagged with the
+ * class, the method and the exception thrown, if any.
+ *
+ * @author Daily Health Reminder Team
+ * @version 1.0
+ */
+@Target(ElementType.TYPE)
+@Retention(RetentionPolicy.RUNTIME)
+@Documented
+public @interface Timed {
+}
@@ -0,0 +1,66 @@
+package com.dailyhealthreminder.metrics;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpOutputMessage;
+import org.springframework.http.converter.HttpMessageNotWritableException;
+import org.springframework.http.converter.json.MappingJackson2HttpMessageConverter;
+import org.springframework.lang.NonNull;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.lang.reflect.Type;
+
+/**
+ * JSON converter that measures serialization for {@link RequestTimings}.
+ * Inside a timed request the body is serialized into a buffer first, so the
+ * Server-Timing header can still be set, including the serialization time,
+ * before anything reaches the client.
+ *
+ * @author Daily Health Reminder Team
+ * @version 1.0
+ */
+public class TimedJsonHttpMessageConverter extends MappingJackson2HttpMessageConverter {
+
+    /**
+     * Constructor with object mapper.
+     *
+     * @param objectMapper Object mapper used for serialization
+     */
+    public TimedJsonHttpMessageConverter(ObjectMapper objectMapper) {
+        super(objectMapper);
+    }
+
+    @Override
+    protected void writeInternal(@NonNull Object object, Type type, @NonNull HttpOutputMessage outputMessage)
+            throws IOException, HttpMessageNotWritableException {
+        RequestTimings timings = RequestTimings.current();
+        if (timings == null) {
+            super.writeInternal(object, type, outputMessage);
+            return;
+        }
+
+        long start = System.nanoTime();
+        ByteArrayOutputStream buffer = new ByteArrayOutputStream(1024);
+        super.writeInternal(object, type, new HttpOutputMessage() {
+            @Override
+            @NonNull
+            public OutputStream getBody() {
+                return buffer;
+            }
+
+            @Override
+            @NonNull
+            public HttpHeaders getHeaders() {
+                return outputMessage.getHeaders();
+            }
+        });
+        RequestTimings.record(RequestTimings.Phase.SERIALIZATION, System.nanoTime() - start);
+
+        if (timings.isServerTimingHeader()) {
+            outputMessage.getHeaders().set(RequestTimingFilter.SERVER_TIMING_HEADER, timings.toServerTiming());
+        }
+        buffer.writeTo(outputMessage.getBody());
+    }
+}
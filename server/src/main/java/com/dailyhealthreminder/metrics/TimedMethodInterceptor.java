@@ -0,0 +1,117 @@
+package com.dailyhealthreminder.metrics;
+
+import com.dailyhealthreminder.security.AuthenticatedUser;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.aopalliance.intercept.MethodInterceptor;
+import org.aopalliance.intercept.MethodInvocation;
+import org.springframework.aop.support.AopUtils;
+import org.springframework.data.domain.Slice;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+
+import java.lang.reflect.Method;
+import java.util.Collection;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Records the duration of calls to beans annotated with {@link Timed}, and
+ * emits a {@link ServiceOperationEvent} when Flight Recorder is recording.
+ *
+ * @author Daily Health Reminder Team
+ * @version 1.0
+ */
+public class TimedMethodInterceptor implements MethodInterceptor {
+
+    private static final String METRIC = "service.method";
+    private static final String HELP = "Duration of service method calls";
+    private static final String NO_EXCEPTION = "none";
+
+    private final MeterRegistry meterRegistry;
+    private final Map<Method, Timer> successTimers = new ConcurrentHashMap<>();
+    private final Map<Method, String> operations = new ConcurrentHashMap<>();
+
+    /**
+     * Constructor with registry.
+     *
+     * @param meterRegistry Meter registry
+     */
+    public TimedMethodInterceptor(MeterRegistry meterRegistry) {
+        this.meterRegistry = meterRegistry;
+    }
+
+    @Override
+    public Object invoke(MethodInvocation invocation) throws Throwable {
+        ServiceOperationEvent event = new ServiceOperationEvent();
+        event.begin();
+        long start = System.nanoTime();
+        try {
+            Object result = invocation.proceed();
+            successTimers.computeIfAbsent(invocation.getMethod(), method -> timer(invocation, NO_EXCEPTION))
+                    .record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+            commit(event, invocation, documentCount(result), null);
+            return result;
+        } catch (Throwable e) {
+            timer(invocation, e.getClass().getSimpleName()).record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+            commit(event, invocation, 0, e.getClass().getSimpleName());
+            throw e;
+        }
+    }
+
+    private void commit(ServiceOperationEvent event, MethodInvocation invocation, int documentCount, String exception) {
+        event.end();
+        if (!event.shouldCommit()) {
+            return;
+        }
+        event.operation = operations.computeIfAbsent(invocation.getMethod(),
+                method -> targetClass(invocation).getSimpleName() + "." + method.getName());
+        event.userIdHash = ServiceOperationEvent.hashUserId(currentUserId());
+        event.documentCount = documentCount;
+        event.exception = exception;
+        event.commit();
+    }
+
+    private Timer timer(MethodInvocation invocation, String exception) {
+        return Timer.builder(METRIC)
+                .description(HELP)
+                .tags("class", targetClass(invocation).getSimpleName(),
+                        "method", invocation.getMethod().getName(),
+                        "exception", exception)
+                .register(meterRegistry);
+    }
+
+    private static Class<?> targetClass(MethodInvocation invocation) {
+        return invocation.getThis() != null
+                ? AopUtils.getTargetClass(invocation.getThis())
+                : invocation.getMethod().getDeclaringClass();
+    }
+
+    private static String currentUserId() {
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        return authentication != null && authentication.getPrincipal() instanceof AuthenticatedUser user
+                ? user.id()
+                : null;
+    }
+
+    private static int documentCount(Object result) {
+        if (result == null) {
+            return 0;
+        }
+        if (result instanceof Collection<?> collection) {
+            return collection.size();
+        }
+        if (result instanceof Slice<?> slice) {
+            return slice.getNumberOfElements();
+        }
+        if (result instanceof Map<?, ?> map) {
+            return map.size();
+        }
+        if (result instanceof Optional<?> optional) {
+            return optional.isPresent() ? 1 : 0;
+        }
+        return 1;
+    }
+}
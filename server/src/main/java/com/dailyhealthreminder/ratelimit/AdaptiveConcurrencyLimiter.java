@@ -0,0 +1,210 @@
+package com.dailyhealthreminder.ratelimit;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.LongSupplier;
+
+/**
+ * Concurrency limit that adapts to latency, after the gradient limiters.
+ * Completed requests are sampled into short windows; each window's mean
+ * latency is compared with a slowly moving long-term mean. While the two
+ * agree the limit grows by a small queue allowance, and once short-term
+ * latency rises beyond the tolerance the limit shrinks in proportion, so
+ * the number of requests in flight follows what the backend can actually
+ * serve instead of what the thread pool happens to allow. Requests the
+ * backend failed to serve shrink the limit directly.
+ *
+ * <p>Admission is by priority: critical requests may use the whole limit,
+ * the others only a share of it, so as latency grows background work is
+ * shed first and critical work last.</p>
+ *
+ * <p>Completions update the window under a {@link ReentrantLock} rather
+ * than a monitor, so request threads never pin a virtual thread's carrier
+ * here.</p>
+ *
+ * @author Daily Health Reminder Team
+ * @version 1.0
+ */
+public class AdaptiveConcurrencyLimiter {
+
+    /**
+     * Share of the limit a request may use, by importance.
+     */
+    public enum Priority {
+        CRITICAL(1.0),
+        NORMAL(0.9),
+        BACKGROUND(0.6);
+
+        private final double share;
+
+        Priority(double share) {
+            this.share = share;
+        }
+    }
+
+    /**
+     * Minimum samples before a window may close.
+     */
+    private static final int MIN_WINDOW_SAMPLES = 10;
+    /**
+     * Number of windows the long-term latency averages over.
+     */
+    private static final int LONG_WINDOW = 600;
+    /**
+     * Short-term latency may exceed the long-term mean by this factor before the limit shrinks.
+     */
+    private static final double RTT_TOLERANCE = 1.5;
+    private static final double SMOOTHING = 0.2;
+    private static final double DROP_BACKOFF = 0.9;
+
+    private final int minLimit;
+    private final int maxLimit;
+    private final long windowNanos;
+    private final LongSupplier nanoClock;
+    private final AtomicInteger inFlight = new AtomicInteger();
+    private final ReentrantLock lock = new ReentrantLock();
+
+    private volatile double limit;
+
+    // Guarded by lock
+    private double longRttNanos;
+    private long windowStart;
+    private long windowSumNanos;
+    private int windowSamples;
+    private int windowMaxInFlight;
+
+    /**
+     * Constructor with limit bounds.
+     *
+     * @param initialLimit Limit before any latency has been observed
+     * @param minLimit Lower bound of the limit
+     * @param maxLimit Upper bound of the limit
+     * @param windowMs Minimum length of a sampling window in milliseconds
+     */
+    public AdaptiveConcurrencyLimiter(int initialLimit, int minLimit, int maxLimit, long windowMs) {
+        this(initialLimit, minLimit, maxLimit, windowMs, System::nanoTime);
+    }
+
+    AdaptiveConcurrencyLimiter(int initialLimit, int minLimit, int maxLimit, long windowMs, LongSupplier nanoClock) {
+        this.minLimit = Math.max(1, minLimit);
+        this.maxLimit = Math.max(this.minLimit, maxLimit);
+        this.limit = Math.max(this.minLimit, Math.min(this.maxLimit, initialLimit));
+        this.windowNanos = TimeUnit.MILLISECONDS.toNanos(windowMs);
+        this.nanoClock = nanoClock;
+        this.windowStart = nanoClock.getAsLong();
+    }
+
+    /**
+     * Admit a request if its priority's share of the limit is not used up.
+     * Every admitted request must be completed with {@link #onSuccess} or
+     * {@link #onDropped}, or released with {@link #onIgnore}.
+     *
+     * @param priority Priority of the request
+     * @return true if the request was admitted
+     */
+    public boolean tryAcquire(Priority priority) {
+        int allowed = Math.max(1, (int) (limit * priority.share));
+        while (true) {
+            int current = inFlight.get();
+            if (current >= allowed) {
+                return false;
+            }
+            if (inFlight.compareAndSet(current, current + 1)) {
+                return true;
+            }
+        }
+    }
+
+    /**
+     * Complete a request that was served, sampling its latency.
+     *
+     * @param startNanos {@link System#nanoTime()} when the request was admitted
+     */
+    public void onSuccess(long startNanos) {
+        int current = inFlight.getAndDecrement();
+        long now = nanoClock.getAsLong();
+        lock.lock();
+        try {
+            sample(now - startNanos, current, now);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Complete a request the backend failed to serve, e.g. one that timed
+     * out or was rejected downstream, which shrinks the limit.
+     */
+    public void onDropped() {
+        inFlight.decrementAndGet();
+        lock.lock();
+        try {
+            limit = Math.max(minLimit, limit * DROP_BACKOFF);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Complete a request without sampling it, e.g. one that failed before
+     * reaching the backend.
+     */
+    public void onIgnore() {
+        inFlight.decrementAndGet();
+    }
+
+    /**
+     * Current limit.
+     *
+     * @return Maximum number of requests in flight
+     */
+    public int getLimit() {
+        return (int) limit;
+    }
+
+    /**
+     * Requests currently in flight.
+     *
+     * @return Number of admitted, uncompleted requests
+     */
+    public int getInFlight() {
+        return inFlight.get();
+    }
+
+    private void sample(long rttNanos, int inFlightAtCompletion, long now) {
+        windowSumNanos += rttNanos;
+        windowSamples++;
+        windowMaxInFlight = Math.max(windowMaxInFlight, inFlightAtCompletion);
+        if (windowSamples < MIN_WINDOW_SAMPLES || now - windowStart < windowNanos) {
+            return;
+        }
+
+        double shortRtt = (double) windowSumNanos / windowSamples;
+        int maxInFlight = windowMaxInFlight;
+        windowStart = now;
+        windowSumNanos = 0;
+        windowSamples = 0;
+        windowMaxInFlight = 0;
+
+        if (longRttNanos == 0) {
+            longRttNanos = shortRtt;
+        } else {
+            longRttNanos += (shortRtt - longRttNanos) / LONG_WINDOW;
+        }
+        // After a slow spell the long-term mean lags behind; let it catch up
+        // with the recovered latency instead of growing the limit for minutes
+        if (longRttNanos / shortRtt > 2) {
+            longRttNanos *= 0.95;
+        }
+        // A window that used under half the limit says nothing about whether a higher one would hold
+        if (maxInFlight < limit / 2) {
+            return;
+        }
+
+        double gradient = Math.max(0.5, Math.min(1.0, RTT_TOLERANCE * longRttNanos / shortRtt));
+        double queueAllowance = Math.sqrt(limit);
+        double target = limit * gradient + queueAllowance;
+        limit = Math.max(minLimit, Math.min(maxLimit, limit * (1 - SMOOTHING) + target * SMOOTHING));
+    }
+}
@@ -0,0 +1,234 @@
+package com.dailyhealthreminder.ratelimit;
+
+import com.dailyhealthreminder.bulkhead.Workload;
+import com.dailyhealthreminder.dto.response.ApiResponse;
+import com.dailyhealthreminder.ratelimit.AdaptiveConcurrencyLimiter.Priority;
+import com.dailyhealthreminder.util.Constants;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.servlet.AsyncEvent;
+import jakarta.servlet.AsyncListener;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.core.env.Environment;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.lang.NonNull;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+import java.util.EnumMap;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * Sheds load at the HTTP edge with an adaptive concurrency limit per
+ * endpoint group. When Mongo slows down the limits shrink with it and
+ * excess requests get an immediate 503 with Retry-After instead of
+ * waiting in Tomcat's queue until they time out. Runs ahead of the
+ * security chain, so a shed request costs no token verification.
+ *
+ * <p>Token refresh and reminder toggles are critical and may use the whole
+ * limit of their group; dashboard, admin and export traffic is background
+ * and is shed first. Requests outside the API are not limited.</p>
+ *
+ * @author Daily Health Reminder Team
+ * @version 1.0
+ */
+@Component
+@Order(Ordered.HIGHEST_PRECEDENCE + 2)
+@ConditionalOnProperty(name = "concurrency-limit.enabled", havingValue = "true", matchIfMissing = true)
+public class ConcurrencyLimitFilter extends OncePerRequestFilter {
+
+    static final String SHED_MESSAGE = "Server is busy, please retry shortly";
+
+    /**
+     * Group and priority of a request.
+     *
+     * @param group Endpoint group, named after the workloads
+     * @param priority Priority within the group
+     */
+    record Classification(Workload group, Priority priority) {
+    }
+
+    private static final String REFRESH_PATH = Constants.AUTH_BASE_PATH + "/refresh";
+    private static final String EXPORT_PATH = Constants.HEALTH_LOG_BASE_PATH + "/stream";
+    private static final String TOGGLE_SUFFIX = "/toggle";
+
+    private final Map<Workload, AdaptiveConcurrencyLimiter> limiters = new EnumMap<>(Workload.class);
+    private final MeterRegistry meterRegistry;
+    private final ObjectMapper objectMapper;
+    private final String retryAfterSeconds;
+
+    /**
+     * Constructor reading the limits of each group from
+     * {@code concurrency-limit.groups.<group>.*}, falling back to the shared
+     * {@code concurrency-limit.*} settings.
+     *
+     * @param environment Environment with the limit settings
+     * @param meterRegistry Meter registry
+     * @param objectMapper Mapper for the error body
+     * @param retryAfterSeconds Retry-After sent with shed requests
+     */
+    public ConcurrencyLimitFilter(Environment environment,
+                                  MeterRegistry meterRegistry,
+                                  ObjectMapper objectMapper,
+                                  @Value("${concurrency-limit.retry-after-seconds:1}") long retryAfterSeconds) {
+        this.meterRegistry = meterRegistry;
+        this.objectMapper = objectMapper;
+        this.retryAfterSeconds = Long.toString(Math.max(1, retryAfterSeconds));
+
+        long windowMs = environment.getProperty("concurrency-limit.window-ms", Long.class, 100L);
+        for (Workload group : Workload.values()) {
+            AdaptiveConcurrencyLimiter limiter = new AdaptiveConcurrencyLimiter(
+                    setting(environment, group, "initial-limit", 50),
+                    setting(environment, group, "min-limit", 10),
+                    setting(environment, group, "max-limit", 200),
+                    windowMs);
+            limiters.put(group, limiter);
+            Gauge.builder("http.concurrency.limit", limiter, AdaptiveConcurrencyLimiter::getLimit)
+                    .description("Adaptive concurrency limit of the endpoint group")
+                    .tag("group", group.tag())
+                    .register(meterRegistry);
+            Gauge.builder("http.concurrency.in.flight", limiter, AdaptiveConcurrencyLimiter::getInFlight)
+                    .description("Requests in flight in the endpoint group")
+                    .tag("group", group.tag())
+                    .register(meterRegistry);
+        }
+    }
+
+    @Override
+    protected boolean shouldNotFilter(@NonNull HttpServletRequest request) {
+        return !request.getRequestURI().startsWith(Constants.API_BASE_PATH + "/");
+    }
+
+    @Override
+    protected void doFilterInternal(
+            @NonNull HttpServletRequest request,
+            @NonNull HttpServletResponse response,
+            @NonNull FilterChain filterChain) throws ServletException, IOException {
+        Classification classification = classify(request.getMethod(), request.getRequestURI());
+        AdaptiveConcurrencyLimiter limiter = limiters.get(classification.group());
+        if (!limiter.tryAcquire(classification.priority())) {
+            shed(classification, response);
+            return;
+        }
+
+        long start = System.nanoTime();
+        boolean completed = false;
+        try {
+            filterChain.doFilter(request, response);
+            completed = true;
+        } finally {
+            if (completed && request.isAsyncStarted()) {
+                // Bulkheaded and streamed responses hold their slot until they complete
+                request.getAsyncContext().addListener(new ReleaseOnComplete(limiter, start));
+            } else if (completed) {
+                release(limiter, start, response.getStatus());
+            } else {
+                limiter.onIgnore();
+            }
+        }
+    }
+
+    /**
+     * Group and priority of a request by method and path.
+     *
+     * @param method HTTP method
+     * @param uri Request URI
+     * @return Classification
+     */
+    static Classification classify(String method, String uri) {
+        if (uri.startsWith(Constants.AUTH_BASE_PATH)) {
+            return new Classification(Workload.AUTH, uri.equals(REFRESH_PATH) ? Priority.CRITICAL : Priority.NORMAL);
+        }
+        if (uri.startsWith(EXPORT_PATH)) {
+            return new Classification(Workload.EXPORT, Priority.BACKGROUND);
+        }
+        if (HttpMethod.GET.matches(method) || HttpMethod.HEAD.matches(method)) {
+            boolean analytics = uri.startsWith(Constants.DASHBOARD_BASE_PATH) || uri.startsWith(Constants.ADMIN_BASE_PATH);
+            return new Classification(Workload.READ, analytics ? Priority.BACKGROUND : Priority.NORMAL);
+        }
+        boolean reminderAck = uri.startsWith(Constants.REMINDER_BASE_PATH) && uri.endsWith(TOGGLE_SUFFIX);
+        return new Classification(Workload.WRITE, reminderAck ? Priority.CRITICAL : Priority.NORMAL);
+    }
+
+    private void shed(Classification classification, HttpServletResponse response) throws IOException {
+        Counter.builder("http.requests.shed")
+                .description("Requests rejected by the adaptive concurrency limit")
+                .tags("group", classification.group().tag(),
+                        "priority", classification.priority().name().toLowerCase(Locale.ROOT))
+                .register(meterRegistry)
+                .increment();
+        response.setStatus(HttpStatus.SERVICE_UNAVAILABLE.value());
+        response.setHeader(HttpHeaders.RETRY_AFTER, retryAfterSeconds);
+        response.setContentType(MediaType.APPLICATION_JSON_VALUE);
+        objectMapper.writeValue(response.getOutputStream(), ApiResponse.error(SHED_MESSAGE));
+    }
+
+    /**
+     * Busy or timed-out responses mean the backend could not keep up and
+     * shrink the limit; anything else is a latency sample.
+     */
+    private static void release(AdaptiveConcurrencyLimiter limiter, long start, int status) {
+        if (status == HttpStatus.SERVICE_UNAVAILABLE.value() || status == HttpStatus.GATEWAY_TIMEOUT.value()) {
+            limiter.onDropped();
+        } else {
+            limiter.onSuccess(start);
+        }
+    }
+
+    private static int setting(Environment environment, Workload group, String name, int defaultValue) {
+        Integer shared = environment.getProperty("concurrency-limit." + name, Integer.class, defaultValue);
+        return environment.getProperty("concurrency-limit.groups." + group.tag() + "." + name, Integer.class, shared);
+    }
+
+    private static final class ReleaseOnComplete implements AsyncListener {
+
+        private final AdaptiveConcurrencyLimiter limiter;
+        private final long start;
+        private final AtomicBoolean released = new AtomicBoolean();
+
+        ReleaseOnComplete(AdaptiveConcurrencyLimiter limiter, long start) {
+            this.limiter = limiter;
+            this.start = start;
+        }
+
+        @Override
+        public void onComplete(AsyncEvent event) {
+            if (released.compareAndSet(false, true)) {
+                release(limiter, start, ((HttpServletResponse) event.getSuppliedResponse()).getStatus());
+            }
+        }
+
+        @Override
+        public void onTimeout(AsyncEvent event) {
+            if (released.compareAndSet(false, true)) {
+                limiter.onDropped();
+            }
+        }
+
+        @Override
+        public void onError(AsyncEvent event) {
+            if (released.compareAndSet(false, true)) {
+                limiter.onIgnore();
+            }
+        }
+
+        @Override
+        public void onStartAsync(AsyncEvent event) {
+        }
+    }
+}
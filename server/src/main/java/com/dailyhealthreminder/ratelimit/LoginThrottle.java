@@ -0,0 +1,120 @@
+package com.dailyhealthreminder.ratelimit;
+
+import com.dailyhealthreminder.exception.TooManyRequestsException;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.Locale;
+
+/**
+ * Throttles login attempts per client IP and failed logins per account.
+ * Runs before the user lookup and password verification, so rejected
+ * attempts cost neither a Mongo query nor a BCrypt hash. Every attempt is
+ * charged to its IP, but only failed attempts are charged to the account,
+ * so a guessing attacker cannot lock the owner out by exhausting the
+ * account's budget with logins that would have succeeded anyway. When the
+ * shared store is enabled an attempt admitted locally is also counted
+ * across nodes.
+ *
+ * @author Daily Health Reminder Team
+ * @version 1.0
+ */
+@Component
+@Slf4j
+public class LoginThrottle {
+
+    private static final String TOO_MANY_ATTEMPTS = "Too many login attempts, please try again later";
+
+    private final boolean enabled;
+    private final TokenBucketLimiter perIp;
+    private final TokenBucketLimiter perEmail;
+    private final int perIpCapacity;
+    private final int perEmailCapacity;
+    private final MongoRateLimitStore sharedStore;
+
+    /**
+     * Constructor with limits.
+     *
+     * @param enabled Whether throttling is applied
+     * @param perIpCapacity Burst of attempts allowed per client IP
+     * @param perIpRefillPerMinute Attempts regained per minute per client IP
+     * @param perEmailCapacity Burst of attempts allowed per account
+     * @param perEmailRefillPerMinute Attempts regained per minute per account
+     * @param maxKeys Maximum number of tracked keys per limiter
+     * @param stripes Number of lock stripes per limiter
+     * @param sharedStore Cross-node counters, if enabled
+     */
+    public LoginThrottle(@Value("${security.login-throttle.enabled:true}") boolean enabled,
+                         @Value("${security.login-throttle.per-ip.capacity:30}") int perIpCapacity,
+                         @Value("${security.login-throttle.per-ip.refill-per-minute:10}") double perIpRefillPerMinute,
+                         @Value("${security.login-throttle.per-email.capacity:5}") int perEmailCapacity,
+                         @Value("${security.login-throttle.per-email.refill-per-minute:1}") double perEmailRefillPerMinute,
+                         @Value("${security.login-throttle.max-keys:100000}") int maxKeys,
+                         @Value("${security.login-throttle.stripes:64}") int stripes,
+                         ObjectProvider<MongoRateLimitStore> sharedStore) {
+        this.enabled = enabled;
+        this.perIp = new TokenBucketLimiter(perIpCapacity, perIpRefillPerMinute, maxKeys, stripes);
+        this.perEmail = new TokenBucketLimiter(perEmailCapacity, perEmailRefillPerMinute, maxKeys, stripes);
+        this.perIpCapacity = perIpCapacity;
+        this.perEmailCapacity = perEmailCapacity;
+        this.sharedStore = sharedStore.getIfAvailable();
+    }
+
+    /**
+     * Record a login attempt against its IP, rejecting it when the IP is
+     * over its limit or the account has no failed attempts left.
+     *
+     * @param email Email the attempt is for
+     * @param clientIp Address of the client
+     * @throws TooManyRequestsException if the IP or the account is over its limit
+     */
+    public void checkLoginAttempt(String email, String clientIp) {
+        if (!enabled) {
+            return;
+        }
+
+        String ipKey = "ip:" + clientIp;
+        String emailKey = emailKey(email);
+
+        reject(ipKey, perIp.tryAcquire(ipKey));
+        reject(emailKey, perEmail.retryAfter(emailKey));
+
+        if (sharedStore != null) {
+            reject(ipKey, sharedStore.tryAcquire(ipKey, perIpCapacity, Duration.ofMillis(perIp.refillFullMillis())));
+            reject(emailKey, sharedStore.retryAfter(
+                    emailKey, perEmailCapacity, Duration.ofMillis(perEmail.refillFullMillis())));
+        }
+    }
+
+    /**
+     * Charge a failed login to its account, so that further attempts are
+     * rejected once the account's budget is used up.
+     *
+     * @param email Email the failed attempt was for
+     */
+    public void recordFailedLogin(String email) {
+        if (!enabled) {
+            return;
+        }
+
+        String emailKey = emailKey(email);
+        perEmail.tryAcquire(emailKey);
+        if (sharedStore != null) {
+            sharedStore.tryAcquire(emailKey, perEmailCapacity, Duration.ofMillis(perEmail.refillFullMillis()));
+        }
+    }
+
+    private static String emailKey(String email) {
+        return "email:" + (email != null ? email.trim().toLowerCase(Locale.ROOT) : "");
+    }
+
+    private void reject(String key, long retryAfterMillis) {
+        if (retryAfterMillis > 0) {
+            log.warn("Login attempt throttled for {}", key);
+            throw new TooManyRequestsException(TOO_MANY_ATTEMPTS, Duration.ofMillis(retryAfterMillis));
+        }
+    }
+}
@@ -0,0 +1,76 @@
+package com.dailyhealthreminder.ratelimit;
+
+import com.dailyhealthreminder.entity.RateLimitWindow;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.data.mongodb.core.FindAndModifyOptions;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.core.query.Update;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.Date;
+
+/**
+ * Fixed-window attempt counters shared by all instances through Mongo.
+ * Consulted only after the local token bucket has admitted an attempt, so
+ * rejected traffic never reaches the database.
+ *
+ * @author Daily Health Reminder Team
+ * @version 1.0
+ */
+@Component
+@ConditionalOnProperty(name = "security.login-throttle.shared.enabled", havingValue = "true")
+@RequiredArgsConstructor
+public class MongoRateLimitStore {
+
+    private final MongoTemplate mongoTemplate;
+
+    /**
+     * Count one attempt for a key in the current window.
+     *
+     * @param key Rate limit key
+     * @param limit Attempts allowed per window
+     * @param window Window length
+     * @return 0 if the attempt is allowed, otherwise milliseconds until the window ends
+     */
+    public long tryAcquire(String key, long limit, Duration window) {
+        long now = System.currentTimeMillis();
+        long windowMillis = window.toMillis();
+        long windowStart = now - now % windowMillis;
+        long windowEnd = windowStart + windowMillis;
+
+        Query query = new Query(Criteria.where("_id").is(windowId(key, windowStart)));
+        Update update = new Update()
+                .inc("count", 1)
+                .setOnInsert("expiresAt", new Date(windowEnd));
+        RateLimitWindow counter = mongoTemplate.findAndModify(query, update,
+                FindAndModifyOptions.options().upsert(true).returnNew(true), RateLimitWindow.class);
+
+        return counter != null && counter.getCount() > limit ? Math.max(1, windowEnd - now) : 0;
+    }
+
+    /**
+     * Check whether a key has attempts left in the current window without counting one.
+     *
+     * @param key Rate limit key
+     * @param limit Attempts allowed per window
+     * @param window Window length
+     * @return 0 if an attempt would be allowed, otherwise milliseconds until the window ends
+     */
+    public long retryAfter(String key, long limit, Duration window) {
+        long now = System.currentTimeMillis();
+        long windowMillis = window.toMillis();
+        long windowStart = now - now % windowMillis;
+        long windowEnd = windowStart + windowMillis;
+
+        RateLimitWindow counter = mongoTemplate.findById(windowId(key, windowStart), RateLimitWindow.class);
+        return counter != null && counter.getCount() >= limit ? Math.max(1, windowEnd - now) : 0;
+    }
+
+    private static String windowId(String key, long windowStart) {
+        return key + "|" + windowStart;
+    }
+}
@@ -0,0 +1,185 @@
+package com.dailyhealthreminder.ratelimit;
+
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * In-memory token buckets keyed by string.
+ * Keys are spread over lock stripes so unrelated keys do not contend, and
+ * each stripe holds a bounded number of buckets. A bucket that has been idle
+ * long enough to refill completely is indistinguishable from a new one, so
+ * idle buckets are dropped first; when a stripe is still full its least
+ * recently used bucket is dropped.
+ *
+ * @author Daily Health Reminder Team
+ * @version 1.0
+ */
+public class TokenBucketLimiter {
+
+    /**
+     * Idle buckets removed per call, which amortises the sweep over requests.
+     */
+    private static final int IDLE_SWEEP_PER_CALL = 2;
+
+    private final double capacity;
+    private final double tokensPerNano;
+    private final long refillFullNanos;
+    private final int maxEntriesPerStripe;
+    private final Stripe[] stripes;
+
+    /**
+     * Constructor with bucket shape and memory bound.
+     *
+     * @param capacity Maximum burst size
+     * @param refillPerMinute Tokens added per minute
+     * @param maxKeys Maximum number of tracked keys
+     * @param stripeCount Number of lock stripes, rounded up to a power of two
+     */
+    public TokenBucketLimiter(int capacity, double refillPerMinute, int maxKeys, int stripeCount) {
+        this.capacity = capacity;
+        this.tokensPerNano = refillPerMinute / TimeUnit.MINUTES.toNanos(1);
+        this.refillFullNanos = (long) Math.ceil(capacity / tokensPerNano);
+
+        int size = Integer.highestOneBit(Math.max(1, stripeCount - 1)) << 1;
+        this.stripes = new Stripe[size];
+        for (int i = 0; i < size; i++) {
+            stripes[i] = new Stripe();
+        }
+        this.maxEntriesPerStripe = Math.max(1, maxKeys / size);
+    }
+
+    /**
+     * Take one token for a key.
+     *
+     * @param key Bucket key
+     * @return 0 if a token was taken, otherwise milliseconds until one is available
+     */
+    public long tryAcquire(String key) {
+        long now = System.nanoTime();
+        Stripe stripe = stripes[spread(key.hashCode()) & (stripes.length - 1)];
+        stripe.lock.lock();
+        try {
+            Bucket bucket = stripe.buckets.get(key);
+            if (bucket == null) {
+                stripe.evict(now);
+                bucket = new Bucket(capacity, now);
+                stripe.buckets.put(key, bucket);
+            } else {
+                stripe.sweepIdle(now);
+                bucket.refill(now);
+            }
+
+            if (bucket.tokens >= 1) {
+                bucket.tokens -= 1;
+                return 0;
+            }
+            return Math.max(1, TimeUnit.NANOSECONDS.toMillis((long) Math.ceil((1 - bucket.tokens) / tokensPerNano)));
+        } finally {
+            stripe.lock.unlock();
+        }
+    }
+
+    /**
+     * Check whether a key has a token without taking it.
+     *
+     * @param key Bucket key
+     * @return 0 if a token is available, otherwise milliseconds until one is
+     */
+    public long retryAfter(String key) {
+        long now = System.nanoTime();
+        Stripe stripe = stripes[spread(key.hashCode()) & (stripes.length - 1)];
+        stripe.lock.lock();
+        try {
+            Bucket bucket = stripe.buckets.get(key);
+            if (bucket == null) {
+                return 0;
+            }
+            bucket.refill(now);
+            if (bucket.tokens >= 1) {
+                return 0;
+            }
+            return Math.max(1, TimeUnit.NANOSECONDS.toMillis((long) Math.ceil((1 - bucket.tokens) / tokensPerNano)));
+        } finally {
+            stripe.lock.unlock();
+        }
+    }
+
+    /**
+     * Get the time a bucket takes to refill from empty to full.
+     *
+     * @return Refill time in milliseconds
+     */
+    public long refillFullMillis() {
+        return TimeUnit.NANOSECONDS.toMillis(refillFullNanos);
+    }
+
+    /**
+     * Get the number of tracked keys.
+     *
+     * @return Key count
+     */
+    public int size() {
+        int size = 0;
+        for (Stripe stripe : stripes) {
+            stripe.lock.lock();
+            try {
+                size += stripe.buckets.size();
+            } finally {
+                stripe.lock.unlock();
+            }
+        }
+        return size;
+    }
+
+    private static int spread(int hash) {
+        return hash ^ (hash >>> 16);
+    }
+
+    private final class Bucket {
+
+        private double tokens;
+        private long lastRefillNanos;
+
+        private Bucket(double tokens, long now) {
+            this.tokens = tokens;
+            this.lastRefillNanos = now;
+        }
+
+        private void refill(long now) {
+            tokens = Math.min(capacity, tokens + (now - lastRefillNanos) * tokensPerNano);
+            lastRefillNanos = now;
+        }
+
+        private boolean isIdle(long now) {
+            return now - lastRefillNanos >= refillFullNanos;
+        }
+    }
+
+    private final class Stripe {
+
+        private final ReentrantLock lock = new ReentrantLock();
+        private final LinkedHashMap<String, Bucket> buckets = new LinkedHashMap<>(16, 0.75f, true);
+
+        private void sweepIdle(long now) {
+            Iterator<Map.Entry<String, Bucket>> iterator = buckets.entrySet().iterator();
+            for (int i = 0; i < IDLE_SWEEP_PER_CALL && iterator.hasNext(); i++) {
+                if (!iterator.next().getValue().isIdle(now)) {
+                    return;
+                }
+                iterator.remove();
+            }
+        }
+
+        private void evict(long now) {
+            sweepIdle(now);
+            Iterator<Map.Entry<String, Bucket>> iterator = buckets.entrySet().iterator();
+            while (buckets.size() >= maxEntriesPerStripe && iterator.hasNext()) {
+                iterator.next();
+                iterator.remove();
+            }
+        }
+    }
+}
@@ -0,0 +1,35 @@
+package com.dailyhealthreminder.repository;
+
+import com.dailyhealthreminder.entity.RevokedAccessToken;
+import org.springframework.data.mongodb.repository.MongoRepository;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * Repository interface for RevokedAccessToken entity.
+ * Provides database operations for revoked access tokens.
+ * 
+ * @author Daily Health Reminder Team
+ * @version 1.0
+ */
+@Repository
+public interface RevokedAccessTokenRepository extends MongoRepository<RevokedAccessToken, String> {
+
+    /**
+     * Find revocations recorded after a point in time.
+     * 
+     * @param revokedAt Lower bound (exclusive)
+     * @return List of revoked access tokens
+     */
+    List<RevokedAccessToken> findByRevokedAtAfter(LocalDateTime revokedAt);
+
+    /**
+     * Find revocations of tokens that have not expired yet.
+     * 
+     * @param now Current date and time
+     * @return List of revoked access tokens
+     */
+    List<RevokedAccessToken> findByExpiresAtAfter(LocalDateTime now);
+}
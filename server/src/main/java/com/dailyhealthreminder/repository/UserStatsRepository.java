@@ -0,0 +1,16 @@
+package com.dailyhealthreminder.repository;
+
+import com.dailyhealthreminder.entity.UserStats;
+import org.springframework.data.mongodb.repository.MongoRepository;
+import org.springframework.stereotype.Repository;
+
+/**
+ * Repository interface for UserStats entity.
+ * Provides database operations for per-user counters.
+ *
+ * @author Daily Health Reminder Team
+ * @version 1.0
+ */
+@Repository
+public interface UserStatsRepository extends MongoRepository<UserStats, String> {
+}
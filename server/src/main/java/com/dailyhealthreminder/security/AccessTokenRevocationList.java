@@ -0,0 +1,176 @@
+package com.dailyhealthreminder.security;
+
+import com.dailyhealthreminder.entity.RevokedAccessToken;
+import com.dailyhealthreminder.repository.RevokedAccessTokenRepository;
+import com.dailyhealthreminder.util.BloomFilter;
+import jakarta.annotation.PostConstruct;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Revoked access token IDs (jti) and sessions, checked on every authenticated request.
+ * A Bloom filter answers the common "not revoked" case without touching the
+ * exact deny set; the deny set holds each jti until the token would have
+ * expired anyway. Revocations are written to revoked_access_tokens and other
+ * instances pick them up by polling that collection.
+ *
+ * @author Daily Health Reminder Team
+ * @version 1.0
+ */
+@Component
+@Slf4j
+public class AccessTokenRevocationList {
+
+    /**
+     * Overlap between polls so revocations written with a slightly skewed clock are not missed.
+     */
+    private static final long POLL_OVERLAP_SECONDS = 5;
+    private static final String SESSION_PREFIX = "sid:";
+
+    private final RevokedAccessTokenRepository revokedAccessTokenRepository;
+    private final long expectedRevocations;
+    private final double falsePositiveRate;
+
+    private final Map<String, Long> expiryByJti = new ConcurrentHashMap<>();
+    private final ReentrantLock filterLock = new ReentrantLock();
+    private volatile BloomFilter filter;
+    private volatile LocalDateTime lastPolledAt;
+
+    /**
+     * Constructor with filter sizing.
+     *
+     * @param revokedAccessTokenRepository Revoked access token repository
+     * @param expectedRevocations Number of live revocations the filter is sized for
+     * @param falsePositiveRate Acceptable false positive rate of the filter
+     */
+    public AccessTokenRevocationList(RevokedAccessTokenRepository revokedAccessTokenRepository,
+                                     @Value("${security.access-token-revocation.expected-revocations:100000}") long expectedRevocations,
+                                     @Value("${security.access-token-revocation.false-positive-rate:0.001}") double falsePositiveRate) {
+        this.revokedAccessTokenRepository = revokedAccessTokenRepository;
+        this.expectedRevocations = expectedRevocations;
+        this.falsePositiveRate = falsePositiveRate;
+        this.filter = new BloomFilter(expectedRevocations, falsePositiveRate);
+    }
+
+    /**
+     * Load the revocations of tokens that have not expired yet.
+     */
+    @PostConstruct
+    public void load() {
+        LocalDateTime now = LocalDateTime.now();
+        revokedAccessTokenRepository.findByExpiresAtAfter(now).forEach(this::addLocal);
+        lastPolledAt = now;
+        log.info("Loaded {} revoked access tokens", expiryByJti.size());
+    }
+
+    /**
+     * Check whether an access token has been revoked.
+     *
+     * @param jti Token ID
+     * @return true if the token is revoked
+     */
+    public boolean isRevoked(String jti) {
+        if (jti == null || !filter.mightContain(jti)) {
+            return false;
+        }
+        Long expiresAt = expiryByJti.get(jti);
+        return expiresAt != null && expiresAt > System.currentTimeMillis();
+    }
+
+    /**
+     * Check whether the session an access token belongs to has been revoked.
+     *
+     * @param sessionId Session ID (sid claim)
+     * @return true if the session is revoked
+     */
+    public boolean isSessionRevoked(String sessionId) {
+        return sessionId != null && isRevoked(SESSION_PREFIX + sessionId);
+    }
+
+    /**
+     * Revoke every access token issued for a session, on every instance.
+     *
+     * @param sessionId Session ID
+     * @param userId ID of the user the session belongs to
+     * @param expiresAt When the last access token issued for the session expires at the latest
+     */
+    public void revokeSession(String sessionId, String userId, LocalDateTime expiresAt) {
+        revoke(SESSION_PREFIX + sessionId, userId, expiresAt);
+    }
+
+    /**
+     * Revoke an access token on every instance.
+     *
+     * @param jti Token ID
+     * @param userId ID of the user the token was issued to
+     * @param expiresAt Expiry date and time of the token
+     */
+    public void revoke(String jti, String userId, LocalDateTime expiresAt) {
+        RevokedAccessToken revokedAccessToken = RevokedAccessToken.builder()
+                .id(jti)
+                .userId(userId)
+                .revokedAt(LocalDateTime.now())
+                .expiresAt(expiresAt)
+                .build();
+        addLocal(revokedAccessToken);
+        revokedAccessTokenRepository.save(revokedAccessToken);
+    }
+
+    /**
+     * Pick up revocations made on other instances.
+     */
+    @Scheduled(fixedDelayString = "${security.access-token-revocation.poll-interval-ms:2000}")
+    public void poll() {
+        LocalDateTime now = LocalDateTime.now();
+        try {
+            revokedAccessTokenRepository.findByRevokedAtAfter(lastPolledAt.minusSeconds(POLL_OVERLAP_SECONDS))
+                    .forEach(this::addLocal);
+            lastPolledAt = now;
+        } catch (RuntimeException e) {
+            log.warn("Failed to poll revoked access tokens: {}", e.getMessage());
+        }
+    }
+
+    /**
+     * Drop expired revocations and rebuild the filter from the rest, so the
+     * false positive rate does not grow with revocations that no longer matter.
+     */
+    @Scheduled(fixedDelayString = "${security.access-token-revocation.sweep-interval-ms:600000}")
+    public void sweepExpired() {
+        long now = System.currentTimeMillis();
+        filterLock.lock();
+        try {
+            if (!expiryByJti.values().removeIf(expiresAt -> expiresAt <= now)) {
+                return;
+            }
+            BloomFilter rebuilt = new BloomFilter(expectedRevocations, falsePositiveRate);
+            expiryByJti.keySet().forEach(rebuilt::put);
+            filter = rebuilt;
+        } finally {
+            filterLock.unlock();
+        }
+    }
+
+    private void addLocal(RevokedAccessToken revokedAccessToken) {
+        long expiresAt = revokedAccessToken.getExpiresAt().atZone(ZoneId.systemDefault()).toInstant().toEpochMilli();
+        if (expiresAt <= System.currentTimeMillis()) {
+            return;
+        }
+        // Under the lock so a concurrent rebuild cannot drop the new entry from the filter
+        filterLock.lock();
+        try {
+            expiryByJti.put(revokedAccessToken.getId(), expiresAt);
+            filter.put(revokedAccessToken.getId());
+        } finally {
+            filterLock.unlock();
+        }
+    }
+}
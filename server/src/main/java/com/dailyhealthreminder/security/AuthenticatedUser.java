@@ -0,0 +1,54 @@
+package com.dailyhealthreminder.security;
+
+import com.dailyhealthreminder.entity.User;
+import org.springframework.security.core.AuthenticatedPrincipal;
+import org.springframework.security.core.GrantedAuthority;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+
+import java.util.List;
+
+/**
+ * Principal stored in the security context of a JWT-authenticated request.
+ * Holds only what request handling needs, so the password hash and profile
+ * fields of the user document are not kept per request. Instances are
+ * immutable and shared between requests of the same user.
+ *
+ * @param id User ID
+ * @param email User email (used as username)
+ * @param authorities Granted authorities, computed once when the principal is built
+ * @author Daily Health Reminder Team
+ * @version 1.0
+ */
+public record AuthenticatedUser(String id, String email, List<GrantedAuthority> authorities)
+        implements AuthenticatedPrincipal {
+
+    /**
+     * Canonical constructor, copying the authorities into an unmodifiable list.
+     */
+    public AuthenticatedUser {
+        authorities = List.copyOf(authorities);
+    }
+
+    /**
+     * Build the principal of a user.
+     *
+     * @param user User entity
+     * @return Principal
+     */
+    public static AuthenticatedUser from(User user) {
+        List<GrantedAuthority> authorities = user.getRoles().stream()
+                .map(role -> (GrantedAuthority) new SimpleGrantedAuthority(role))
+                .toList();
+        return new AuthenticatedUser(user.getId(), user.getEmail(), authorities);
+    }
+
+    /**
+     * Returns the name Spring Security reports for the authentication.
+     *
+     * @return User's email
+     */
+    @Override
+    public String getName() {
+        return email;
+    }
+}
@@ -0,0 +1,109 @@
+package com.dailyhealthreminder.security;
+
+import com.dailyhealthreminder.cache.InvalidationEvent;
+import com.dailyhealthreminder.cache.InvalidationListener;
+import com.dailyhealthreminder.cache.LocalCache;
+import com.dailyhealthreminder.repository.UserRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.security.core.userdetails.UsernameNotFoundException;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+
+/**
+ * Per-user cache of authenticated principals, keyed by email and by ID.
+ * Lets the JWT filter authenticate a request, and a refresh resolve its
+ * user, without reading the user document; entries are dropped when the
+ * user changes or is deleted. Changes made on other instances only arrive
+ * through the invalidation bus, so without it entries live for the short
+ * unshared time-to-live, which bounds how long a disabled or deleted user
+ * stays authenticated there.
+ *
+ * @author Daily Health Reminder Team
+ * @version 1.0
+ */
+@Component
+@Slf4j
+public class PrincipalCache implements InvalidationListener {
+
+    private final UserRepository userRepository;
+    private final LocalCache<String, AuthenticatedUser> cache;
+    private final LocalCache<String, AuthenticatedUser> cacheById;
+
+    /**
+     * Constructor with cache bounds.
+     *
+     * @param userRepository User repository
+     * @param maxEntries Maximum number of cached principals
+     * @param ttlMs Time-to-live of a cached principal in milliseconds
+     * @param unsharedTtlMs Time-to-live in milliseconds when the invalidation bus is disabled
+     * @param invalidationEnabled Whether changes on other instances are broadcast
+     */
+    public PrincipalCache(UserRepository userRepository,
+                          @Value("${cache.principals.max-entries:10000}") int maxEntries,
+                          @Value("${cache.principals.ttl-ms:300000}") long ttlMs,
+                          @Value("${cache.principals.unshared-ttl-ms:5000}") long unsharedTtlMs,
+                          @Value("${cache.invalidation.enabled:false}") boolean invalidationEnabled) {
+        this.userRepository = userRepository;
+        long effectiveTtlMs = invalidationEnabled ? ttlMs : Math.min(ttlMs, unsharedTtlMs);
+        this.cache = new LocalCache<>(maxEntries, Duration.ofMillis(effectiveTtlMs));
+        this.cacheById = new LocalCache<>(maxEntries, Duration.ofMillis(effectiveTtlMs));
+    }
+
+    /**
+     * Get the principal of a user, loading the user on a miss.
+     *
+     * @param email User email
+     * @return Principal
+     * @throws UsernameNotFoundException if user not found
+     */
+    public AuthenticatedUser getPrincipal(String email) {
+        return cache.get(email, () -> userRepository.findByEmail(email)
+                .map(AuthenticatedUser::from)
+                .orElseThrow(() -> new UsernameNotFoundException("User not found with email: " + email)));
+    }
+
+    /**
+     * Get the principal of a user by ID, loading the user on a miss.
+     *
+     * @param userId User ID
+     * @return Principal
+     * @throws UsernameNotFoundException if user not found
+     */
+    public AuthenticatedUser getPrincipalById(String userId) {
+        return cacheById.get(userId, () -> userRepository.findById(userId)
+                .map(AuthenticatedUser::from)
+                .orElseThrow(() -> new UsernameNotFoundException("User not found with id: " + userId)));
+    }
+
+    /**
+     * Drop the cached principal of a user.
+     *
+     * @param userId User ID
+     */
+    public void invalidateUser(String userId) {
+        cache.invalidateIf((email, principal) -> userId.equals(principal.id()));
+        cacheById.invalidate(userId);
+    }
+
+    /**
+     * Drop every cached principal.
+     */
+    public void invalidateAll() {
+        cache.invalidateAll();
+        cacheById.invalidateAll();
+        log.debug("Principal cache flushed");
+    }
+
+    @Override
+    public void onInvalidation(InvalidationEvent event) {
+        switch (event.type()) {
+            case USER -> invalidateUser(event.entityId());
+            case FLUSH_ALL -> invalidateAll();
+            default -> {
+                // Principals only depend on the user document
+            }
+        }
+    }
+}
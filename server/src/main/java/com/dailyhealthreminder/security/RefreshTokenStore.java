@@ -0,0 +1,518 @@
+package com.dailyhealthreminder.security;
+
+import com.dailyhealthreminder.cache.InvalidationEvent;
+import com.dailyhealthreminder.cache.InvalidationListener;
+import com.dailyhealthreminder.entity.RefreshToken;
+import com.dailyhealthreminder.entity.User;
+import com.mongodb.DBRef;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.bson.Document;
+import org.bson.types.ObjectId;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.mongodb.core.BulkOperations;
+import org.springframework.data.mongodb.core.FindAndReplaceOptions;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.core.query.Update;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.security.SecureRandom;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.Date;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.UnaryOperator;
+
+/**
+ * In-memory store of refresh tokens with write-behind persistence.
+ * Tokens are indexed by the SHA-256 hash of the token string and by user;
+ * only the hash is kept and persisted. Changes are applied in memory and
+ * written to the refresh_tokens collection in batches shortly after. The
+ * most recently issued tokens are loaded at startup, up to a bound; older
+ * ones and tokens issued on other instances are loaded on first use.
+ *
+ * <p>Revoking a token also revokes its session in the
+ * {@link AccessTokenRevocationList}, which every instance polls, so a token
+ * held in memory is checked against that list instead of the collection
+ * and a refresh needs no database read. A revocation made elsewhere takes
+ * effect here within one poll interval.</p>
+ *
+ * <p>Held tokens are never modified: a change replaces the token with an
+ * updated copy, so a flush in progress always writes a consistent state.</p>
+ *
+ * @author Daily Health Reminder Team
+ * @version 1.0
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class RefreshTokenStore implements InvalidationListener {
+
+    private static final String COLLECTION = "refresh_tokens";
+    private static final String USERS_COLLECTION = "users";
+    private static final int TOKEN_BYTES = 32;
+    private static final int HASH_HEX_LENGTH = 64;
+
+    private final MongoTemplate mongoTemplate;
+    private final AccessTokenRevocationList accessTokenRevocationList;
+    private final SecureRandom secureRandom = new SecureRandom();
+
+    private final Map<String, RefreshToken> tokensByHash = new ConcurrentHashMap<>();
+    private final Map<String, Set<String>> hashesByUser = new ConcurrentHashMap<>();
+    private final Map<String, String> hashesById = new ConcurrentHashMap<>();
+
+    /**
+     * Tokens waiting to be written, by token ID; a write without a token is a delete.
+     */
+    private final Map<String, PendingWrite> pendingWrites = new ConcurrentHashMap<>();
+
+    /**
+     * Users whose stored tokens must all be revoked or deleted, covering tokens not held in memory.
+     */
+    private final Map<String, UserOperation> pendingUserOperations = new ConcurrentHashMap<>();
+
+    @Value("${security.refresh-tokens.flush-batch-size:500}")
+    private int flushBatchSize;
+
+    @Value("${security.refresh-tokens.max-loaded:100000}")
+    private int maxLoaded;
+
+    @Value("${jwt.expiration}")
+    private long accessTokenExpirationMs;
+
+    /**
+     * Load the most recently issued unexpired refresh tokens into memory,
+     * newest first on the expiry index, up to the configured bound.
+     * Tokens stored before hashing was introduced are hashed and rewritten.
+     */
+    @PostConstruct
+    public void load() {
+        Document unexpired = new Document("expiryDate", new Document("$gt", new Date()));
+        int loaded = 0;
+        for (Document document : mongoTemplate.getCollection(COLLECTION).find(unexpired)
+                .sort(new Document("expiryDate", -1))
+                .limit(maxLoaded)) {
+            RefreshToken refreshToken = fromDocument(document);
+            if (refreshToken == null) {
+                continue;
+            }
+            if (refreshToken.getToken().length() != HASH_HEX_LENGTH) {
+                refreshToken.setToken(hash(refreshToken.getToken()));
+                pendingWrites.put(refreshToken.getId(), new PendingWrite(refreshToken));
+            }
+            index(refreshToken);
+            loaded++;
+        }
+        if (loaded >= maxLoaded) {
+            log.warn("Loaded the newest {} refresh tokens, older ones load on first use", loaded);
+        } else {
+            log.info("Loaded {} refresh tokens", loaded);
+        }
+    }
+
+    /**
+     * Issue a new refresh token.
+     * Assigns the ID, token hash and creation time to the given session and stores it.
+     *
+     * @param refreshToken Session with user, expiry date and device details set
+     * @return The token string, which is only ever returned to the client
+     */
+    public String issue(RefreshToken refreshToken) {
+        byte[] bytes = new byte[TOKEN_BYTES];
+        secureRandom.nextBytes(bytes);
+        String token = Base64.getUrlEncoder().withoutPadding().encodeToString(bytes);
+
+        LocalDateTime now = LocalDateTime.now();
+        refreshToken.setId(new ObjectId().toHexString());
+        refreshToken.setToken(hash(token));
+        refreshToken.setUser(User.builder().id(refreshToken.getUser().getId()).build());
+        refreshToken.setCreatedAt(now);
+        refreshToken.setLastUsedAt(now);
+        refreshToken.setRevoked(false);
+        index(refreshToken);
+        pendingWrites.put(refreshToken.getId(), new PendingWrite(refreshToken));
+        return token;
+    }
+
+    /**
+     * Find a refresh token by its token string.
+     * Answered from memory when the token is held, with revocations made
+     * on other instances applied.
+     *
+     * @param token Token string
+     * @return Optional containing the refresh token if found
+     */
+    public Optional<RefreshToken> find(String token) {
+        String tokenHash = hash(token);
+        RefreshToken refreshToken = tokensByHash.get(tokenHash);
+        if (refreshToken == null) {
+            // Issued on another instance, beyond the startup bound, or evicted after a change made elsewhere
+            Document document = mongoTemplate.getCollection(COLLECTION).find(new Document("token", tokenHash)).first();
+            refreshToken = document != null ? fromDocument(document) : null;
+            if (refreshToken == null || pendingWrites.containsKey(refreshToken.getId())) {
+                return Optional.empty();
+            }
+            index(refreshToken);
+        }
+        return Optional.of(withRemoteRevocation(refreshToken));
+    }
+
+    /**
+     * Find an active session of a user by ID, from memory when held.
+     *
+     * @param userId User ID
+     * @param sessionId Session (refresh token) ID
+     * @return Optional containing the session if it exists, belongs to the user and is active
+     */
+    public Optional<RefreshToken> findSession(String userId, String sessionId) {
+        String tokenHash = hashesById.get(sessionId);
+        RefreshToken refreshToken = tokenHash != null ? tokensByHash.get(tokenHash) : null;
+        if (refreshToken == null && !pendingWrites.containsKey(sessionId)) {
+            Object id = ObjectId.isValid(sessionId) ? new ObjectId(sessionId) : sessionId;
+            Document document = mongoTemplate.getCollection(COLLECTION).find(new Document("_id", id)).first();
+            refreshToken = document != null ? fromDocument(document) : null;
+            if (refreshToken != null) {
+                index(refreshToken);
+            }
+        }
+        return Optional.ofNullable(refreshToken)
+                .filter(session -> userId.equals(session.getUser().getId()))
+                .map(this::withRemoteRevocation)
+                .filter(session -> !session.isRevoked() && !session.isExpired());
+    }
+
+    /**
+     * Get the active sessions of a user.
+     * Reads the user's unexpired tokens with one query on the user/expiry
+     * index, since sessions started on other instances are only known to
+     * the collection, then applies changes not yet written from this instance.
+     *
+     * @param userId User ID
+     * @return List of unexpired, unrevoked refresh tokens
+     */
+    public List<RefreshToken> findActiveByUser(String userId) {
+        Document query = new Document("user", userReference(userId))
+                .append("expiryDate", new Document("$gt", new Date()));
+        for (Document document : mongoTemplate.getCollection(COLLECTION).find(query)) {
+            RefreshToken refreshToken = fromDocument(document);
+            if (refreshToken != null && !hashesById.containsKey(refreshToken.getId())
+                    && !pendingWrites.containsKey(refreshToken.getId())) {
+                index(refreshToken);
+            }
+        }
+        return findByUser(userId).stream()
+                .map(this::withRemoteRevocation)
+                .filter(refreshToken -> !refreshToken.isRevoked() && !refreshToken.isExpired())
+                .toList();
+    }
+
+    /**
+     * Record that a refresh token was used.
+     * Persisted at most once per minute per token to keep refreshes free of writes.
+     *
+     * @param refreshToken Refresh token
+     */
+    public void touch(RefreshToken refreshToken) {
+        LocalDateTime now = LocalDateTime.now();
+        if (refreshToken.getLastUsedAt() == null || refreshToken.getLastUsedAt().isBefore(now.minusMinutes(1))) {
+            update(refreshToken, held -> held.toBuilder().lastUsedAt(now).build());
+        }
+    }
+
+    /**
+     * Get the refresh tokens of a user held in memory.
+     *
+     * @param userId User ID
+     * @return List of refresh tokens
+     */
+    public List<RefreshToken> findByUser(String userId) {
+        Set<String> hashes = hashesByUser.get(userId);
+        if (hashes == null) {
+            return List.of();
+        }
+        List<RefreshToken> refreshTokens = new ArrayList<>();
+        for (String tokenHash : hashes) {
+            RefreshToken refreshToken = tokensByHash.get(tokenHash);
+            if (refreshToken != null) {
+                refreshTokens.add(refreshToken);
+            }
+        }
+        return refreshTokens;
+    }
+
+    /**
+     * Revoke a refresh token, and its session on every instance.
+     * The session revocation outlives the refresh token and every access
+     * token issued for the session.
+     *
+     * @param refreshToken Refresh token
+     */
+    public void revoke(RefreshToken refreshToken) {
+        update(refreshToken, held -> held.toBuilder().revoked(true).build());
+        LocalDateTime lastAccessTokenExpiry = LocalDateTime.now().plusNanos(accessTokenExpirationMs * 1_000_000);
+        LocalDateTime expiresAt = refreshToken.getExpiryDate() != null
+                && refreshToken.getExpiryDate().isAfter(lastAccessTokenExpiry)
+                ? refreshToken.getExpiryDate()
+                : lastAccessTokenExpiry;
+        accessTokenRevocationList.revokeSession(refreshToken.getId(), refreshToken.getUser().getId(), expiresAt);
+    }
+
+    /**
+     * Delete a refresh token.
+     *
+     * @param refreshToken Refresh token
+     */
+    public void delete(RefreshToken refreshToken) {
+        unindex(refreshToken);
+        pendingWrites.put(refreshToken.getId(), new PendingWrite(null));
+    }
+
+    /**
+     * Revoke every refresh token of a user, including sessions started on
+     * other instances.
+     *
+     * @param userId User ID
+     */
+    public void revokeAllForUser(String userId) {
+        findActiveByUser(userId).forEach(this::revoke);
+        pendingUserOperations.merge(userId, UserOperation.REVOKE, UserOperation::strongest);
+    }
+
+    /**
+     * Delete every refresh token of a user.
+     *
+     * @param userId User ID
+     */
+    public void deleteAllForUser(String userId) {
+        findByUser(userId).forEach(this::delete);
+        pendingUserOperations.put(userId, UserOperation.DELETE);
+    }
+
+    /**
+     * Write pending changes to the collection in batches.
+     * User-wide operations run first so they cannot undo a token issued after them;
+     * tokens already in memory carry their latest state in their own write.
+     */
+    @Scheduled(fixedDelayString = "${security.refresh-tokens.flush-interval-ms:500}")
+    public void flush() {
+        try {
+            flushUserOperations();
+            flushTokenWrites();
+        } catch (RuntimeException e) {
+            log.error("Failed to persist refresh tokens, will retry: {}", e.getMessage());
+        }
+    }
+
+    /**
+     * Drop expired tokens from memory; the collection expires them through its TTL index.
+     */
+    @Scheduled(fixedDelayString = "${security.refresh-tokens.sweep-interval-ms:600000}")
+    public void sweepExpired() {
+        tokensByHash.values().stream()
+                .filter(RefreshToken::isExpired)
+                .filter(refreshToken -> !pendingWrites.containsKey(refreshToken.getId()))
+                .toList()
+                .forEach(this::unindex);
+    }
+
+    /**
+     * Write everything still pending before shutdown.
+     */
+    @PreDestroy
+    public void shutdown() {
+        flush();
+    }
+
+    @Override
+    public void onInvalidation(InvalidationEvent event) {
+        switch (event.type()) {
+            case REFRESH_TOKEN -> evict(event.entityId());
+            case FLUSH_ALL -> List.copyOf(hashesById.keySet()).forEach(this::evict);
+            default -> {
+                // Other collections do not affect refresh tokens
+            }
+        }
+    }
+
+    /**
+     * Apply a session revocation made on another instance, which wrote it
+     * to the collection itself.
+     */
+    private RefreshToken withRemoteRevocation(RefreshToken refreshToken) {
+        if (refreshToken.isRevoked() || !accessTokenRevocationList.isSessionRevoked(refreshToken.getId())) {
+            return refreshToken;
+        }
+        RefreshToken revoked = refreshToken.toBuilder().revoked(true).build();
+        tokensByHash.replace(revoked.getToken(), refreshToken, revoked);
+        return revoked;
+    }
+
+    /**
+     * Replace the held token with an updated copy and queue the copy for writing.
+     * The change is applied to the latest held state, so concurrent changes
+     * to the same token are not lost, and writes are queued in the same order.
+     */
+    private void update(RefreshToken refreshToken, UnaryOperator<RefreshToken> change) {
+        RefreshToken updated = tokensByHash.compute(refreshToken.getToken(), (tokenHash, held) -> {
+            RefreshToken copy = change.apply(held != null ? held : refreshToken);
+            pendingWrites.put(copy.getId(), new PendingWrite(copy));
+            return copy;
+        });
+        indexKeys(updated);
+    }
+
+    private void evict(String id) {
+        if (pendingWrites.containsKey(id)) {
+            return;
+        }
+        String tokenHash = hashesById.get(id);
+        RefreshToken refreshToken = tokenHash != null ? tokensByHash.get(tokenHash) : null;
+        if (refreshToken != null) {
+            unindex(refreshToken);
+        }
+    }
+
+    private void flushUserOperations() {
+        if (pendingUserOperations.isEmpty()) {
+            return;
+        }
+        BulkOperations bulk = mongoTemplate.bulkOps(BulkOperations.BulkMode.UNORDERED, COLLECTION);
+        List<Map.Entry<String, UserOperation>> taken = new ArrayList<>();
+        for (Map.Entry<String, UserOperation> entry : pendingUserOperations.entrySet()) {
+            Query query = new Query(Criteria.where("user").is(userReference(entry.getKey())));
+            if (entry.getValue() == UserOperation.DELETE) {
+                bulk.remove(query);
+            } else {
+                bulk.updateMulti(query, new Update().set("revoked", true));
+            }
+            taken.add(Map.entry(entry.getKey(), entry.getValue()));
+        }
+        bulk.execute();
+        taken.forEach(entry -> pendingUserOperations.remove(entry.getKey(), entry.getValue()));
+    }
+
+    private void flushTokenWrites() {
+        while (!pendingWrites.isEmpty()) {
+            BulkOperations bulk = mongoTemplate.bulkOps(BulkOperations.BulkMode.UNORDERED, RefreshToken.class);
+            List<Map.Entry<String, PendingWrite>> taken = new ArrayList<>();
+            for (Map.Entry<String, PendingWrite> entry : pendingWrites.entrySet()) {
+                if (taken.size() >= flushBatchSize) {
+                    break;
+                }
+                Query query = new Query(Criteria.where("_id").is(entry.getKey()));
+                if (entry.getValue().refreshToken() == null) {
+                    bulk.remove(query);
+                } else {
+                    bulk.replaceOne(query, entry.getValue().refreshToken(), FindAndReplaceOptions.options().upsert());
+                }
+                taken.add(Map.entry(entry.getKey(), entry.getValue()));
+            }
+            bulk.execute();
+            // A write queued again while flushing stays pending for the next round
+            taken.forEach(entry -> pendingWrites.remove(entry.getKey(), entry.getValue()));
+        }
+    }
+
+    private void index(RefreshToken refreshToken) {
+        tokensByHash.put(refreshToken.getToken(), refreshToken);
+        indexKeys(refreshToken);
+    }
+
+    private void indexKeys(RefreshToken refreshToken) {
+        hashesById.put(refreshToken.getId(), refreshToken.getToken());
+        hashesByUser.computeIfAbsent(refreshToken.getUser().getId(), key -> ConcurrentHashMap.newKeySet())
+                .add(refreshToken.getToken());
+    }
+
+    private void unindex(RefreshToken refreshToken) {
+        tokensByHash.remove(refreshToken.getToken());
+        hashesById.remove(refreshToken.getId());
+        hashesByUser.computeIfPresent(refreshToken.getUser().getId(), (userId, hashes) -> {
+            hashes.remove(refreshToken.getToken());
+            return hashes.isEmpty() ? null : hashes;
+        });
+    }
+
+    private static RefreshToken fromDocument(Document document) {
+        Object user = document.get("user");
+        Object token = document.get("token");
+        if (!(user instanceof DBRef dbRef) || token == null) {
+            return null;
+        }
+        return RefreshToken.builder()
+                .id(String.valueOf(document.get("_id")))
+                .token(token.toString())
+                .user(User.builder().id(String.valueOf(dbRef.getId())).build())
+                .expiryDate(toLocalDateTime(document.getDate("expiryDate")))
+                .createdAt(toLocalDateTime(document.getDate("createdAt")))
+                .lastUsedAt(toLocalDateTime(document.getDate("lastUsedAt")))
+                .deviceName(document.getString("deviceName"))
+                .userAgent(document.getString("userAgent"))
+                .ipAddress(document.getString("ipAddress"))
+                .revoked(document.getBoolean("revoked", false))
+                .build();
+    }
+
+    private static LocalDateTime toLocalDateTime(Date date) {
+        return date != null ? LocalDateTime.ofInstant(date.toInstant(), ZoneId.systemDefault()) : null;
+    }
+
+    private static Object userReference(String userId) {
+        return new DBRef(USERS_COLLECTION, ObjectId.isValid(userId) ? new ObjectId(userId) : userId);
+    }
+
+    /**
+     * Hash a token string for storage and lookup.
+     *
+     * @param token Token string
+     * @return Hex-encoded SHA-256 hash
+     */
+    static String hash(String token) {
+        try {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            return HexFormat.of().formatHex(digest.digest(token.getBytes(StandardCharsets.UTF_8)));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 is not available", e);
+        }
+    }
+
+    /**
+     * Compared by identity, so a write queued again while flushing is never taken as already written.
+     */
+    private static final class PendingWrite {
+
+        private final RefreshToken refreshToken;
+
+        private PendingWrite(RefreshToken refreshToken) {
+            this.refreshToken = refreshToken;
+        }
+
+        private RefreshToken refreshToken() {
+            return refreshToken;
+        }
+    }
+
+    private enum UserOperation {
+        REVOKE,
+        DELETE;
+
+        private static UserOperation strongest(UserOperation first, UserOperation second) {
+            return first == DELETE || second == DELETE ? DELETE : REVOKE;
+        }
+    }
+}
@@ -1,32 +1,44 @@
 package com.dailyhealthreminder.service;
 
+import com.dailyhealthreminder.cache.RoleCache;
 import com.dailyhealthreminder.dto.request.LoginRequest;
 import com.dailyhealthreminder.dto.request.RegisterRequest;
 import com.dailyhealthreminder.dto.response.AuthResponse;
+import com.dailyhealthreminder.dto.response.SessionResponse;
 import com.dailyhealthreminder.dto.response.UserResponse;
 import com.dailyhealthreminder.entity.RefreshToken;
-import com.dailyhealthreminder.entity.Role;
 import com.dailyhealthreminder.entity.User;
 import com.dailyhealthreminder.exception.BadRequestException;
 import com.dailyhealthreminder.exception.ResourceNotFoundException;
 import com.dailyhealthreminder.exception.UnauthorizedException;
-import com.dailyhealthreminder.repository.RefreshTokenRepository;
-import com.dailyhealthreminder.repository.RoleRepository;
+import com.dailyhealthreminder.metrics.Timed;
+import com.dailyhealthreminder.ratelimit.LoginThrottle;
 import com.dailyhealthreminder.repository.UserRepository;
+import com.dailyhealthreminder.security.AccessTokenRevocationList;
+import com.dailyhealthreminder.security.AuthenticatedUser;
+import com.dailyhealthreminder.security.PrincipalCache;
+import com.dailyhealthreminder.security.RefreshTokenStore;
 import com.dailyhealthreminder.util.Constants;
+import io.jsonwebtoken.Claims;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DuplicateKeyException;
 import org.springframework.security.authentication.AuthenticationManager;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.AuthenticationException;
+import org.springframework.security.core.GrantedAuthority;
+import org.springframework.security.core.userdetails.UsernameNotFoundException;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.Comparator;
 import java.util.HashSet;
+import java.util.List;
 import java.util.Set;
-import java.util.UUID;
 import java.util.stream.Collectors;
 
 /**
@@ -37,20 +49,31 @@ import java.util.stream.Collectors;
  * @version 1.0
  */
 @Service
+@Timed
 @RequiredArgsConstructor
 @Slf4j
 public class AuthService {
 
+    private static final Comparator<RefreshToken> SESSION_RECENCY = Comparator.comparing(
+            session -> session.getLastUsedAt() != null ? session.getLastUsedAt() : session.getCreatedAt(),
+            Comparator.nullsFirst(Comparator.naturalOrder()));
+
     private final UserRepository userRepository;
-    private final RoleRepository roleRepository;
-    private final RefreshTokenRepository refreshTokenRepository;
+    private final RoleCache roleCache;
+    private final RefreshTokenStore refreshTokenStore;
+    private final AccessTokenRevocationList accessTokenRevocationList;
     private final PasswordEncoder passwordEncoder;
     private final JwtService jwtService;
     private final AuthenticationManager authenticationManager;
+    private final LoginThrottle loginThrottle;
+    private final PrincipalCache principalCache;
 
     @Value("${jwt.refresh-expiration}")
     private Long refreshTokenExpiration;
 
+    @Value("${security.sessions.max-per-user:5}")
+    private int maxSessionsPerUser;
+
     /**
      * Register a new user.
      * 
@@ -61,21 +84,9 @@ public class AuthService {
     public AuthResponse register(RegisterRequest request) {
         log.info("Registering new user with email: {}", request.getEmail());
 
-        // Check if user already exists
-        if (userRepository.existsByEmail(request.getEmail())) {
-            throw new BadRequestException("Email already registered");
-        }
-
-        // Get or create default role
-        Role userRole = roleRepository.findByName(Constants.DEFAULT_ROLE)
-                .orElseGet(() -> {
-                    Role newRole = new Role(Constants.DEFAULT_ROLE);
-                    return roleRepository.save(newRole);
-                });
-
-        // Create new user
-        Set<Role> roles = new HashSet<>();
-        roles.add(userRole);
+        // Create new user with the default role
+        Set<String> roles = new HashSet<>();
+        roles.add(roleCache.getDefaultRole().getName());
 
         User user = User.builder()
                 .name(request.getName())
@@ -89,16 +100,23 @@ public class AuthService {
                 .roles(roles)
                 .build();
 
-        User savedUser = userRepository.save(user);
+        // The unique email index, ensured at startup, rejects duplicates, including concurrent registrations
+        User savedUser;
+        try {
+            savedUser = userRepository.insert(user);
+        } catch (DuplicateKeyException e) {
+            throw new BadRequestException("Email already registered");
+        }
         log.info("User registered successfully: {}", savedUser.getEmail());
 
         // Generate tokens
-        String accessToken = jwtService.generateToken(savedUser);
-        RefreshToken refreshToken = createRefreshToken(savedUser);
+        RefreshToken session = RefreshToken.builder().user(savedUser).build();
+        String refreshToken = createRefreshToken(session);
+        String accessToken = jwtService.generateToken(savedUser, session.getId());
 
         return AuthResponse.builder()
                 .accessToken(accessToken)
-                .refreshToken(refreshToken.getToken())
+                .refreshToken(refreshToken)
                 .tokenType("Bearer")
                 .expiresIn(jwtService.getExpirationTime())
                 .user(mapToUserResponse(savedUser))
@@ -109,38 +127,52 @@ public class AuthService {
      * Authenticate user and generate tokens.
      * 
      * @param request Login request
+     * @param clientIp Address of the client
+     * @param userAgent User agent of the client
      * @return Authentication response with tokens
      */
     @Transactional
-    public AuthResponse login(LoginRequest request) {
+    public AuthResponse login(LoginRequest request, String clientIp, String userAgent) {
         log.info("User login attempt: {}", request.getEmail());
 
-        // Authenticate user
-        authenticationManager.authenticate(
-                new UsernamePasswordAuthenticationToken(
-                        request.getEmail(),
-                        request.getPassword()
-                )
-        );
+        // Throttle before any database or password hashing work
+        loginThrottle.checkLoginAttempt(request.getEmail(), clientIp);
+
+        // Authenticate user, charging failures to the account
+        try {
+            authenticationManager.authenticate(
+                    new UsernamePasswordAuthenticationToken(
+                            request.getEmail(),
+                            request.getPassword()
+                    )
+            );
+        } catch (AuthenticationException e) {
+            loginThrottle.recordFailedLogin(request.getEmail());
+            throw e;
+        }
 
         // Get user
         User user = userRepository.findByEmail(request.getEmail())
                 .orElseThrow(() -> new ResourceNotFoundException("User not found"));
 
+        // Make room for the new session by ending the least recently used ones
+        evictSessionsOverLimit(user);
+
         // Generate tokens
-        String accessToken = jwtService.generateToken(user);
-        
-        // Delete old refresh token if exists
-        refreshTokenRepository.findByUser(user)
-                .ifPresent(refreshTokenRepository::delete);
-        
-        RefreshToken refreshToken = createRefreshToken(user);
+        RefreshToken session = RefreshToken.builder()
+                .user(user)
+                .deviceName(request.getDeviceName())
+                .userAgent(userAgent)
+                .ipAddress(clientIp)
+                .build();
+        String refreshToken = createRefreshToken(session);
+        String accessToken = jwtService.generateToken(user, session.getId());
 
         log.info("User logged in successfully: {}", user.getEmail());
 
         return AuthResponse.builder()
                 .accessToken(accessToken)
-                .refreshToken(refreshToken.getToken())
+                .refreshToken(refreshToken)
                 .tokenType("Bearer")
                 .expiresIn(jwtService.getExpirationTime())
                 .user(mapToUserResponse(user))
@@ -149,15 +181,16 @@ public class AuthService {
 
     /**
      * Refresh access token using refresh token.
+     * Served from the refresh token store and the principal cache, so a
+     * refresh normally reads nothing from the database.
      * 
      * @param refreshTokenStr Refresh token
      * @return Authentication response with new tokens
      */
-    @Transactional
     public AuthResponse refreshToken(String refreshTokenStr) {
         log.info("Refreshing access token");
 
-        RefreshToken refreshToken = refreshTokenRepository.findByToken(refreshTokenStr)
+        RefreshToken refreshToken = refreshTokenStore.find(refreshTokenStr)
                 .orElseThrow(() -> new UnauthorizedException("Invalid refresh token"));
 
         if (refreshToken.isRevoked()) {
@@ -165,60 +198,170 @@ public class AuthService {
         }
 
         if (refreshToken.isExpired()) {
-            refreshTokenRepository.delete(refreshToken);
+            refreshTokenStore.delete(refreshToken);
             throw new UnauthorizedException("Refresh token has expired");
         }
 
-        User user = refreshToken.getUser();
-        String newAccessToken = jwtService.generateToken(user);
+        AuthenticatedUser principal;
+        try {
+            principal = principalCache.getPrincipalById(refreshToken.getUser().getId());
+        } catch (UsernameNotFoundException e) {
+            throw new UnauthorizedException("Invalid refresh token");
+        }
+        refreshTokenStore.touch(refreshToken);
+        String newAccessToken = jwtService.generateToken(principal, refreshToken.getId());
 
-        log.info("Access token refreshed for user: {}", user.getEmail());
+        log.info("Access token refreshed for user: {}", principal.email());
 
         return AuthResponse.builder()
                 .accessToken(newAccessToken)
                 .refreshToken(refreshTokenStr)
                 .tokenType("Bearer")
                 .expiresIn(jwtService.getExpirationTime())
-                .user(mapToUserResponse(user))
+                .user(mapToUserResponse(principal))
                 .build();
     }
 
     /**
-     * Logout user by revoking refresh token.
+     * Logout user by ending the session of the access token used for the request.
+     * Access tokens issued before sessions were tracked end all sessions of the user.
      * 
      * @param email User email
+     * @param accessToken Access token presented with the request
      */
-    @Transactional
-    public void logout(String email) {
+    public void logout(String email, String accessToken) {
         log.info("Logging out user: {}", email);
 
-        User user = userRepository.findByEmail(email)
-                .orElseThrow(() -> new ResourceNotFoundException("User not found"));
+        AuthenticatedUser principal = getPrincipal(email);
+
+        Claims claims = jwtService.parseClaims(accessToken);
+        String sessionId = jwtService.extractSessionId(claims);
+        if (sessionId != null) {
+            refreshTokenStore.findSession(principal.id(), sessionId).ifPresent(refreshTokenStore::revoke);
+        } else {
+            refreshTokenStore.revokeAllForUser(principal.id());
+        }
 
-        refreshTokenRepository.findByUser(user)
-                .ifPresent(refreshToken -> {
-                    refreshToken.setRevoked(true);
-                    refreshTokenRepository.save(refreshToken);
-                });
+        String tokenId = claims.getId();
+        if (tokenId != null) {
+            accessTokenRevocationList.revoke(tokenId, principal.id(), LocalDateTime.ofInstant(
+                    claims.getExpiration().toInstant(), ZoneId.systemDefault()));
+        }
 
         log.info("User logged out successfully: {}", email);
     }
 
     /**
-     * Create a new refresh token for user.
+     * Get the active sessions of a user.
+     * 
+     * @param email User email
+     * @param accessToken Access token presented with the request, used to mark the current session
+     * @return List of session responses, most recently used first
+     */
+    public List<SessionResponse> getSessions(String email, String accessToken) {
+        AuthenticatedUser principal = getPrincipal(email);
+        String currentSessionId = jwtService.extractSessionId(accessToken);
+
+        return refreshTokenStore.findActiveByUser(principal.id()).stream()
+                .sorted(SESSION_RECENCY.reversed())
+                .map(session -> mapToSessionResponse(session, currentSessionId))
+                .collect(Collectors.toList());
+    }
+
+    /**
+     * Revoke one session of a user, signing that device out.
+     * 
+     * @param email User email
+     * @param sessionId Session ID
+     */
+    public void revokeSession(String email, String sessionId) {
+        log.info("Revoking session {} for user: {}", sessionId, email);
+
+        AuthenticatedUser principal = getPrincipal(email);
+        RefreshToken session = refreshTokenStore.findSession(principal.id(), sessionId)
+                .orElseThrow(() -> new ResourceNotFoundException("Session", "id", sessionId));
+
+        refreshTokenStore.revoke(session);
+    }
+
+    /**
+     * Get the principal of a signed-in user.
+     * 
+     * @param email User email
+     * @return Principal
+     * @throws ResourceNotFoundException if user not found
+     */
+    private AuthenticatedUser getPrincipal(String email) {
+        try {
+            return principalCache.getPrincipal(email);
+        } catch (UsernameNotFoundException e) {
+            throw new ResourceNotFoundException("User", "email", email);
+        }
+    }
+
+    /**
+     * Create a new refresh token for a session.
+     * 
+     * @param session Session with user and device details set
+     * @return Created refresh token string
+     */
+    private String createRefreshToken(RefreshToken session) {
+        session.setExpiryDate(LocalDateTime.now().plusSeconds(refreshTokenExpiration / 1000));
+        return refreshTokenStore.issue(session);
+    }
+
+    /**
+     * End the least recently used sessions so a new one fits within the per-user limit.
      * 
      * @param user User entity
-     * @return Created refresh token
      */
-    private RefreshToken createRefreshToken(User user) {
-        RefreshToken refreshToken = RefreshToken.builder()
-                .user(user)
-                .token(UUID.randomUUID().toString())
-                .expiryDate(LocalDateTime.now().plusSeconds(refreshTokenExpiration / 1000))
-                .revoked(false)
+    private void evictSessionsOverLimit(User user) {
+        List<RefreshToken> sessions = refreshTokenStore.findActiveByUser(user.getId());
+        int excess = sessions.size() - maxSessionsPerUser + 1;
+        if (excess <= 0) {
+            return;
+        }
+        sessions.stream()
+                .sorted(SESSION_RECENCY)
+                .limit(excess)
+                .forEach(refreshTokenStore::revoke);
+    }
+
+    /**
+     * Map a refresh token to SessionResponse DTO.
+     * 
+     * @param session Refresh token
+     * @param currentSessionId Session ID of the requesting access token
+     * @return SessionResponse DTO
+     */
+    private SessionResponse mapToSessionResponse(RefreshToken session, String currentSessionId) {
+        return SessionResponse.builder()
+                .id(session.getId())
+                .deviceName(session.getDeviceName())
+                .userAgent(session.getUserAgent())
+                .ipAddress(session.getIpAddress())
+                .createdAt(session.getCreatedAt())
+                .lastUsedAt(session.getLastUsedAt())
+                .expiryDate(session.getExpiryDate())
+                .current(session.getId().equals(currentSessionId))
                 .build();
+    }
 
-        return refreshTokenRepository.save(refreshToken);
+    /**
+     * Map a principal to UserResponse DTO, carrying the fields the principal holds.
+     * 
+     * @param principal Authenticated principal
+     * @return UserResponse DTO
+     */
+    private UserResponse mapToUserResponse(AuthenticatedUser principal) {
+        return UserResponse.builder()
+                .id(principal.id())
+                .email(principal.email())
+                .roles(principal.authorities().stream()
+                        .map(GrantedAuthority::getAuthority)
+                        .collect(Collectors.toSet()))
+                .enabled(true)
+                .build();
     }
 
     /**
@@ -236,9 +379,7 @@ public class AuthService {
                 .dateOfBirth(user.getDateOfBirth())
                 .gender(user.getGender())
                 .profilePictureUrl(user.getProfilePictureUrl())
-                .roles(user.getRoles().stream()
-                        .map(Role::getName)
-                        .collect(Collectors.toSet()))
+                .roles(Set.copyOf(user.getRoles()))
                 .enabled(user.isEnabled())
                 .createdAt(user.getCreatedAt())
                 .updatedAt(user.getUpdatedAt())
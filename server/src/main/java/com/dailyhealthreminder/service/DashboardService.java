@@ -0,0 +1,124 @@
+package com.dailyhealthreminder.service;
+
+import com.dailyhealthreminder.dto.response.DailyTrendResponse;
+import com.dailyhealthreminder.dto.response.DashboardResponse;
+import com.dailyhealthreminder.dto.response.HealthLogResponse;
+import com.dailyhealthreminder.dto.response.ReminderResponse;
+import com.dailyhealthreminder.entity.User;
+import com.dailyhealthreminder.entity.UserStats;
+import com.dailyhealthreminder.exception.ResourceNotFoundException;
+import com.dailyhealthreminder.exception.ServiceUnavailableException;
+import com.dailyhealthreminder.repository.UserRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.task.AsyncTaskExecutor;
+import org.springframework.core.task.TaskRejectedException;
+import org.springframework.stereotype.Service;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+/**
+ * Service for the dashboard summary.
+ * Resolves the user once and runs the independent queries concurrently
+ * on the bounded query executor. All of them share one deadline; when it
+ * passes, or the executor is full, the request fails fast with 503 and
+ * the queries still running are cancelled.
+ *
+ * @author Daily Health Reminder Team
+ * @version 1.0
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class DashboardService {
+
+    private static final int TREND_DAYS = 7;
+
+    private final UserRepository userRepository;
+    private final UserService userService;
+    private final UserStatsService userStatsService;
+    private final ReminderService reminderService;
+    private final HealthLogService healthLogService;
+
+    @Qualifier("queryExecutor")
+    private final AsyncTaskExecutor queryExecutor;
+
+    @Value("${dashboard.timeout-ms:5000}")
+    private long timeoutMs;
+
+    /**
+     * Build the dashboard summary for a user.
+     *
+     * @param email User email
+     * @return Dashboard response
+     */
+    public DashboardResponse getDashboard(String email) {
+        log.info("Building dashboard for user: {}", email);
+
+        User user = userRepository.findByEmail(email)
+                .orElseThrow(() -> new ResourceNotFoundException("User", "email", email));
+        LocalDate today = LocalDate.now();
+
+        List<Future<?>> submitted = new ArrayList<>();
+        try {
+            Future<List<ReminderResponse>> todayReminders =
+                    submit(submitted, () -> reminderService.getRemindersForDate(user, today));
+            Future<UserStats> stats = submit(submitted, () -> userStatsService.getStats(user));
+            Future<Map<String, HealthLogResponse>> latestHealthLogs =
+                    submit(submitted, () -> healthLogService.getLatestHealthLogs(user));
+            Future<List<DailyTrendResponse>> weeklyTrend = submit(submitted, () -> healthLogService.getDailyTrend(
+                    user, today.minusDays(TREND_DAYS - 1).atStartOfDay(), today.plusDays(1).atStartOfDay()));
+
+            long deadline = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(timeoutMs);
+            UserStats userStats = await(stats, deadline);
+            return DashboardResponse.builder()
+                    .date(today)
+                    .profile(userService.getUserProfile(user))
+                    .todayReminders(await(todayReminders, deadline))
+                    .reminderCount(userStats.getReminderCount())
+                    .reminderCountsByType(userStats.getReminderCountsByType())
+                    .healthLogCount(userStats.getHealthLogCount())
+                    .healthLogCountsByType(userStats.getHealthLogCountsByType())
+                    .latestHealthLogs(await(latestHealthLogs, deadline))
+                    .weeklyTrend(await(weeklyTrend, deadline))
+                    .build();
+        } catch (TaskRejectedException e) {
+            throw new ServiceUnavailableException("Dashboard is busy, please retry", e);
+        } finally {
+            // Stop queries still running after a timeout or failure, freeing their threads and connections
+            submitted.forEach(future -> future.cancel(true));
+        }
+    }
+
+    private <T> Future<T> submit(List<Future<?>> submitted, Callable<T> query) {
+        Future<T> future = queryExecutor.submit(query);
+        submitted.add(future);
+        return future;
+    }
+
+    private static <T> T await(Future<T> future, long deadline) {
+        try {
+            return future.get(Math.max(0, deadline - System.nanoTime()), TimeUnit.NANOSECONDS);
+        } catch (TimeoutException e) {
+            throw new ServiceUnavailableException("Dashboard took too long to load, please retry");
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new ServiceUnavailableException("Dashboard loading was interrupted", e);
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof RuntimeException runtimeException) {
+                throw runtimeException;
+            }
+            throw new IllegalStateException(e.getCause());
+        }
+    }
+}
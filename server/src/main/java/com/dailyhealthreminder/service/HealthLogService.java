@@ -1,25 +1,45 @@
 package com.dailyhealthreminder.service;
 
 import com.dailyhealthreminder.dto.request.HealthLogRequest;
+import com.dailyhealthreminder.dto.response.DailyTrendResponse;
 import com.dailyhealthreminder.dto.response.HealthLogResponse;
 import com.dailyhealthreminder.entity.HealthLog;
 import com.dailyhealthreminder.entity.User;
 import com.dailyhealthreminder.exception.ResourceNotFoundException;
 import com.dailyhealthreminder.exception.UnauthorizedException;
+import com.dailyhealthreminder.metrics.Timed;
 import com.dailyhealthreminder.repository.HealthLogRepository;
 import com.dailyhealthreminder.repository.UserRepository;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.bson.Document;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Sort;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.aggregation.Aggregation;
+import org.springframework.data.mongodb.core.aggregation.AggregationOptions;
+import org.springframework.data.mongodb.core.aggregation.DateOperators;
+import org.springframework.data.mongodb.core.aggregation.TypedAggregation;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.time.LocalDate;
 import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.Comparator;
 import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.function.Supplier;
 import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 /**
  * Service for health log operations.
@@ -29,12 +49,20 @@ import java.util.stream.Collectors;
  * @version 1.0
  */
 @Service
+@Timed
 @RequiredArgsConstructor
 @Slf4j
 public class HealthLogService {
 
     private final HealthLogRepository healthLogRepository;
+    private final MongoTemplate mongoTemplate;
+    @Qualifier("analyticsMongoTemplate")
+    private final MongoTemplate analyticsMongoTemplate;
     private final UserRepository userRepository;
+    private final UserStatsService userStatsService;
+
+    @Value("${streaming.cursor-batch-size:500}")
+    private int streamBatchSize;
 
     /**
      * Create a new health log entry.
@@ -64,6 +92,7 @@ public class HealthLogService {
                 .build();
 
         HealthLog savedLog = healthLogRepository.save(healthLog);
+        userStatsService.recordHealthLogCreated(user, savedLog.getLogType());
         log.info("Health log created successfully with ID: {}", savedLog.getId());
 
         return mapToHealthLogResponse(savedLog);
@@ -205,6 +234,8 @@ public class HealthLogService {
             throw new UnauthorizedException("You are not authorized to update this health log");
         }
 
+        String previousLogType = healthLog.getLogType();
+
         // Update fields
         if (request.getLogType() != null) {
             healthLog.setLogType(request.getLogType());
@@ -235,6 +266,7 @@ public class HealthLogService {
         }
 
         HealthLog updatedLog = healthLogRepository.save(healthLog);
+        userStatsService.recordHealthLogTypeChanged(updatedLog.getUser(), previousLogType, updatedLog.getLogType());
         log.info("Health log updated successfully with ID: {}", updatedLog.getId());
 
         return mapToHealthLogResponse(updatedLog);
@@ -259,6 +291,7 @@ public class HealthLogService {
         }
 
         healthLogRepository.delete(healthLog);
+        userStatsService.recordHealthLogDeleted(healthLog.getUser(), healthLog.getLogType());
         log.info("Health log deleted successfully with ID: {}", logId);
     }
 
@@ -273,7 +306,7 @@ public class HealthLogService {
         User user = userRepository.findByEmail(email)
                 .orElseThrow(() -> new ResourceNotFoundException("User", "email", email));
 
-        return healthLogRepository.countByUser(user);
+        return userStatsService.getStats(user).getHealthLogCount();
     }
 
     /**
@@ -288,7 +321,167 @@ public class HealthLogService {
         User user = userRepository.findByEmail(email)
                 .orElseThrow(() -> new ResourceNotFoundException("User", "email", email));
 
-        return healthLogRepository.countByUserAndLogType(user, logType);
+        return userStatsService.getStats(user).getHealthLogCountsByType().getOrDefault(logType, 0L);
+    }
+
+    /**
+     * Get the most recent health log of each type for a user.
+     * 
+     * @param email User email
+     * @return Latest health log response per log type
+     */
+    @Transactional(readOnly = true)
+    public Map<String, HealthLogResponse> getLatestHealthLogs(String email) {
+        log.info("Getting latest health logs per type for user: {}", email);
+
+        User user = userRepository.findByEmail(email)
+                .orElseThrow(() -> new ResourceNotFoundException("User", "email", email));
+
+        return getLatestHealthLogs(user);
+    }
+
+    /**
+     * Get the most recent health log of each type for a user.
+     * The $sort matches the user_logType_logDate_idx index so that the
+     * $group/$first runs as a distinct scan, reading one entry per type
+     * instead of the whole history; RepositoryQueryPlanTest asserts the
+     * plan.
+     * 
+     * @param user User entity
+     * @return Latest health log response per log type
+     */
+    @Transactional(readOnly = true)
+    public Map<String, HealthLogResponse> getLatestHealthLogs(User user) {
+        TypedAggregation<HealthLog> aggregation = Aggregation.newAggregation(HealthLog.class,
+                Aggregation.match(Criteria.where("user").is(user)),
+                Aggregation.sort(Sort.by(Sort.Direction.ASC, "logType").and(Sort.by(Sort.Direction.DESC, "logDate"))),
+                Aggregation.group("logType").first(Aggregation.ROOT).as("latest"),
+                context -> new Document("$replaceRoot", new Document("newRoot", "$latest")),
+                // The owner is already known, so skip resolving the DBRef for every type
+                context -> new Document("$project", new Document("user", 0)));
+
+        Map<String, HealthLogResponse> latest = new TreeMap<>();
+        for (HealthLog healthLog : mongoTemplate.aggregate(aggregation, HealthLog.class)) {
+            healthLog.setUser(user);
+            latest.put(healthLog.getLogType(), mapToHealthLogResponse(healthLog));
+        }
+        return latest;
+    }
+
+    /**
+     * Get daily aggregates per log type within a date range.
+     * Days are computed in the server's time zone. Runs on the analytics
+     * connection pool, like the streamed reads.
+     * 
+     * @param user User entity
+     * @param startDate Start date (inclusive)
+     * @param endDate End date (exclusive)
+     * @return Daily trend entries ordered by date and log type
+     */
+    @Transactional(readOnly = true)
+    public List<DailyTrendResponse> getDailyTrend(User user, LocalDateTime startDate, LocalDateTime endDate) {
+        TypedAggregation<HealthLog> aggregation = Aggregation.newAggregation(HealthLog.class,
+                Aggregation.match(Criteria.where("user").is(user).and("logDate").gte(startDate).lt(endDate)),
+                Aggregation.project("logType", "value")
+                        .and(DateOperators.dateOf("logDate")
+                                .withTimezone(DateOperators.Timezone.valueOf(ZoneId.systemDefault().getId()))
+                                .toString("%Y-%m-%d"))
+                        .as("day"),
+                Aggregation.group("day", "logType")
+                        .count().as("count")
+                        .sum("value").as("totalValue")
+                        .avg("value").as("averageValue"));
+
+        List<DailyTrendResponse> trend = new ArrayList<>();
+        for (Document result : analyticsMongoTemplate.aggregate(aggregation, Document.class)) {
+            trend.add(toDailyTrend(result));
+        }
+        trend.sort(Comparator.comparing(DailyTrendResponse::getDate)
+                .thenComparing(DailyTrendResponse::getLogType, Comparator.nullsFirst(Comparator.naturalOrder())));
+        return trend;
+    }
+
+    /**
+     * Stream the health logs of a user within a date range, newest first.
+     * The user is resolved immediately; the returned supplier opens the
+     * cursor, and documents are then fetched in batches as the stream is
+     * consumed, so memory does not grow with the size of the range. The
+     * caller must close each stream it opens.
+     * 
+     * @param email User email
+     * @param logType Log type, or null for all types
+     * @param startDate Start date
+     * @param endDate End date
+     * @return Supplier opening a stream of health log responses, backed by a cursor
+     */
+    public Supplier<Stream<HealthLogResponse>> streamHealthLogs(
+            String email, String logType, LocalDateTime startDate, LocalDateTime endDate) {
+        User user = userRepository.findByEmail(email)
+                .orElseThrow(() -> new ResourceNotFoundException("User", "email", email));
+
+        Criteria criteria = Criteria.where("user").is(user).and("logDate").gte(startDate).lte(endDate);
+        if (logType != null) {
+            criteria.and("logType").is(logType);
+        }
+        Query query = new Query(criteria)
+                .with(Sort.by(Sort.Direction.DESC, "logDate"))
+                .cursorBatchSize(streamBatchSize);
+        // The owner is known, skip resolving the DBRef once per document
+        query.fields().exclude("user");
+
+        return () -> analyticsMongoTemplate.stream(query, HealthLog.class)
+                .map(healthLog -> {
+                    healthLog.setUser(user);
+                    return mapToHealthLogResponse(healthLog);
+                });
+    }
+
+    /**
+     * Stream the daily aggregates per log type within a date range, ordered
+     * by date and log type. Like {@link #getDailyTrend} but sorted by the
+     * database and read through a cursor opened by the returned supplier.
+     * The caller must close each stream it opens.
+     * 
+     * @param email User email
+     * @param startDate Start date (inclusive)
+     * @param endDate End date (exclusive)
+     * @return Supplier opening a stream of daily trend entries, backed by a cursor
+     */
+    public Supplier<Stream<DailyTrendResponse>> streamDailyTrend(String email, LocalDateTime startDate, LocalDateTime endDate) {
+        User user = userRepository.findByEmail(email)
+                .orElseThrow(() -> new ResourceNotFoundException("User", "email", email));
+
+        TypedAggregation<HealthLog> aggregation = Aggregation.newAggregation(HealthLog.class,
+                Aggregation.match(Criteria.where("user").is(user).and("logDate").gte(startDate).lt(endDate)),
+                Aggregation.project("logType", "value")
+                        .and(DateOperators.dateOf("logDate")
+                                .withTimezone(DateOperators.Timezone.valueOf(ZoneId.systemDefault().getId()))
+                                .toString("%Y-%m-%d"))
+                        .as("day"),
+                Aggregation.group("day", "logType")
+                        .count().as("count")
+                        .sum("value").as("totalValue")
+                        .avg("value").as("averageValue"),
+                Aggregation.sort(Sort.by("_id.day", "_id.logType")))
+                .withOptions(AggregationOptions.builder().cursorBatchSize(streamBatchSize).build());
+
+        return () -> analyticsMongoTemplate.aggregateStream(aggregation, Document.class)
+                .map(HealthLogService::toDailyTrend);
+    }
+
+    private static DailyTrendResponse toDailyTrend(Document result) {
+        Document id = result.get("_id", Document.class);
+        return DailyTrendResponse.builder()
+                .date(LocalDate.parse(id.getString("day")))
+                .logType(id.getString("logType"))
+                .count(((Number) result.get("count")).longValue())
+                .totalValue(toDouble(result.get("totalValue")))
+                .averageValue(toDouble(result.get("averageValue")))
+                .build();
+    }
+
+    private static Double toDouble(Object value) {
+        return value instanceof Number number ? number.doubleValue() : null;
     }
 
     /**
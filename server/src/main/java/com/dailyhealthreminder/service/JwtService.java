@@ -1,9 +1,14 @@
 package com.dailyhealthreminder.service;
 
+import com.dailyhealthreminder.metrics.RequestTimings;
+import com.dailyhealthreminder.security.AuthenticatedUser;
 import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.JwtParser;
 import io.jsonwebtoken.Jwts;
 import io.jsonwebtoken.io.Decoders;
 import io.jsonwebtoken.security.Keys;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.stereotype.Service;
@@ -12,11 +17,15 @@ import javax.crypto.SecretKey;
 import java.util.Date;
 import java.util.HashMap;
 import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
 import java.util.function.Function;
 
 /**
  * Service for JWT token generation and validation.
- * Handles all JWT-related operations.
+ * Handles all JWT-related operations. Callers needing several claims of a
+ * token parse it once with {@link #parseClaims(String)}, since every parse
+ * verifies the signature again.
  * 
  * @author Daily Health Reminder Team
  * @version 1.0
@@ -24,12 +33,33 @@ import java.util.function.Function;
 @Service
 public class JwtService {
 
+    private static final String SESSION_ID_CLAIM = "sid";
+
     @Value("${jwt.secret}")
     private String secretKey;
 
     @Value("${jwt.expiration}")
     private Long jwtExpiration;
 
+    private final Timer jwtVerifyTimer;
+
+    /**
+     * Derived from the secret on first use; racing initialisations produce equal instances.
+     */
+    private volatile SecretKey signingKey;
+    private volatile JwtParser parser;
+
+    /**
+     * Constructor with meter registry.
+     * 
+     * @param meterRegistry Meter registry
+     */
+    public JwtService(MeterRegistry meterRegistry) {
+        this.jwtVerifyTimer = Timer.builder("jwt.verify")
+                .description("Duration of JWT signature verification and parsing")
+                .register(meterRegistry);
+    }
+
     /**
      * Extract username from JWT token.
      * 
@@ -40,6 +70,62 @@ public class JwtService {
         return extractClaim(token, Claims::getSubject);
     }
 
+    /**
+     * Extract token ID (jti) from JWT token.
+     * 
+     * @param token JWT token
+     * @return Token ID, or null for tokens issued without one
+     */
+    public String extractTokenId(String token) {
+        return extractClaim(token, Claims::getId);
+    }
+
+    /**
+     * Extract session ID from JWT token.
+     * 
+     * @param token JWT token
+     * @return ID of the refresh token session, or null for tokens issued without one
+     */
+    public String extractSessionId(String token) {
+        return extractSessionId(parseClaims(token));
+    }
+
+    /**
+     * Extract session ID from parsed claims.
+     * 
+     * @param claims Verified claims
+     * @return ID of the refresh token session, or null for tokens issued without one
+     */
+    public String extractSessionId(Claims claims) {
+        return claims.get(SESSION_ID_CLAIM, String.class);
+    }
+
+    /**
+     * Generate JWT token for a user session.
+     * 
+     * @param userDetails User details
+     * @param sessionId ID of the refresh token session the token belongs to
+     * @return JWT token
+     */
+    public String generateToken(UserDetails userDetails, String sessionId) {
+        Map<String, Object> claims = new HashMap<>();
+        claims.put(SESSION_ID_CLAIM, sessionId);
+        return generateToken(claims, userDetails);
+    }
+
+    /**
+     * Generate JWT token for a session of an authenticated principal.
+     * 
+     * @param principal Authenticated principal
+     * @param sessionId ID of the refresh token session the token belongs to
+     * @return JWT token
+     */
+    public String generateToken(AuthenticatedUser principal, String sessionId) {
+        Map<String, Object> claims = new HashMap<>();
+        claims.put(SESSION_ID_CLAIM, sessionId);
+        return buildToken(claims, principal.getName(), jwtExpiration);
+    }
+
     /**
      * Extract a specific claim from JWT token.
      * 
@@ -49,7 +135,7 @@ public class JwtService {
      * @return Claim value
      */
     public <T> T extractClaim(String token, Function<Claims, T> claimsResolver) {
-        final Claims claims = extractAllClaims(token);
+        final Claims claims = parseClaims(token);
         return claimsResolver.apply(claims);
     }
 
@@ -71,24 +157,25 @@ public class JwtService {
      * @return JWT token
      */
     public String generateToken(Map<String, Object> extraClaims, UserDetails userDetails) {
-        return buildToken(extraClaims, userDetails, jwtExpiration);
+        return buildToken(extraClaims, userDetails.getUsername(), jwtExpiration);
     }
 
     /**
      * Build JWT token.
      * 
      * @param extraClaims Additional claims
-     * @param userDetails User details
+     * @param subject Username the token is issued to
      * @param expiration Expiration time
      * @return JWT token
      */
     private String buildToken(
             Map<String, Object> extraClaims,
-            UserDetails userDetails,
+            String subject,
             long expiration) {
         return Jwts.builder()
                 .claims(extraClaims)
-                .subject(userDetails.getUsername())
+                .id(UUID.randomUUID().toString())
+                .subject(subject)
                 .issuedAt(new Date(System.currentTimeMillis()))
                 .expiration(new Date(System.currentTimeMillis() + expiration))
                 .signWith(getSignInKey())
@@ -103,18 +190,29 @@ public class JwtService {
      * @return true if token is valid
      */
     public boolean isTokenValid(String token, UserDetails userDetails) {
-        final String username = extractUsername(token);
-        return (username.equals(userDetails.getUsername())) && !isTokenExpired(token);
+        return isTokenValid(token, userDetails.getUsername());
     }
 
     /**
-     * Check if JWT token is expired.
+     * Validate JWT token against a username.
      * 
      * @param token JWT token
-     * @return true if token is expired
+     * @param username Expected username (email)
+     * @return true if token is valid
      */
-    private boolean isTokenExpired(String token) {
-        return extractExpiration(token).before(new Date());
+    public boolean isTokenValid(String token, String username) {
+        return isTokenValid(parseClaims(token), username);
+    }
+
+    /**
+     * Validate parsed claims against a username.
+     * 
+     * @param claims Verified claims
+     * @param username Expected username (email)
+     * @return true if the claims are for the user and not expired
+     */
+    public boolean isTokenValid(Claims claims, String username) {
+        return username.equals(claims.getSubject()) && !claims.getExpiration().before(new Date());
     }
 
     /**
@@ -123,22 +221,28 @@ public class JwtService {
      * @param token JWT token
      * @return Expiration date
      */
-    private Date extractExpiration(String token) {
+    public Date extractExpiration(String token) {
         return extractClaim(token, Claims::getExpiration);
     }
 
     /**
-     * Extract all claims from JWT token.
+     * Verify a JWT token and extract all its claims.
      * 
      * @param token JWT token
      * @return All claims
+     * @throws io.jsonwebtoken.JwtException if the token is malformed, forged or expired
      */
-    private Claims extractAllClaims(String token) {
-        return Jwts.parser()
-                .verifyWith(getSignInKey())
-                .build()
-                .parseSignedClaims(token)
-                .getPayload();
+    public Claims parseClaims(String token) {
+        long start = System.nanoTime();
+        try {
+            return getParser()
+                    .parseSignedClaims(token)
+                    .getPayload();
+        } finally {
+            long elapsed = System.nanoTime() - start;
+            jwtVerifyTimer.record(elapsed, TimeUnit.NANOSECONDS);
+            RequestTimings.record(RequestTimings.Phase.JWT, elapsed);
+        }
     }
 
     /**
@@ -147,8 +251,26 @@ public class JwtService {
      * @return Secret key
      */
     private SecretKey getSignInKey() {
-        byte[] keyBytes = Decoders.BASE64.decode(secretKey);
-        return Keys.hmacShaKeyFor(keyBytes);
+        SecretKey key = signingKey;
+        if (key == null) {
+            key = Keys.hmacShaKeyFor(Decoders.BASE64.decode(secretKey));
+            signingKey = key;
+        }
+        return key;
+    }
+
+    /**
+     * Get the parser verifying with the signing key; parsers are thread-safe.
+     * 
+     * @return JWT parser
+     */
+    private JwtParser getParser() {
+        JwtParser current = parser;
+        if (current == null) {
+            current = Jwts.parser().verifyWith(getSignInKey()).build();
+            parser = current;
+        }
+        return current;
     }
 
     /**
@@ -1,5 +1,6 @@
 package com.dailyhealthreminder.service;
 
+import com.dailyhealthreminder.cache.ReminderCache;
 import com.dailyhealthreminder.dto.request.ReminderRequest;
 import com.dailyhealthreminder.dto.response.ReminderResponse;
 import com.dailyhealthreminder.entity.Reminder;
@@ -7,13 +8,18 @@ import com.dailyhealthreminder.entity.User;
 import com.dailyhealthreminder.exception.BadRequestException;
 import com.dailyhealthreminder.exception.ResourceNotFoundException;
 import com.dailyhealthreminder.exception.UnauthorizedException;
+import com.dailyhealthreminder.metrics.ReminderDispatchEvent;
+import com.dailyhealthreminder.metrics.ServiceOperationEvent;
+import com.dailyhealthreminder.metrics.Timed;
 import com.dailyhealthreminder.repository.ReminderRepository;
 import com.dailyhealthreminder.repository.UserRepository;
+import com.dailyhealthreminder.util.ReminderSchedule;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.util.List;
 import java.util.stream.Collectors;
@@ -26,12 +32,15 @@ import java.util.stream.Collectors;
  * @version 1.0
  */
 @Service
+@Timed
 @RequiredArgsConstructor
 @Slf4j
 public class ReminderService {
 
     private final ReminderRepository reminderRepository;
     private final UserRepository userRepository;
+    private final UserStatsService userStatsService;
+    private final ReminderCache reminderCache;
 
     /**
      * Create a new reminder for a user.
@@ -66,6 +75,8 @@ public class ReminderService {
                 .build();
 
         Reminder savedReminder = reminderRepository.save(reminder);
+        reminderCache.invalidateUser(user.getId());
+        userStatsService.recordReminderCreated(user, savedReminder.getReminderType());
         log.info("Reminder created successfully with ID: {}", savedReminder.getId());
 
         return mapToReminderResponse(savedReminder);
@@ -84,9 +95,7 @@ public class ReminderService {
         User user = userRepository.findByEmail(email)
                 .orElseThrow(() -> new ResourceNotFoundException("User", "email", email));
 
-        List<Reminder> reminders = reminderRepository.findByUserOrderByReminderTimeAsc(user);
-
-        return reminders.stream()
+        return getCachedReminders(user).stream()
                 .map(this::mapToReminderResponse)
                 .collect(Collectors.toList());
     }
@@ -104,11 +113,37 @@ public class ReminderService {
         User user = userRepository.findByEmail(email)
                 .orElseThrow(() -> new ResourceNotFoundException("User", "email", email));
 
-        List<Reminder> reminders = reminderRepository.findByUserAndIsActive(user, true);
+        return getCachedReminders(user).stream()
+                .filter(Reminder::isActive)
+                .map(this::mapToReminderResponse)
+                .collect(Collectors.toList());
+    }
 
-        return reminders.stream()
+    /**
+     * Get the reminders of a user that fire on a given date.
+     * 
+     * @param user User entity
+     * @param date Date to check
+     * @return List of reminder responses ordered by reminder time
+     */
+    @Transactional(readOnly = true)
+    public List<ReminderResponse> getRemindersForDate(User user, LocalDate date) {
+        ReminderDispatchEvent event = new ReminderDispatchEvent();
+        event.begin();
+        List<Reminder> reminders = getCachedReminders(user);
+        List<ReminderResponse> due = reminders.stream()
+                .filter(reminder -> ReminderSchedule.occursOn(reminder, date))
                 .map(this::mapToReminderResponse)
                 .collect(Collectors.toList());
+        event.end();
+        if (event.shouldCommit()) {
+            event.userIdHash = ServiceOperationEvent.hashUserId(user.getId());
+            event.date = date.toString();
+            event.remindersConsidered = reminders.size();
+            event.remindersDue = due.size();
+            event.commit();
+        }
+        return due;
     }
 
     /**
@@ -125,9 +160,8 @@ public class ReminderService {
         User user = userRepository.findByEmail(email)
                 .orElseThrow(() -> new ResourceNotFoundException("User", "email", email));
 
-        List<Reminder> reminders = reminderRepository.findByUserAndReminderType(user, reminderType);
-
-        return reminders.stream()
+        return getCachedReminders(user).stream()
+                .filter(reminder -> reminderType.equals(reminder.getReminderType()))
                 .map(this::mapToReminderResponse)
                 .collect(Collectors.toList());
     }
@@ -177,6 +211,8 @@ public class ReminderService {
         // Validate request
         validateReminderRequest(request);
 
+        String previousReminderType = reminder.getReminderType();
+
         // Update fields
         if (request.getTitle() != null) {
             reminder.setTitle(request.getTitle());
@@ -213,6 +249,9 @@ public class ReminderService {
         }
 
         Reminder updatedReminder = reminderRepository.save(reminder);
+        reminderCache.invalidateUser(updatedReminder.getUser().getId());
+        userStatsService.recordReminderTypeChanged(
+                updatedReminder.getUser(), previousReminderType, updatedReminder.getReminderType());
         log.info("Reminder updated successfully with ID: {}", updatedReminder.getId());
 
         return mapToReminderResponse(updatedReminder);
@@ -239,6 +278,7 @@ public class ReminderService {
 
         reminder.setActive(!reminder.isActive());
         Reminder updatedReminder = reminderRepository.save(reminder);
+        reminderCache.invalidateUser(updatedReminder.getUser().getId());
 
         log.info("Reminder status toggled to: {}", updatedReminder.isActive());
         return mapToReminderResponse(updatedReminder);
@@ -263,6 +303,8 @@ public class ReminderService {
         }
 
         reminderRepository.delete(reminder);
+        reminderCache.invalidateUser(reminder.getUser().getId());
+        userStatsService.recordReminderDeleted(reminder.getUser(), reminder.getReminderType());
         log.info("Reminder deleted successfully with ID: {}", reminderId);
     }
 
@@ -277,7 +319,18 @@ public class ReminderService {
         User user = userRepository.findByEmail(email)
                 .orElseThrow(() -> new ResourceNotFoundException("User", "email", email));
 
-        return reminderRepository.countByUser(user);
+        return userStatsService.getStats(user).getReminderCount();
+    }
+
+    /**
+     * Get all reminders of a user ordered by reminder time, from the cache when possible.
+     * 
+     * @param user User entity
+     * @return Unmodifiable list of reminders
+     */
+    private List<Reminder> getCachedReminders(User user) {
+        return reminderCache.getReminders(user.getId(),
+                () -> reminderRepository.findByUserOrderByReminderTimeAsc(user));
     }
 
     /**
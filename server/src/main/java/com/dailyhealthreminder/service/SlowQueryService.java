@@ -0,0 +1,94 @@
+package com.dailyhealthreminder.service;
+
+import com.dailyhealthreminder.dto.response.SlowQueryResponse;
+import com.dailyhealthreminder.entity.SlowQuery;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.bson.Document;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.aggregation.Aggregation;
+import org.springframework.data.mongodb.core.aggregation.TypedAggregation;
+import org.springframework.stereotype.Service;
+
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.List;
+
+/**
+ * Service for reporting captured slow queries.
+ * Reports aggregate the whole capture, so they run on the analytics
+ * connection pool.
+ *
+ * @author Daily Health Reminder Team
+ * @version 1.0
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class SlowQueryService {
+
+    private static final int MAX_LIMIT = 200;
+
+    @Qualifier("analyticsMongoTemplate")
+    private final MongoTemplate mongoTemplate;
+
+    /**
+     * Get the query shapes that spent the most time in slow executions.
+     * Plan fields and caller are taken from the latest sample of each shape.
+     *
+     * @param limit Maximum number of shapes, capped at {@value #MAX_LIMIT}
+     * @return Slow query shapes ordered by total time, descending
+     */
+    public List<SlowQueryResponse> getTopSlowQueries(int limit) {
+        TypedAggregation<SlowQuery> aggregation = Aggregation.newAggregation(SlowQuery.class,
+                Aggregation.sort(Sort.by(Sort.Direction.ASC, "capturedAt")),
+                Aggregation.group("fingerprint")
+                        .count().as("count")
+                        .sum("durationMs").as("totalMs")
+                        .avg("durationMs").as("averageMs")
+                        .max("durationMs").as("maxMs")
+                        .last("command").as("command")
+                        .last("collection").as("collection")
+                        .last("caller").as("caller")
+                        .last("scanType").as("scanType")
+                        .last("planSummary").as("planSummary")
+                        .last("docsExamined").as("docsExamined")
+                        .last("keysExamined").as("keysExamined")
+                        .last("docsReturned").as("docsReturned")
+                        .last("capturedAt").as("lastSeenAt"),
+                Aggregation.sort(Sort.by(Sort.Direction.DESC, "totalMs")),
+                Aggregation.limit(Math.max(1, Math.min(limit, MAX_LIMIT))));
+
+        List<SlowQueryResponse> slowQueries = new ArrayList<>();
+        for (Document result : mongoTemplate.aggregate(aggregation, Document.class)) {
+            Date lastSeenAt = result.getDate("lastSeenAt");
+            slowQueries.add(SlowQueryResponse.builder()
+                    .fingerprint(result.getString("_id"))
+                    .command(result.getString("command"))
+                    .collection(result.getString("collection"))
+                    .caller(result.getString("caller"))
+                    .count(((Number) result.get("count")).longValue())
+                    .totalMs(((Number) result.get("totalMs")).doubleValue())
+                    .averageMs(((Number) result.get("averageMs")).doubleValue())
+                    .maxMs(((Number) result.get("maxMs")).doubleValue())
+                    .scanType(result.getString("scanType"))
+                    .planSummary(result.getString("planSummary"))
+                    .docsExamined(toLong(result.get("docsExamined")))
+                    .keysExamined(toLong(result.get("keysExamined")))
+                    .docsReturned(toLong(result.get("docsReturned")))
+                    .lastSeenAt(lastSeenAt != null
+                            ? LocalDateTime.ofInstant(lastSeenAt.toInstant(), ZoneId.systemDefault())
+                            : null)
+                    .build());
+        }
+        return slowQueries;
+    }
+
+    private static Long toLong(Object value) {
+        return value instanceof Number number ? number.longValue() : null;
+    }
+}
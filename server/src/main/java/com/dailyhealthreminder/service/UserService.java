@@ -1,10 +1,13 @@
 package com.dailyhealthreminder.service;
 
+import com.dailyhealthreminder.cache.ReminderCache;
 import com.dailyhealthreminder.dto.response.UserResponse;
-import com.dailyhealthreminder.entity.Role;
 import com.dailyhealthreminder.entity.User;
 import com.dailyhealthreminder.exception.ResourceNotFoundException;
+import com.dailyhealthreminder.metrics.Timed;
 import com.dailyhealthreminder.repository.UserRepository;
+import com.dailyhealthreminder.security.PrincipalCache;
+import com.dailyhealthreminder.security.RefreshTokenStore;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.security.core.userdetails.UserDetails;
@@ -13,7 +16,7 @@ import org.springframework.security.core.userdetails.UsernameNotFoundException;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
-import java.util.stream.Collectors;
+import java.util.Set;
 
 /**
  * Service for user operations.
@@ -23,11 +26,16 @@ import java.util.stream.Collectors;
  * @version 1.0
  */
 @Service
+@Timed
 @RequiredArgsConstructor
 @Slf4j
 public class UserService implements UserDetailsService {
 
     private final UserRepository userRepository;
+    private final UserStatsService userStatsService;
+    private final ReminderCache reminderCache;
+    private final RefreshTokenStore refreshTokenStore;
+    private final PrincipalCache principalCache;
 
     /**
      * Load user by username (email) for Spring Security.
@@ -58,6 +66,16 @@ public class UserService implements UserDetailsService {
         return mapToUserResponse(user);
     }
 
+    /**
+     * Get user profile of an already loaded user.
+     * 
+     * @param user User entity
+     * @return UserResponse DTO
+     */
+    public UserResponse getUserProfile(User user) {
+        return mapToUserResponse(user);
+    }
+
     /**
      * Get user by ID.
      * 
@@ -140,6 +158,10 @@ public class UserService implements UserDetailsService {
                 .orElseThrow(() -> new ResourceNotFoundException("User", "email", email));
 
         userRepository.delete(user);
+        userStatsService.deleteStats(user);
+        reminderCache.invalidateUser(user.getId());
+        refreshTokenStore.deleteAllForUser(user.getId());
+        principalCache.invalidateUser(user.getId());
         log.info("User account deleted successfully: {}", email);
     }
 
@@ -158,9 +180,7 @@ public class UserService implements UserDetailsService {
                 .dateOfBirth(user.getDateOfBirth())
                 .gender(user.getGender())
                 .profilePictureUrl(user.getProfilePictureUrl())
-                .roles(user.getRoles().stream()
-                        .map(Role::getName)
-                        .collect(Collectors.toSet()))
+                .roles(Set.copyOf(user.getRoles()))
                 .enabled(user.isEnabled())
                 .createdAt(user.getCreatedAt())
                 .updatedAt(user.getUpdatedAt())
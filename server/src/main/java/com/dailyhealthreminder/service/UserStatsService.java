@@ -0,0 +1,345 @@
+package com.dailyhealthreminder.service;
+
+import com.dailyhealthreminder.entity.HealthLog;
+import com.dailyhealthreminder.entity.Reminder;
+import com.dailyhealthreminder.entity.User;
+import com.dailyhealthreminder.entity.UserStats;
+import com.dailyhealthreminder.repository.UserStatsRepository;
+import com.mongodb.client.result.UpdateResult;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.bson.Document;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.aggregation.Aggregation;
+import org.springframework.data.mongodb.core.aggregation.TypedAggregation;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.core.query.Update;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.time.LocalDateTime;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Objects;
+import java.util.stream.Stream;
+
+/**
+ * Service for per-user counters.
+ * Keeps the user_stats document in sync with health logs and reminders
+ * using atomic $inc updates, and periodically reconciles any drift.
+ *
+ * @author Daily Health Reminder Team
+ * @version 1.0
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class UserStatsService {
+
+    private static final String HEALTH_LOG_COUNT = "healthLogCount";
+    private static final String HEALTH_LOG_COUNTS_BY_TYPE = "healthLogCountsByType";
+    private static final String REMINDER_COUNT = "reminderCount";
+    private static final String REMINDER_COUNTS_BY_TYPE = "reminderCountsByType";
+    private static final String UPDATED_AT = "updatedAt";
+    private static final String RECONCILED_AT = "reconciledAt";
+    private static final String VERSION = "version";
+    private static final int RECONCILE_ATTEMPTS = 3;
+
+    private final MongoTemplate mongoTemplate;
+    private final UserStatsRepository userStatsRepository;
+
+    @Value("${stats.reconciliation.enabled:true}")
+    private boolean reconciliationEnabled;
+
+    /**
+     * Record that a health log was created.
+     *
+     * @param user Owner of the health log
+     * @param logType Log type
+     */
+    public void recordHealthLogCreated(User user, String logType) {
+        increment(user, HEALTH_LOG_COUNT, HEALTH_LOG_COUNTS_BY_TYPE, logType, 1);
+    }
+
+    /**
+     * Record that a health log was deleted.
+     *
+     * @param user Owner of the health log
+     * @param logType Log type
+     */
+    public void recordHealthLogDeleted(User user, String logType) {
+        increment(user, HEALTH_LOG_COUNT, HEALTH_LOG_COUNTS_BY_TYPE, logType, -1);
+    }
+
+    /**
+     * Record that a health log moved from one type to another.
+     *
+     * @param user Owner of the health log
+     * @param oldType Previous log type
+     * @param newType New log type
+     */
+    public void recordHealthLogTypeChanged(User user, String oldType, String newType) {
+        moveType(user, HEALTH_LOG_COUNTS_BY_TYPE, oldType, newType);
+    }
+
+    /**
+     * Record that a reminder was created.
+     *
+     * @param user Owner of the reminder
+     * @param reminderType Reminder type
+     */
+    public void recordReminderCreated(User user, String reminderType) {
+        increment(user, REMINDER_COUNT, REMINDER_COUNTS_BY_TYPE, reminderType, 1);
+    }
+
+    /**
+     * Record that a reminder was deleted.
+     *
+     * @param user Owner of the reminder
+     * @param reminderType Reminder type
+     */
+    public void recordReminderDeleted(User user, String reminderType) {
+        increment(user, REMINDER_COUNT, REMINDER_COUNTS_BY_TYPE, reminderType, -1);
+    }
+
+    /**
+     * Record that a reminder moved from one type to another.
+     *
+     * @param user Owner of the reminder
+     * @param oldType Previous reminder type
+     * @param newType New reminder type
+     */
+    public void recordReminderTypeChanged(User user, String oldType, String newType) {
+        moveType(user, REMINDER_COUNTS_BY_TYPE, oldType, newType);
+    }
+
+    /**
+     * Get the counters for a user.
+     * Users without a stats document (created before counters existed)
+     * are reconciled on first access.
+     *
+     * @param user User entity
+     * @return User stats with decoded type keys
+     */
+    public UserStats getStats(User user) {
+        UserStats stats = userStatsRepository.findById(user.getId())
+                .orElseGet(() -> reconcile(user));
+        stats.setHealthLogCountsByType(decodeKeys(stats.getHealthLogCountsByType()));
+        stats.setReminderCountsByType(decodeKeys(stats.getReminderCountsByType()));
+        return stats;
+    }
+
+    /**
+     * Recompute the counters of a user from the source collections and
+     * overwrite the stats document if it has drifted.
+     * The overwrite only applies if no increment landed since the document
+     * was read, otherwise the counts are taken again; a user whose counters
+     * keep changing is left to the next run.
+     *
+     * @param user User entity
+     * @return Reconciled stats (keys still encoded)
+     */
+    public UserStats reconcile(User user) {
+        UserStats actual = null;
+        for (int attempt = 0; attempt < RECONCILE_ATTEMPTS; attempt++) {
+            UserStats current = userStatsRepository.findById(user.getId()).orElse(null);
+            Map<String, Long> healthLogCounts = countByType(HealthLog.class, "logType", user);
+            Map<String, Long> reminderCounts = countByType(Reminder.class, "reminderType", user);
+
+            actual = UserStats.builder()
+                    .id(user.getId())
+                    .healthLogCount(sum(healthLogCounts))
+                    .healthLogCountsByType(healthLogCounts)
+                    .reminderCount(sum(reminderCounts))
+                    .reminderCountsByType(reminderCounts)
+                    .build();
+            if (overwriteIfUnchanged(user, current, actual)) {
+                return actual;
+            }
+        }
+        log.warn("Stats of user {} changed during {} reconciliation attempts, leaving them to the next run",
+                user.getId(), RECONCILE_ATTEMPTS);
+        return actual;
+    }
+
+    /**
+     * Write reconciled counts unless the stats document changed since it was read.
+     *
+     * @return false if an increment or another reconciliation got there first
+     */
+    private boolean overwriteIfUnchanged(User user, UserStats current, UserStats actual) {
+        LocalDateTime now = LocalDateTime.now();
+        Update update = new Update().set(RECONCILED_AT, now).inc(VERSION, 1);
+        if (current == null || hasDrifted(current, actual)) {
+            if (current != null) {
+                log.warn("Correcting drifted stats for user {}: logs {} -> {}, reminders {} -> {}",
+                        user.getId(), current.getHealthLogCount(), actual.getHealthLogCount(),
+                        current.getReminderCount(), actual.getReminderCount());
+            }
+            update.set(HEALTH_LOG_COUNT, actual.getHealthLogCount())
+                    .set(HEALTH_LOG_COUNTS_BY_TYPE, actual.getHealthLogCountsByType())
+                    .set(REMINDER_COUNT, actual.getReminderCount())
+                    .set(REMINDER_COUNTS_BY_TYPE, actual.getReminderCountsByType())
+                    .set(UPDATED_AT, now);
+        }
+
+        // Documents written before versioning have no version field
+        Criteria unchanged = current == null || current.getVersion() == 0
+                ? Criteria.where(VERSION).exists(false)
+                : Criteria.where(VERSION).is(current.getVersion());
+        try {
+            UpdateResult result = mongoTemplate.upsert(
+                    Query.query(Criteria.where("_id").is(user.getId()).andOperator(unchanged)), update, UserStats.class);
+            if (result.getMatchedCount() == 0 && result.getUpsertedId() == null) {
+                return false;
+            }
+        } catch (DuplicateKeyException e) {
+            // The document exists with a newer version, so the upsert tried to insert it again
+            return false;
+        }
+        actual.setUpdatedAt(now);
+        actual.setReconciledAt(now);
+        actual.setVersion((current != null ? current.getVersion() : 0) + 1);
+        return true;
+    }
+
+    /**
+     * Periodically reconcile the counters of every user.
+     */
+    @Scheduled(fixedDelayString = "${stats.reconciliation.fixed-delay:3600000}",
+               initialDelayString = "${stats.reconciliation.initial-delay:300000}")
+    public void reconcileAll() {
+        if (!reconciliationEnabled) {
+            return;
+        }
+
+        log.info("Starting user stats reconciliation");
+        Query query = new Query();
+        query.fields().include("_id");
+
+        long reconciled = 0;
+        try (Stream<User> users = mongoTemplate.stream(query, User.class)) {
+            for (User user : (Iterable<User>) users::iterator) {
+                try {
+                    reconcile(user);
+                    reconciled++;
+                } catch (Exception e) {
+                    log.error("Failed to reconcile stats for user {}: {}", user.getId(), e.getMessage());
+                }
+            }
+        }
+        log.info("User stats reconciliation finished for {} users", reconciled);
+    }
+
+    /**
+     * Delete the counters of a user.
+     *
+     * @param user User entity
+     */
+    public void deleteStats(User user) {
+        userStatsRepository.deleteById(user.getId());
+    }
+
+    /**
+     * Apply a signed delta to a total counter and its per-type counter.
+     */
+    private void increment(User user, String totalField, String byTypeField, String type, long delta) {
+        Update update = new Update()
+                .inc(totalField, delta)
+                .inc(byTypeField + "." + encodeKey(type), delta)
+                .inc(VERSION, 1)
+                .currentDate(UPDATED_AT);
+        applyOrReconcile(user, update);
+    }
+
+    /**
+     * Move one unit from one per-type counter to another in a single update.
+     */
+    private void moveType(User user, String byTypeField, String oldType, String newType) {
+        if (Objects.equals(oldType, newType)) {
+            return;
+        }
+        Update update = new Update()
+                .inc(byTypeField + "." + encodeKey(oldType), -1)
+                .inc(byTypeField + "." + encodeKey(newType), 1)
+                .inc(VERSION, 1)
+                .currentDate(UPDATED_AT);
+        applyOrReconcile(user, update);
+    }
+
+    /**
+     * Apply an update to an existing stats document. Users without one are
+     * seeded from the source collections, which already include the change.
+     */
+    private void applyOrReconcile(User user, Update update) {
+        UpdateResult result = mongoTemplate.updateFirst(
+                Query.query(Criteria.where("_id").is(user.getId())), update, UserStats.class);
+        if (result.getMatchedCount() == 0) {
+            reconcile(user);
+        }
+    }
+
+    /**
+     * Count documents of the given entity per type for a user.
+     */
+    private Map<String, Long> countByType(Class<?> entityClass, String typeField, User user) {
+        TypedAggregation<?> aggregation = Aggregation.newAggregation(entityClass,
+                Aggregation.match(Criteria.where("user").is(user)),
+                Aggregation.group(typeField).count().as("count"));
+
+        Map<String, Long> counts = new HashMap<>();
+        for (Document result : mongoTemplate.aggregate(aggregation, Document.class)) {
+            Object type = result.get("_id");
+            counts.put(encodeKey(type != null ? type.toString() : null), ((Number) result.get("count")).longValue());
+        }
+        return counts;
+    }
+
+    private boolean hasDrifted(UserStats current, UserStats actual) {
+        return current.getHealthLogCount() != actual.getHealthLogCount()
+                || current.getReminderCount() != actual.getReminderCount()
+                || !withoutZeros(current.getHealthLogCountsByType()).equals(actual.getHealthLogCountsByType())
+                || !withoutZeros(current.getReminderCountsByType()).equals(actual.getReminderCountsByType());
+    }
+
+    private static long sum(Map<String, Long> counts) {
+        return counts.values().stream().mapToLong(Long::longValue).sum();
+    }
+
+    private static Map<String, Long> withoutZeros(Map<String, Long> counts) {
+        Map<String, Long> result = new HashMap<>();
+        if (counts != null) {
+            counts.forEach((key, value) -> {
+                if (value != null && value != 0) {
+                    result.put(key, value);
+                }
+            });
+        }
+        return result;
+    }
+
+    /**
+     * Encode a type so it can be used as a field name ('.' and a leading '$' are reserved).
+     */
+    static String encodeKey(String key) {
+        if (key == null || key.isEmpty()) {
+            return "_none";
+        }
+        String encoded = key.replace(".", "\uFF0E");
+        return encoded.startsWith("$") ? "\uFF04" + encoded.substring(1) : encoded;
+    }
+
+    private static String decodeKey(String key) {
+        String decoded = key.replace("\uFF0E", ".");
+        return decoded.startsWith("\uFF04") ? "$" + decoded.substring(1) : decoded;
+    }
+
+    private static Map<String, Long> decodeKeys(Map<String, Long> counts) {
+        Map<String, Long> decoded = new HashMap<>();
+        withoutZeros(counts).forEach((key, value) -> decoded.put(decodeKey(key), value));
+        return decoded;
+    }
+}
@@ -19,12 +19,16 @@ public final class Constants {
     public static final String USER_BASE_PATH = API_BASE_PATH + "/users";
     public static final String REMINDER_BASE_PATH = API_BASE_PATH + "/reminders";
     public static final String HEALTH_LOG_BASE_PATH = API_BASE_PATH + "/health-logs";
+    public static final String DASHBOARD_BASE_PATH = API_BASE_PATH + "/dashboard";
+    public static final String ADMIN_BASE_PATH = API_BASE_PATH + "/admin";
 
     // Security
     public static final String AUTHORIZATION_HEADER = "Authorization";
     public static final String BEARER_PREFIX = "Bearer ";
     public static final String[] PUBLIC_URLS = {
-        "/api/v1/auth/**",
+        AUTH_BASE_PATH + "/register",
+        AUTH_BASE_PATH + "/login",
+        AUTH_BASE_PATH + "/refresh",
         "/api-docs/**",
         "/swagger-ui/**",
         "/swagger-ui.html",
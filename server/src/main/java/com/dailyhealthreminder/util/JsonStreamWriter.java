@@ -0,0 +1,67 @@
+package com.dailyhealthreminder.util;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import java.util.Iterator;
+import java.util.function.Supplier;
+import java.util.stream.Stream;
+
+/**
+ * Writes a stream of objects to a response as they are produced, either as
+ * one JSON array or as newline-delimited JSON (one object per line).
+ * Output is flushed every few elements, so a slow client fills the socket
+ * buffer and blocks the writer, which stops pulling from the database
+ * cursor: memory stays bounded whatever the size of the result.
+ *
+ * @author Daily Health Reminder Team
+ * @version 1.0
+ */
+public final class JsonStreamWriter {
+
+    private static final int FLUSH_EVERY = 100;
+
+    private JsonStreamWriter() {
+    }
+
+    /**
+     * Create a response body writing the elements of a stream, and closing it afterwards.
+     * The stream is opened only when the body is written, so a cursor is
+     * never left open by a response that is not written, e.g. after an
+     * async timeout or a client disconnect.
+     *
+     * @param objectMapper Object mapper
+     * @param elements Opens the elements to write, typically backed by a cursor
+     * @param ndjson true for newline-delimited JSON, false for a JSON array
+     * @return Streaming response body
+     */
+    public static StreamingResponseBody write(ObjectMapper objectMapper, Supplier<? extends Stream<?>> elements,
+                                              boolean ndjson) {
+        return outputStream -> {
+            try (Stream<?> opened = elements.get(); JsonGenerator generator = objectMapper.getFactory().createGenerator(outputStream)) {
+                generator.disable(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
+                if (ndjson) {
+                    // Root values on separate lines instead of the default space separator
+                    generator.setRootValueSeparator(null);
+                } else {
+                    generator.writeStartArray();
+                }
+                int written = 0;
+                Iterator<?> iterator = opened.iterator();
+                while (iterator.hasNext()) {
+                    generator.writeObject(iterator.next());
+                    if (ndjson) {
+                        generator.writeRaw('\n');
+                    }
+                    if (++written % FLUSH_EVERY == 0) {
+                        generator.flush();
+                    }
+                }
+                if (!ndjson) {
+                    generator.writeEndArray();
+                }
+            }
+        };
+    }
+}
@@ -0,0 +1,90 @@
+package com.dailyhealthreminder.util;
+
+import com.dailyhealthreminder.entity.Reminder;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.Optional;
+
+/**
+ * Occurrence calculations for reminders.
+ * Interprets the frequency, days of week, day of month and the
+ * start/end window of a reminder.
+ *
+ * @author Daily Health Reminder Team
+ * @version 1.0
+ */
+public final class ReminderSchedule {
+
+    /**
+     * Longest gap between two occurrences of any supported frequency, in days.
+     */
+    private static final int MAX_SEARCH_DAYS = 62;
+
+    private ReminderSchedule() {
+        // Private constructor to prevent instantiation
+    }
+
+    /**
+     * Check if an active reminder fires on the given date.
+     * Unknown frequencies are treated as daily.
+     *
+     * @param reminder Reminder entity
+     * @param date Date to check
+     * @return true if the reminder occurs on the date
+     */
+    public static boolean occursOn(Reminder reminder, LocalDate date) {
+        if (!reminder.isActive()) {
+            return false;
+        }
+        if (reminder.getStartDate() != null && date.isBefore(reminder.getStartDate().toLocalDate())) {
+            return false;
+        }
+        if (reminder.getEndDate() != null && date.isAfter(reminder.getEndDate().toLocalDate())) {
+            return false;
+        }
+
+        if (Constants.FREQUENCY_WEEKLY.equals(reminder.getFrequency())) {
+            return reminder.getDaysOfWeek() != null
+                    && reminder.getDaysOfWeek().contains(date.getDayOfWeek().getValue());
+        }
+        if (Constants.FREQUENCY_MONTHLY.equals(reminder.getFrequency())) {
+            // Day 31 fires on the last day of shorter months
+            return reminder.getDayOfMonth() != null
+                    && date.getDayOfMonth() == Math.min(reminder.getDayOfMonth(), date.lengthOfMonth());
+        }
+        return true;
+    }
+
+    /**
+     * Compute the next time a reminder fires at or after the given instant.
+     *
+     * @param reminder Reminder entity
+     * @param from Instant to search from
+     * @return Next occurrence, or empty if the reminder never fires again
+     */
+    public static Optional<LocalDateTime> nextOccurrence(Reminder reminder, LocalDateTime from) {
+        if (!reminder.isActive() || reminder.getReminderTime() == null) {
+            return Optional.empty();
+        }
+
+        LocalDate date = from.toLocalDate();
+        if (reminder.getStartDate() != null && date.isBefore(reminder.getStartDate().toLocalDate())) {
+            date = reminder.getStartDate().toLocalDate();
+        }
+
+        for (int i = 0; i <= MAX_SEARCH_DAYS; i++) {
+            LocalDate candidate = date.plusDays(i);
+            if (reminder.getEndDate() != null && candidate.isAfter(reminder.getEndDate().toLocalDate())) {
+                break;
+            }
+            if (occursOn(reminder, candidate)) {
+                LocalDateTime occurrence = candidate.atTime(reminder.getReminderTime());
+                if (!occurrence.isBefore(from)) {
+                    return Optional.of(occurrence);
+                }
+            }
+        }
+        return Optional.empty();
+    }
+}
@@ -0,0 +1,97 @@
+package com.dailyhealthreminder.bulkhead;
+
+import com.dailyhealthreminder.config.BulkheadConfig;
+import com.dailyhealthreminder.exception.GlobalExceptionHandler;
+import com.dailyhealthreminder.exception.ResourceNotFoundException;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.aop.framework.ProxyFactory;
+import org.springframework.mock.env.MockEnvironment;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import static org.hamcrest.Matchers.startsWith;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.asyncDispatch;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.request;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * Tests for running annotated controller methods on their bulkhead.
+ *
+ * @author Daily Health Reminder Team
+ * @version 1.0
+ */
+class BulkheadInterceptorTest {
+
+    @RestController
+    @Bulkhead(Workload.READ)
+    static class WorkController {
+
+        @GetMapping("/work")
+        public String work() {
+            return Thread.currentThread().getName();
+        }
+
+        @GetMapping("/write")
+        @Bulkhead(Workload.WRITE)
+        public String write() {
+            return Thread.currentThread().getName();
+        }
+
+        @GetMapping("/missing")
+        public String missing() {
+            throw new ResourceNotFoundException("Work not found");
+        }
+    }
+
+    private BulkheadRegistry bulkheadRegistry;
+    private MockMvc mockMvc;
+
+    @BeforeEach
+    void setUp() {
+        bulkheadRegistry = new BulkheadRegistry(new MockEnvironment(), new SimpleMeterRegistry());
+        ProxyFactory proxyFactory = new ProxyFactory(new WorkController());
+        proxyFactory.setProxyTargetClass(true);
+        proxyFactory.addAdvisor(new BulkheadConfig().bulkheadAdvisor(bulkheadRegistry));
+        mockMvc = MockMvcBuilders.standaloneSetup(proxyFactory.getProxy())
+                .setControllerAdvice(new GlobalExceptionHandler())
+                .build();
+    }
+
+    @AfterEach
+    void tearDown() {
+        bulkheadRegistry.shutdown();
+    }
+
+    /**
+     * The method runs on its workload's executor, the method annotation
+     * taking precedence over the class, and its result is rendered as usual.
+     */
+    @Test
+    void runsOnWorkloadExecutor() throws Exception {
+        MvcResult read = mockMvc.perform(get("/work")).andExpect(request().asyncStarted()).andReturn();
+        mockMvc.perform(asyncDispatch(read))
+                .andExpect(status().isOk())
+                .andExpect(content().string(startsWith("bulkhead-read-")));
+
+        MvcResult write = mockMvc.perform(get("/write")).andExpect(request().asyncStarted()).andReturn();
+        mockMvc.perform(asyncDispatch(write))
+                .andExpect(content().string(startsWith("bulkhead-write-")));
+    }
+
+    /**
+     * Exceptions thrown on the executor reach the exception handlers.
+     */
+    @Test
+    void rendersExceptionsFromExecutor() throws Exception {
+        MvcResult result = mockMvc.perform(get("/missing")).andExpect(request().asyncStarted()).andReturn();
+        mockMvc.perform(asyncDispatch(result)).andExpect(status().isNotFound());
+    }
+}
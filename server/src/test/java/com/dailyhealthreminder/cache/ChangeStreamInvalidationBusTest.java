@@ -0,0 +1,135 @@
+package com.dailyhealthreminder.cache;
+
+import com.mongodb.DBRef;
+import com.mongodb.client.MongoClient;
+import com.mongodb.client.MongoClients;
+import com.mongodb.client.model.Filters;
+import org.bson.BsonDocument;
+import org.bson.BsonString;
+import org.bson.Document;
+import org.bson.types.ObjectId;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+import org.springframework.data.mongodb.core.MongoTemplate;
+
+import java.util.List;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Tests for the change-stream invalidation bus against a real replica set.
+ * Start a local single-node replica set and pass its URI, e.g.
+ * <pre>
+ * mongod --replSet rs0 --dbpath /tmp/rs0 &amp;&amp; mongosh --eval 'rs.initiate()'
+ * mvn test -Dtest=ChangeStreamInvalidationBusTest -Dmongo.replica-set-uri=mongodb://localhost:27017/?replicaSet=rs0
+ * </pre>
+ *
+ * @author Daily Health Reminder Team
+ * @version 1.0
+ */
+@EnabledIfSystemProperty(named = "mongo.replica-set-uri", matches = ".+")
+class ChangeStreamInvalidationBusTest {
+
+    private static final String DATABASE = "daily_health_reminder_bus_test";
+    private static final String CONSUMER = "test-node";
+
+    private final BlockingQueue<InvalidationEvent> events = new LinkedBlockingQueue<>();
+
+    private MongoClient client;
+    private MongoTemplate mongoTemplate;
+    private ChangeStreamInvalidationBus bus;
+
+    @BeforeEach
+    void setUp() {
+        client = MongoClients.create(System.getProperty("mongo.replica-set-uri"));
+        mongoTemplate = new MongoTemplate(client, DATABASE);
+        mongoTemplate.getDb().drop();
+        mongoTemplate.createCollection("reminders");
+    }
+
+    @AfterEach
+    void tearDown() {
+        if (bus != null) {
+            bus.stop();
+        }
+        mongoTemplate.getDb().drop();
+        client.close();
+    }
+
+    /**
+     * A fresh consumer flushes, then reports inserts with the owning user.
+     */
+    @Test
+    void publishesReminderChangesWithOwner() throws InterruptedException {
+        startBus();
+        assertThat(nextEvent().type()).isEqualTo(InvalidationEvent.Type.FLUSH_ALL);
+
+        ObjectId userId = new ObjectId();
+        ObjectId reminderId = insertReminder(userId);
+
+        InvalidationEvent event = nextEvent();
+        assertThat(event.type()).isEqualTo(InvalidationEvent.Type.REMINDER);
+        assertThat(event.entityId()).isEqualTo(reminderId.toHexString());
+        assertThat(event.userId()).isEqualTo(userId.toHexString());
+    }
+
+    /**
+     * A restarted consumer resumes from its stored token and sees changes made while it was down.
+     */
+    @Test
+    void resumesFromStoredTokenAfterRestart() throws InterruptedException {
+        startBus();
+        assertThat(nextEvent().type()).isEqualTo(InvalidationEvent.Type.FLUSH_ALL);
+        insertReminder(new ObjectId());
+        assertThat(nextEvent().type()).isEqualTo(InvalidationEvent.Type.REMINDER);
+        bus.stop();
+
+        ObjectId missedReminderId = insertReminder(new ObjectId());
+        startBus();
+
+        InvalidationEvent event = nextEvent();
+        assertThat(event.type()).isEqualTo(InvalidationEvent.Type.REMINDER);
+        assertThat(event.entityId()).isEqualTo(missedReminderId.toHexString());
+    }
+
+    /**
+     * A resume token the server rejects is discarded and caches are flushed.
+     */
+    @Test
+    void flushesWhenResumeTokenIsUnusable() throws InterruptedException {
+        mongoTemplate.getCollection(ChangeStreamInvalidationBus.TOKEN_COLLECTION).insertOne(new Document("_id", CONSUMER)
+                .append("token", new BsonDocument("_data", new BsonString("8200000001000000012B0229296E04"))));
+
+        startBus();
+
+        assertThat(nextEvent().type()).isEqualTo(InvalidationEvent.Type.FLUSH_ALL);
+        insertReminder(new ObjectId());
+        assertThat(nextEvent().type()).isEqualTo(InvalidationEvent.Type.REMINDER);
+        assertThat(mongoTemplate.getCollection(ChangeStreamInvalidationBus.TOKEN_COLLECTION)
+                .find(Filters.eq("_id", CONSUMER)).first()).isNotNull();
+    }
+
+    private void startBus() {
+        bus = new ChangeStreamInvalidationBus(mongoTemplate, List.of(events::add), CONSUMER, 0);
+        bus.start();
+    }
+
+    private ObjectId insertReminder(ObjectId userId) {
+        ObjectId reminderId = new ObjectId();
+        mongoTemplate.getCollection("reminders").insertOne(new Document("_id", reminderId)
+                .append("user", new DBRef("users", userId))
+                .append("title", "Drink water"));
+        return reminderId;
+    }
+
+    private InvalidationEvent nextEvent() throws InterruptedException {
+        InvalidationEvent event = events.poll(10, TimeUnit.SECONDS);
+        assertThat(event).as("invalidation event").isNotNull();
+        return event;
+    }
+}
@@ -0,0 +1,76 @@
+package com.dailyhealthreminder.cache;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Tests for the bounded local cache.
+ *
+ * @author Daily Health Reminder Team
+ * @version 1.0
+ */
+class LocalCacheTest {
+
+    /**
+     * The least recently used entry is evicted once the bound is exceeded.
+     */
+    @Test
+    void evictsLeastRecentlyUsedEntry() {
+        LocalCache<String, String> cache = new LocalCache<>(2, Duration.ofMinutes(1));
+        cache.get("a", () -> "A");
+        cache.get("b", () -> "B");
+        cache.getIfPresent("a");
+        cache.get("c", () -> "C");
+
+        assertThat(cache.getIfPresent("a")).isEqualTo("A");
+        assertThat(cache.getIfPresent("b")).isNull();
+        assertThat(cache.getIfPresent("c")).isEqualTo("C");
+    }
+
+    /**
+     * A load that overlaps an invalidation is returned but not stored.
+     */
+    @Test
+    void loadOverlappingInvalidationIsNotStored() {
+        LocalCache<String, String> cache = new LocalCache<>(10, Duration.ofMinutes(1));
+
+        String loaded = cache.get("a", () -> {
+            cache.invalidate("a");
+            return "stale";
+        });
+
+        assertThat(loaded).isEqualTo("stale");
+        assertThat(cache.getIfPresent("a")).isNull();
+    }
+
+    /**
+     * Invalidating another key does not discard a load in progress.
+     */
+    @Test
+    void loadOverlappingOtherInvalidationIsStored() {
+        LocalCache<String, String> cache = new LocalCache<>(10, Duration.ofMinutes(1));
+
+        cache.get("a", () -> {
+            cache.invalidate("b");
+            return "fresh";
+        });
+
+        assertThat(cache.getIfPresent("a")).isEqualTo("fresh");
+    }
+
+    /**
+     * Predicate invalidation removes only matching entries.
+     */
+    @Test
+    void invalidateIfRemovesMatchingEntries() {
+        LocalCache<String, String> cache = new LocalCache<>(10, Duration.ofMinutes(1));
+        cache.get("a", () -> "keep");
+        cache.get("b", () -> "drop");
+
+        assertThat(cache.invalidateIf((key, value) -> value.equals("drop"))).isEqualTo(1);
+        assertThat(cache.size()).isEqualTo(1);
+    }
+}
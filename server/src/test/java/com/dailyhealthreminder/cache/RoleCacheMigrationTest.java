@@ -0,0 +1,123 @@
+package com.dailyhealthreminder.cache;
+
+import com.dailyhealthreminder.entity.Role;
+import com.dailyhealthreminder.repository.RoleRepository;
+import com.dailyhealthreminder.util.Constants;
+import com.mongodb.DBRef;
+import com.mongodb.client.MongoCollection;
+import com.mongodb.client.model.Filters;
+import org.bson.Document;
+import org.bson.types.ObjectId;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.data.mongo.DataMongoTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.data.mongodb.core.MongoTemplate;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Tests for the one-shot migration of user role references to role names,
+ * run by the server against embedded Mongo.
+ *
+ * @author Daily Health Reminder Team
+ * @version 1.0
+ */
+@DataMongoTest(properties = "de.flapdoodle.mongodb.embedded.version=7.0.2")
+@Import(RoleCache.class)
+class RoleCacheMigrationTest {
+
+    @Autowired
+    private MongoTemplate mongoTemplate;
+
+    @Autowired
+    private RoleRepository roleRepository;
+
+    @Autowired
+    private RoleCache roleCache;
+
+    private ObjectId userRoleId;
+    private ObjectId adminRoleId;
+
+    @BeforeEach
+    void setUp() {
+        mongoTemplate.getCollection("users").drop();
+        mongoTemplate.getCollection("migrations").drop();
+        Role admin = roleRepository.findByName("ROLE_ADMIN")
+                .orElseGet(() -> roleRepository.save(new Role("ROLE_ADMIN")));
+        roleCache.refresh();
+        userRoleId = new ObjectId(roleCache.getDefaultRole().getId());
+        adminRoleId = new ObjectId(admin.getId());
+    }
+
+    /**
+     * References are rewritten to names, users already holding names are
+     * left alone, and the migration is recorded as complete.
+     */
+    @Test
+    void convertsReferencesToRoleNames() {
+        ObjectId referencing = insertUser(List.of(roleRef(userRoleId), roleRef(adminRoleId)));
+        ObjectId migrated = insertUser(List.of(Constants.DEFAULT_ROLE));
+
+        roleCache.migrateUserRoles();
+
+        assertThat(roles(referencing)).containsExactly(Constants.DEFAULT_ROLE, "ROLE_ADMIN");
+        assertThat(roles(migrated)).containsExactly(Constants.DEFAULT_ROLE);
+        assertThat(migrationCompleted()).isTrue();
+    }
+
+    /**
+     * A reference to a role that no longer exists is kept and the migration
+     * stays open, so it is reported again on the next startup.
+     */
+    @Test
+    void keepsUnresolvedReferencesAndStaysOpen() {
+        ObjectId referencing = insertUser(List.of(roleRef(new ObjectId()), roleRef(userRoleId)));
+
+        roleCache.migrateUserRoles();
+
+        List<Object> roles = roles(referencing);
+        assertThat(roles).hasSize(2);
+        assertThat(roles.get(0)).isInstanceOf(DBRef.class);
+        assertThat(roles.get(1)).isEqualTo(Constants.DEFAULT_ROLE);
+        assertThat(migrationCompleted()).isFalse();
+    }
+
+    /**
+     * A completed migration does not scan the users again.
+     */
+    @Test
+    void skipsCompletedMigration() {
+        mongoTemplate.getCollection("migrations").insertOne(new Document("_id", RoleCache.ROLE_NAMES_MIGRATION));
+        ObjectId referencing = insertUser(List.of(roleRef(userRoleId)));
+
+        roleCache.migrateUserRoles();
+
+        assertThat(roles(referencing)).singleElement().isInstanceOf(DBRef.class);
+    }
+
+    private ObjectId insertUser(List<Object> roles) {
+        ObjectId id = new ObjectId();
+        mongoTemplate.getCollection("users").insertOne(new Document("_id", id)
+                .append("email", id.toHexString() + "@example.com")
+                .append("roles", roles));
+        return id;
+    }
+
+    private List<Object> roles(ObjectId userId) {
+        MongoCollection<Document> users = mongoTemplate.getCollection("users");
+        return users.find(Filters.eq("_id", userId)).first().getList("roles", Object.class);
+    }
+
+    private boolean migrationCompleted() {
+        return mongoTemplate.getCollection("migrations")
+                .countDocuments(Filters.eq("_id", RoleCache.ROLE_NAMES_MIGRATION)) > 0;
+    }
+
+    private static DBRef roleRef(ObjectId roleId) {
+        return new DBRef("roles", roleId);
+    }
+}
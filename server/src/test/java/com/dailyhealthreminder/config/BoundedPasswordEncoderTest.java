@@ -0,0 +1,57 @@
+package com.dailyhealthreminder.config;
+
+import com.dailyhealthreminder.exception.ServiceUnavailableException;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+
+import java.util.concurrent.RejectedExecutionException;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * Tests for the bounded password encoder.
+ *
+ * @author Daily Health Reminder Team
+ * @version 1.0
+ */
+class BoundedPasswordEncoderTest {
+
+    /**
+     * Hashing and verification run through the executor.
+     */
+    @Test
+    void encodesAndMatchesOnExecutor() {
+        BoundedPasswordEncoder encoder = new BoundedPasswordEncoder(new BCryptPasswordEncoder(4), Runnable::run, 1000, new SimpleMeterRegistry());
+
+        String hash = encoder.encode("secret");
+
+        assertThat(encoder.matches("secret", hash)).isTrue();
+        assertThat(encoder.matches("other", hash)).isFalse();
+    }
+
+    /**
+     * A saturated executor fails fast with a service unavailable error.
+     */
+    @Test
+    void rejectsWhenExecutorIsSaturated() {
+        BoundedPasswordEncoder encoder = new BoundedPasswordEncoder(new BCryptPasswordEncoder(4), task -> {
+            throw new RejectedExecutionException("full");
+        }, 1000, new SimpleMeterRegistry());
+
+        assertThatThrownBy(() -> encoder.encode("secret")).isInstanceOf(ServiceUnavailableException.class);
+    }
+
+    /**
+     * A caller stops waiting once the wait limit is exceeded.
+     */
+    @Test
+    void failsWhenWaitLimitIsExceeded() {
+        BoundedPasswordEncoder encoder = new BoundedPasswordEncoder(new BCryptPasswordEncoder(4), task -> {
+            // Never runs the task
+        }, 50, new SimpleMeterRegistry());
+
+        assertThatThrownBy(() -> encoder.matches("secret", "hash")).isInstanceOf(ServiceUnavailableException.class);
+    }
+}
@@ -0,0 +1,81 @@
+package com.dailyhealthreminder.load;
+
+import java.util.Arrays;
+
+/**
+ * Growable log of latencies for one endpoint, owned by a single client
+ * thread and merged with the other clients' logs for reporting.
+ *
+ * @author Daily Health Reminder Team
+ * @version 1.0
+ */
+class LatencyRecorder {
+
+    private long[] nanos = new long[1024];
+    private int size;
+    private long errors;
+
+    /**
+     * Record one completed call.
+     *
+     * @param durationNanos Duration in nanoseconds
+     * @param success Whether the call succeeded
+     */
+    void record(long durationNanos, boolean success) {
+        if (size == nanos.length) {
+            nanos = Arrays.copyOf(nanos, size * 2);
+        }
+        nanos[size++] = durationNanos;
+        if (!success) {
+            errors++;
+        }
+    }
+
+    /**
+     * Append another recorder's samples to this one.
+     *
+     * @param other Recorder to merge
+     */
+    void merge(LatencyRecorder other) {
+        if (size + other.size > nanos.length) {
+            nanos = Arrays.copyOf(nanos, Math.max(nanos.length * 2, size + other.size));
+        }
+        System.arraycopy(other.nanos, 0, nanos, size, other.size);
+        size += other.size;
+        errors += other.errors;
+    }
+
+    /**
+     * Get the number of recorded calls.
+     *
+     * @return Count
+     */
+    int count() {
+        return size;
+    }
+
+    /**
+     * Get the number of failed calls.
+     *
+     * @return Error count
+     */
+    long errors() {
+        return errors;
+    }
+
+    /**
+     * Get a latency percentile using the nearest-rank method.
+     * Sorts the samples on first use.
+     *
+     * @param percentile Percentile between 0 and 100, e.g. 99.9
+     * @return Latency in milliseconds, or 0 without samples
+     */
+    double percentileMillis(double percentile) {
+        if (size == 0) {
+            return 0;
+        }
+        Arrays.sort(nanos, 0, size);
+        int rank = (int) Math.ceil(percentile / 100.0 * size);
+        return nanos[Math.max(0, Math.min(size - 1, rank - 1))] / 1_000_000.0;
+    }
+}
@@ -0,0 +1,351 @@
+package com.dailyhealthreminder.load;
+
+import com.dailyhealthreminder.entity.HealthLog;
+import com.dailyhealthreminder.entity.Reminder;
+import com.dailyhealthreminder.entity.User;
+import com.dailyhealthreminder.service.JwtService;
+import com.dailyhealthreminder.util.Constants;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.server.LocalServerPort;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Random;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * End-to-end load harness.
+ * Boots the application against embedded Mongo, seeds it with
+ * {@link SyntheticDataGenerator}, then drives a weighted mix of API
+ * calls from closed-loop clients (each client sends its next request as
+ * soon as the previous one completes) and reports p50, p99 and p999
+ * latency plus throughput per endpoint.
+ * Opt-in because it downloads a mongod binary and runs for minutes:
+ * {@code mvn test -Dtest=LoadTest -Dload.enabled=true -Dload.clients=32 -Dload.duration-s=120}.
+ * The report is also written to {@code target/load-report.json}; setting
+ * {@code load.max-p99-ms} or {@code load.max-error-rate} turns the run into
+ * a regression gate.
+ *
+ * @author Daily Health Reminder Team
+ * @version 1.0
+ */
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT)
+@ActiveProfiles("load")
+@EnabledIfSystemProperty(named = "load.enabled", matches = "true")
+class LoadTest {
+
+    private static final String PASSWORD = SyntheticDataGenerator.PASSWORD;
+    private static final String DEFAULT_MIX =
+            "register=2,login=5,log-create=25,log-list=20,log-count=13,reminder-list=25,reminder-create=10";
+    private static final List<String> LOG_TYPES = List.of(
+            Constants.HEALTH_LOG_TYPE_WATER, Constants.HEALTH_LOG_TYPE_EXERCISE, Constants.HEALTH_LOG_TYPE_SLEEP,
+            Constants.HEALTH_LOG_TYPE_WEIGHT, Constants.HEALTH_LOG_TYPE_MOOD, Constants.HEALTH_LOG_TYPE_MEDICATION);
+
+    /**
+     * API calls in the mix.
+     */
+    enum Operation {
+        REGISTER("register"),
+        LOGIN("login"),
+        LOG_CREATE("log-create"),
+        LOG_LIST("log-list"),
+        LOG_COUNT("log-count"),
+        REMINDER_LIST("reminder-list"),
+        REMINDER_CREATE("reminder-create");
+
+        private final String key;
+
+        Operation(String key) {
+            this.key = key;
+        }
+    }
+
+    @LocalServerPort
+    private int port;
+
+    @Autowired
+    private MongoTemplate mongoTemplate;
+
+    @Autowired
+    private JwtService jwtService;
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private final HttpClient httpClient = HttpClient.newBuilder()
+            .connectTimeout(Duration.ofSeconds(5))
+            .executor(Executors.newCachedThreadPool())
+            .build();
+    private final AtomicLong registrations = new AtomicLong();
+
+    /**
+     * Seed, warm up, measure and report.
+     *
+     * @throws Exception if the run fails
+     */
+    @Test
+    void runLoad() throws Exception {
+        int userCount = Integer.getInteger("load.users", 200);
+        int clients = Integer.getInteger("load.clients", 16);
+        long seed = Long.getLong("load.seed", 42L);
+        Duration warmup = Duration.ofSeconds(Long.getLong("load.warmup-s", 10L));
+        Duration duration = Duration.ofSeconds(Long.getLong("load.duration-s", 60L));
+        Map<Operation, Integer> mix = parseMix(System.getProperty("load.mix", DEFAULT_MIX));
+
+        List<User> users = seed(userCount, seed);
+        List<String> tokens = users.stream().map(jwtService::generateToken).toList();
+
+        runClients(clients, warmup, users, tokens, mix, seed + 1);
+        Map<Operation, LatencyRecorder> results = runClients(clients, duration, users, tokens, mix, seed + 2);
+
+        String report = report(results, duration, clients);
+        System.out.println(report);
+        Files.writeString(Path.of("target", "load-report.json"), toJson(results, duration));
+
+        gate(results);
+    }
+
+    private List<User> seed(int userCount, long seed) throws Exception {
+        SyntheticDataGenerator.Population population = SyntheticDataGenerator.Population.builder()
+                .seed(seed)
+                .users(userCount)
+                .powerUsers(Integer.getInteger("load.power-users", 1))
+                .powerUserLogs(Integer.getInteger("load.power-user-logs", 20_000))
+                .build();
+        SyntheticDataGenerator.Dataset dataset = new SyntheticDataGenerator(mongoTemplate, population).generate();
+        System.out.printf("Seeded %d users, %d reminders, %d health logs%n",
+                dataset.users().size(), dataset.reminders(), dataset.healthLogs());
+        return dataset.users();
+    }
+
+    private Map<Operation, LatencyRecorder> runClients(int clients, Duration duration, List<User> users,
+                                                       List<String> tokens, Map<Operation, Integer> mix,
+                                                       long seed) throws Exception {
+        ExecutorService executor = Executors.newFixedThreadPool(clients);
+        long deadline = System.nanoTime() + duration.toNanos();
+        List<Future<Map<Operation, LatencyRecorder>>> futures = new ArrayList<>();
+        for (int client = 0; client < clients; client++) {
+            Random random = new Random(seed * 31 + client);
+            futures.add(executor.submit(() -> runClient(deadline, users, tokens, mix, random)));
+        }
+
+        Map<Operation, LatencyRecorder> merged = new EnumMap<>(Operation.class);
+        for (Future<Map<Operation, LatencyRecorder>> future : futures) {
+            future.get().forEach((operation, recorder) ->
+                    merged.computeIfAbsent(operation, key -> new LatencyRecorder()).merge(recorder));
+        }
+        executor.shutdown();
+        return merged;
+    }
+
+    private Map<Operation, LatencyRecorder> runClient(long deadline, List<User> users, List<String> tokens,
+                                                      Map<Operation, Integer> mix, Random random) {
+        Map<Operation, LatencyRecorder> recorders = new EnumMap<>(Operation.class);
+        int totalWeight = mix.values().stream().mapToInt(Integer::intValue).sum();
+        while (System.nanoTime() < deadline) {
+            Operation operation = pick(mix, totalWeight, random);
+            int userIndex = random.nextInt(users.size());
+            HttpRequest request = request(operation, users.get(userIndex), tokens.get(userIndex), random);
+
+            long start = System.nanoTime();
+            boolean success;
+            try {
+                HttpResponse<Void> response = httpClient.send(request, HttpResponse.BodyHandlers.discarding());
+                success = response.statusCode() < 400;
+            } catch (IOException e) {
+                success = false;
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                break;
+            }
+            recorders.computeIfAbsent(operation, key -> new LatencyRecorder())
+                    .record(System.nanoTime() - start, success);
+        }
+        return recorders;
+    }
+
+    private HttpRequest request(Operation operation, User user, String token, Random random) {
+        return switch (operation) {
+            case REGISTER -> post(Constants.AUTH_BASE_PATH + "/register", null, Map.of(
+                    "name", "Registered User",
+                    "email", "registered-" + System.nanoTime() + "-" + registrations.incrementAndGet() + "@example.com",
+                    "password", PASSWORD));
+            case LOGIN -> post(Constants.AUTH_BASE_PATH + "/login", null, Map.of(
+                    "email", user.getEmail(),
+                    "password", PASSWORD));
+            case LOG_CREATE -> {
+                HealthLog log = healthLog(user, LocalDateTime.now(), random);
+                Map<String, Object> body = new LinkedHashMap<>();
+                body.put("logType", log.getLogType());
+                body.put("logDate", log.getLogDate().toString());
+                body.put("value", log.getValue());
+                body.put("unit", log.getUnit());
+                body.put("metadata", log.getMetadata());
+                yield post(Constants.HEALTH_LOG_BASE_PATH, token, body);
+            }
+            case LOG_LIST -> get(Constants.HEALTH_LOG_BASE_PATH + "?page=0&size=20", token);
+            case LOG_COUNT -> get(Constants.HEALTH_LOG_BASE_PATH + "/count", token);
+            case REMINDER_LIST -> get(Constants.REMINDER_BASE_PATH, token);
+            case REMINDER_CREATE -> {
+                Reminder reminder = reminder(user, random);
+                yield post(Constants.REMINDER_BASE_PATH, token, Map.of(
+                        "title", reminder.getTitle(),
+                        "reminderType", reminder.getReminderType(),
+                        "reminderTime", reminder.getReminderTime().toString(),
+                        "frequency", reminder.getFrequency()));
+            }
+        };
+    }
+
+    private HttpRequest get(String path, String token) {
+        return HttpRequest.newBuilder(uri(path))
+                .header("Authorization", Constants.BEARER_PREFIX + token)
+                .GET()
+                .build();
+    }
+
+    private HttpRequest post(String path, String token, Map<String, Object> body) {
+        HttpRequest.Builder builder = HttpRequest.newBuilder(uri(path))
+                .header("Content-Type", "application/json");
+        if (token != null) {
+            builder.header("Authorization", Constants.BEARER_PREFIX + token);
+        }
+        try {
+            return builder.POST(HttpRequest.BodyPublishers.ofString(objectMapper.writeValueAsString(body))).build();
+        } catch (IOException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private URI uri(String path) {
+        return URI.create("http://localhost:" + port + path);
+    }
+
+    private static Reminder reminder(User user, Random random) {
+        String[] frequencies = {Constants.FREQUENCY_DAILY, Constants.FREQUENCY_WEEKLY, Constants.FREQUENCY_MONTHLY};
+        return Reminder.builder()
+                .user(user)
+                .title("Reminder " + random.nextInt(1000))
+                .reminderType(LOG_TYPES.get(random.nextInt(LOG_TYPES.size())))
+                .reminderTime(LocalTime.of(6 + random.nextInt(16), random.nextInt(4) * 15))
+                .frequency(frequencies[random.nextInt(frequencies.length)])
+                .daysOfWeek(List.of(1 + random.nextInt(7)))
+                .dayOfMonth(1 + random.nextInt(28))
+                .isActive(random.nextInt(10) > 0)
+                .build();
+    }
+
+    private static HealthLog healthLog(User user, LocalDateTime logDate, Random random) {
+        String logType = LOG_TYPES.get(random.nextInt(LOG_TYPES.size()));
+        return HealthLog.builder()
+                .user(user)
+                .logType(logType)
+                .logDate(logDate)
+                .value(Math.round(random.nextDouble() * 1000) / 10.0)
+                .unit(Constants.HEALTH_LOG_TYPE_WATER.equals(logType) ? "ml" : "units")
+                .metadata(Map.of("source", random.nextBoolean() ? "app" : "watch"))
+                .build();
+    }
+
+    private static Operation pick(Map<Operation, Integer> mix, int totalWeight, Random random) {
+        int roll = random.nextInt(totalWeight);
+        for (Map.Entry<Operation, Integer> entry : mix.entrySet()) {
+            roll -= entry.getValue();
+            if (roll < 0) {
+                return entry.getKey();
+            }
+        }
+        throw new IllegalStateException("Empty mix");
+    }
+
+    private static Map<Operation, Integer> parseMix(String mix) {
+        Map<Operation, Integer> weights = new EnumMap<>(Operation.class);
+        for (String part : mix.split(",")) {
+            String[] keyValue = part.trim().split("=");
+            Operation operation = null;
+            for (Operation candidate : Operation.values()) {
+                if (candidate.key.equals(keyValue[0])) {
+                    operation = candidate;
+                }
+            }
+            if (operation == null) {
+                throw new IllegalArgumentException("Unknown operation in load.mix: " + keyValue[0]);
+            }
+            int weight = Integer.parseInt(keyValue[1]);
+            if (weight > 0) {
+                weights.put(operation, weight);
+            }
+        }
+        return weights;
+    }
+
+    private static String report(Map<Operation, LatencyRecorder> results, Duration duration, int clients) {
+        StringBuilder report = new StringBuilder(String.format(Locale.ROOT,
+                "%nLoad results, %d clients, %d s%n%-16s %9s %9s %9s %9s %9s %7s%n",
+                clients, duration.toSeconds(), "endpoint", "count", "req/s", "p50 ms", "p99 ms", "p999 ms", "errors"));
+        long total = 0;
+        for (Map.Entry<Operation, LatencyRecorder> entry : results.entrySet()) {
+            LatencyRecorder recorder = entry.getValue();
+            total += recorder.count();
+            report.append(String.format(Locale.ROOT, "%-16s %9d %9.1f %9.2f %9.2f %9.2f %7d%n",
+                    entry.getKey().key, recorder.count(), recorder.count() / (double) duration.toSeconds(),
+                    recorder.percentileMillis(50), recorder.percentileMillis(99), recorder.percentileMillis(99.9),
+                    recorder.errors()));
+        }
+        report.append(String.format(Locale.ROOT, "%-16s %9d %9.1f%n",
+                "total", total, total / (double) duration.toSeconds()));
+        return report.toString();
+    }
+
+    private String toJson(Map<Operation, LatencyRecorder> results, Duration duration) throws IOException {
+        Map<String, Object> json = new LinkedHashMap<>();
+        results.forEach((operation, recorder) -> json.put(operation.key, Map.of(
+                "count", recorder.count(),
+                "throughput", recorder.count() / (double) duration.toSeconds(),
+                "p50Ms", recorder.percentileMillis(50),
+                "p99Ms", recorder.percentileMillis(99),
+                "p999Ms", recorder.percentileMillis(99.9),
+                "errors", recorder.errors())));
+        return objectMapper.writerWithDefaultPrettyPrinter().writeValueAsString(json);
+    }
+
+    private static void gate(Map<Operation, LatencyRecorder> results) {
+        String maxP99 = System.getProperty("load.max-p99-ms");
+        String maxErrorRate = System.getProperty("load.max-error-rate");
+        results.forEach((operation, recorder) -> {
+            if (maxP99 != null) {
+                assertThat(recorder.percentileMillis(99))
+                        .as("p99 of %s", operation.key)
+                        .isLessThanOrEqualTo(Double.parseDouble(maxP99));
+            }
+            if (maxErrorRate != null && recorder.count() > 0) {
+                assertThat(recorder.errors() / (double) recorder.count())
+                        .as("error rate of %s", operation.key)
+                        .isLessThanOrEqualTo(Double.parseDouble(maxErrorRate));
+            }
+        });
+    }
+}
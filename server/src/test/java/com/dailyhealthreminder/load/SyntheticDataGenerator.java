@@ -0,0 +1,456 @@
+package com.dailyhealthreminder.load;
+
+import com.dailyhealthreminder.entity.HealthLog;
+import com.dailyhealthreminder.entity.Reminder;
+import com.dailyhealthreminder.entity.User;
+import com.dailyhealthreminder.util.Constants;
+import com.mongodb.client.MongoClient;
+import com.mongodb.client.MongoClients;
+import com.mongodb.client.MongoCollection;
+import com.mongodb.client.model.InsertManyOptions;
+import lombok.Builder;
+import lombok.Getter;
+import org.bson.Document;
+import org.bson.types.ObjectId;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.index.IndexOperations;
+import org.springframework.data.mongodb.core.index.MongoPersistentEntityIndexResolver;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+
+import java.nio.ByteBuffer;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.SplittableRandom;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Generator of large synthetic datasets for benchmarks and load tests.
+ * Populates users, reminders and health_logs with a configurable population:
+ * a few power users with a very long history, a Pareto-distributed tail of
+ * regular users, a share of inactive users, a realistic logType mix and
+ * per-type metadata shapes.
+ * <p>
+ * Every document, including its ObjectId, is derived from the seed and the
+ * position of the document in the dataset, never from thread scheduling or
+ * the wall clock, so two runs with the same settings produce the same data.
+ * Documents are written in unordered batches from a thread pool, and the
+ * declared indexes are built once after loading, which is much cheaper than
+ * maintaining them during the load.
+ * <p>
+ * Standalone: {@code java ... SyntheticDataGenerator} with the settings as
+ * system properties, e.g. {@code -Dgenerator.uri=mongodb://localhost:27017
+ * -Dgenerator.users=1000000 -Dgenerator.power-users=10 -Dgenerator.power-user-logs=1000000}.
+ *
+ * @author Daily Health Reminder Team
+ * @version 1.0
+ */
+public class SyntheticDataGenerator {
+
+    /**
+     * Password of every generated user.
+     */
+    public static final String PASSWORD = "LoadTest#2024";
+
+    private static final int USER_TAG = 1;
+    private static final int REMINDER_TAG = 2;
+    private static final int HEALTH_LOG_TAG = 3;
+
+    private static final String[] LOG_TYPES = {
+            Constants.HEALTH_LOG_TYPE_WATER, Constants.HEALTH_LOG_TYPE_MOOD, Constants.HEALTH_LOG_TYPE_MEDICATION,
+            Constants.HEALTH_LOG_TYPE_EXERCISE, Constants.HEALTH_LOG_TYPE_SLEEP, Constants.HEALTH_LOG_TYPE_WEIGHT};
+    /**
+     * Relative frequency of each log type, in the order of LOG_TYPES: water is
+     * logged several times a day, weight about once a week.
+     */
+    private static final int[] LOG_TYPE_WEIGHTS = {35, 15, 15, 12, 12, 11};
+    private static final String[] FREQUENCIES = {
+            Constants.FREQUENCY_DAILY, Constants.FREQUENCY_WEEKLY, Constants.FREQUENCY_MONTHLY};
+    private static final int[] FREQUENCY_WEIGHTS = {70, 20, 10};
+    private static final String[] ACTIVITIES = {"running", "walking", "cycling", "swimming", "yoga", "strength"};
+    private static final String[] MOOD_TAGS = {"calm", "tired", "stressed", "happy", "anxious", "focused"};
+    private static final String[] MEDICATIONS = {"Metformin", "Lisinopril", "Atorvastatin", "Vitamin D", "Ibuprofen"};
+
+    /**
+     * Population settings. Defaults give a dataset of a few hundred thousand
+     * documents that loads in seconds.
+     */
+    @Getter
+    @Builder
+    public static class Population {
+
+        @Builder.Default
+        private final long seed = 42L;
+
+        @Builder.Default
+        private final int users = 10_000;
+
+        /**
+         * Users with exactly {@code powerUserLogs} health logs, the first ones generated.
+         */
+        @Builder.Default
+        private final int powerUsers = 2;
+
+        @Builder.Default
+        private final int powerUserLogs = 100_000;
+
+        /**
+         * Mean number of health logs of an active regular user.
+         */
+        @Builder.Default
+        private final int meanLogsPerUser = 30;
+
+        /**
+         * Pareto shape of the regular users' log counts; smaller is more skewed.
+         */
+        @Builder.Default
+        private final double activitySkew = 1.5;
+
+        /**
+         * Share of regular users without any health log.
+         */
+        @Builder.Default
+        private final double inactiveShare = 0.2;
+
+        @Builder.Default
+        private final int maxRemindersPerUser = 8;
+
+        /**
+         * Health logs are spread over this many days before {@code anchor}.
+         */
+        @Builder.Default
+        private final int historyDays = 365;
+
+        /**
+         * Fixed point in time the data is generated relative to, so runs are comparable.
+         */
+        @Builder.Default
+        private final LocalDateTime anchor = LocalDateTime.of(2024, 1, 1, 0, 0);
+
+        @Builder.Default
+        private final int batchSize = 1_000;
+
+        @Builder.Default
+        private final int threads = Runtime.getRuntime().availableProcessors();
+
+        /**
+         * Read the settings from {@code generator.*} system properties.
+         *
+         * @return Population settings
+         */
+        public static Population fromSystemProperties() {
+            Population defaults = Population.builder().build();
+            return Population.builder()
+                    .seed(Long.getLong("generator.seed", defaults.seed))
+                    .users(Integer.getInteger("generator.users", defaults.users))
+                    .powerUsers(Integer.getInteger("generator.power-users", defaults.powerUsers))
+                    .powerUserLogs(Integer.getInteger("generator.power-user-logs", defaults.powerUserLogs))
+                    .meanLogsPerUser(Integer.getInteger("generator.mean-logs-per-user", defaults.meanLogsPerUser))
+                    .activitySkew(Double.parseDouble(System.getProperty("generator.activity-skew",
+                            String.valueOf(defaults.activitySkew))))
+                    .inactiveShare(Double.parseDouble(System.getProperty("generator.inactive-share",
+                            String.valueOf(defaults.inactiveShare))))
+                    .maxRemindersPerUser(Integer.getInteger("generator.max-reminders-per-user",
+                            defaults.maxRemindersPerUser))
+                    .historyDays(Integer.getInteger("generator.history-days", defaults.historyDays))
+                    .batchSize(Integer.getInteger("generator.batch-size", defaults.batchSize))
+                    .threads(Integer.getInteger("generator.threads", defaults.threads))
+                    .build();
+        }
+    }
+
+    /**
+     * Generated dataset.
+     *
+     * @param users Generated users, in generation order (power users first)
+     * @param reminders Number of reminders written
+     * @param healthLogs Number of health logs written
+     */
+    public record Dataset(List<User> users, long reminders, long healthLogs) {
+    }
+
+    private final MongoTemplate mongoTemplate;
+    private final Population population;
+    private final AtomicLong reminders = new AtomicLong();
+    private final AtomicLong healthLogs = new AtomicLong();
+
+    /**
+     * Constructor with target database and settings.
+     *
+     * @param mongoTemplate Template of the target database
+     * @param population Population settings
+     */
+    public SyntheticDataGenerator(MongoTemplate mongoTemplate, Population population) {
+        this.mongoTemplate = mongoTemplate;
+        this.population = population;
+    }
+
+    /**
+     * Generate into the database given by the {@code generator.uri} and
+     * {@code generator.database} system properties.
+     *
+     * @param args Unused
+     * @throws Exception if generation fails
+     */
+    public static void main(String[] args) throws Exception {
+        String uri = System.getProperty("generator.uri", "mongodb://localhost:27017");
+        String database = System.getProperty("generator.database", "daily_health_reminder_bench");
+        try (MongoClient client = MongoClients.create(uri)) {
+            MongoTemplate mongoTemplate = new MongoTemplate(client, database);
+            long start = System.nanoTime();
+            Dataset dataset = new SyntheticDataGenerator(mongoTemplate, Population.fromSystemProperties()).generate();
+            System.out.printf("Generated %d users, %d reminders, %d health logs in %d s%n",
+                    dataset.users().size(), dataset.reminders(), dataset.healthLogs(),
+                    TimeUnit.NANOSECONDS.toSeconds(System.nanoTime() - start));
+        }
+    }
+
+    /**
+     * Write the dataset and build the declared indexes.
+     *
+     * @return Generated dataset
+     * @throws InterruptedException if interrupted while waiting for the writers
+     * @throws ExecutionException if a batch failed to insert
+     */
+    public Dataset generate() throws InterruptedException, ExecutionException {
+        String passwordHash = new BCryptPasswordEncoder().encode(PASSWORD);
+        List<User> users = new ArrayList<>(population.users);
+        for (int i = 0; i < population.users; i++) {
+            users.add(user(i, passwordHash));
+        }
+
+        // Bounded queue with caller-runs so a 100M document plan never sits in memory
+        ThreadPoolExecutor executor = new ThreadPoolExecutor(population.threads, population.threads,
+                0L, TimeUnit.MILLISECONDS, new ArrayBlockingQueue<>(population.threads * 2),
+                new ThreadPoolExecutor.CallerRunsPolicy());
+        List<Future<?>> pending = new ArrayList<>();
+        try {
+            for (int from = 0; from < users.size(); from += population.batchSize) {
+                List<User> batch = users.subList(from, Math.min(users.size(), from + population.batchSize));
+                pending.add(executor.submit(() -> insert(User.class, batch)));
+            }
+            for (int i = 0; i < users.size(); i++) {
+                User user = users.get(i);
+                int userIndex = i;
+                pending.add(executor.submit(() -> insertReminders(user, userIndex)));
+                int logCount = logCount(i);
+                for (int from = 0; from < logCount; from += population.batchSize) {
+                    int first = from;
+                    int last = Math.min(logCount, from + population.batchSize);
+                    pending.add(executor.submit(() -> insertHealthLogs(user, userIndex, first, last)));
+                }
+                if (pending.size() > 10_000) {
+                    awaitAll(pending);
+                }
+            }
+            awaitAll(pending);
+        } finally {
+            executor.shutdown();
+        }
+
+        ensureIndexes(User.class);
+        ensureIndexes(Reminder.class);
+        ensureIndexes(HealthLog.class);
+        return new Dataset(users, reminders.get(), healthLogs.get());
+    }
+
+    /**
+     * Number of health logs of a user: power users first, then inactive
+     * users, then a Pareto tail capped at the power user count.
+     */
+    int logCount(int userIndex) {
+        if (userIndex < population.powerUsers) {
+            return population.powerUserLogs;
+        }
+        SplittableRandom random = random(USER_TAG, userIndex, 0);
+        if (random.nextDouble() < population.inactiveShare) {
+            return 0;
+        }
+        double alpha = population.activitySkew;
+        double scale = population.meanLogsPerUser * (alpha - 1) / alpha;
+        double count = scale / Math.pow(1 - random.nextDouble(), 1 / alpha);
+        return (int) Math.min(population.powerUserLogs, Math.round(count));
+    }
+
+    private User user(int userIndex, String passwordHash) {
+        SplittableRandom random = random(USER_TAG, userIndex, 1);
+        LocalDateTime createdAt = population.anchor.minusDays(population.historyDays + random.nextInt(365));
+        return User.builder()
+                .id(objectId(USER_TAG, userIndex, 0).toHexString())
+                .name("Synthetic User " + userIndex)
+                .email("user-" + userIndex + "@synthetic.example.com")
+                .password(passwordHash)
+                .phoneNumber(random.nextInt(10) < 6 ? String.format("+1555%07d", userIndex) : null)
+                .gender(random.nextBoolean() ? "FEMALE" : "MALE")
+                .dateOfBirth(population.anchor.minusYears(18 + random.nextInt(60)).minusDays(random.nextInt(365)))
+                .roles(new HashSet<>(List.of(Constants.DEFAULT_ROLE)))
+                .createdAt(createdAt)
+                .updatedAt(createdAt)
+                .build();
+    }
+
+    private void insertReminders(User user, int userIndex) {
+        SplittableRandom random = random(REMINDER_TAG, userIndex, 0);
+        int count = random.nextInt(population.maxRemindersPerUser + 1);
+        List<Reminder> batch = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            String frequency = pick(FREQUENCIES, FREQUENCY_WEIGHTS, random);
+            LocalDateTime createdAt = population.anchor.minusDays(random.nextInt(population.historyDays));
+            batch.add(Reminder.builder()
+                    .id(objectId(REMINDER_TAG, userIndex, i).toHexString())
+                    .user(user)
+                    .title("Reminder " + i)
+                    .reminderType(pick(LOG_TYPES, LOG_TYPE_WEIGHTS, random))
+                    .reminderTime(LocalTime.of(6 + random.nextInt(16), random.nextInt(4) * 15))
+                    .frequency(frequency)
+                    .daysOfWeek(Constants.FREQUENCY_WEEKLY.equals(frequency) ? List.of(1 + random.nextInt(7)) : null)
+                    .dayOfMonth(Constants.FREQUENCY_MONTHLY.equals(frequency) ? 1 + random.nextInt(28) : null)
+                    .startDate(createdAt)
+                    .isActive(random.nextInt(10) > 0)
+                    .createdAt(createdAt)
+                    .updatedAt(createdAt)
+                    .build());
+        }
+        insert(Reminder.class, batch);
+        reminders.addAndGet(count);
+    }
+
+    private void insertHealthLogs(User user, int userIndex, int first, int last) {
+        // Seeded per batch so the result does not depend on which thread wrote which batch
+        SplittableRandom random = random(HEALTH_LOG_TAG, userIndex, first);
+        long historyMinutes = population.historyDays * 24L * 60;
+        List<HealthLog> batch = new ArrayList<>(last - first);
+        for (int i = first; i < last; i++) {
+            LocalDateTime logDate = population.anchor.minusMinutes(random.nextLong(historyMinutes));
+            batch.add(healthLog(pick(LOG_TYPES, LOG_TYPE_WEIGHTS, random), logDate, random)
+                    .id(objectId(HEALTH_LOG_TAG, userIndex, i).toHexString())
+                    .user(user)
+                    .createdAt(logDate)
+                    .updatedAt(logDate)
+                    .build());
+        }
+        insert(HealthLog.class, batch);
+        healthLogs.addAndGet(batch.size());
+    }
+
+    private static HealthLog.HealthLogBuilder healthLog(String logType, LocalDateTime logDate, SplittableRandom random) {
+        HealthLog.HealthLogBuilder builder = HealthLog.builder().logType(logType).logDate(logDate);
+        Map<String, Object> metadata = new HashMap<>();
+        switch (logType) {
+            case Constants.HEALTH_LOG_TYPE_WATER -> {
+                builder.value((double) (150 + random.nextInt(8) * 50)).unit("ml");
+                metadata.put("container", random.nextBoolean() ? "glass" : "bottle");
+            }
+            case Constants.HEALTH_LOG_TYPE_MOOD -> {
+                builder.value((double) (1 + random.nextInt(10))).unit("score").qualityRating(1 + random.nextInt(5));
+                metadata.put("tags", List.of(MOOD_TAGS[random.nextInt(MOOD_TAGS.length)],
+                        MOOD_TAGS[random.nextInt(MOOD_TAGS.length)]));
+                metadata.put("energy", 1 + random.nextInt(5));
+            }
+            case Constants.HEALTH_LOG_TYPE_MEDICATION -> {
+                builder.value((double) (5 * (1 + random.nextInt(100)))).unit("mg");
+                metadata.put("name", MEDICATIONS[random.nextInt(MEDICATIONS.length)]);
+                metadata.put("taken", random.nextInt(20) > 0);
+            }
+            case Constants.HEALTH_LOG_TYPE_EXERCISE -> {
+                int minutes = 10 + random.nextInt(110);
+                builder.value((double) minutes).unit("minutes").durationMinutes(minutes)
+                        .caloriesBurned(minutes * (4 + random.nextInt(9)));
+                metadata.put("activity", ACTIVITIES[random.nextInt(ACTIVITIES.length)]);
+                metadata.put("heartRateAvg", 90 + random.nextInt(80));
+                if (random.nextBoolean()) {
+                    metadata.put("distanceKm", Math.round(random.nextDouble(1, 25) * 10) / 10.0);
+                }
+            }
+            case Constants.HEALTH_LOG_TYPE_SLEEP -> {
+                int minutes = 240 + random.nextInt(360);
+                builder.value(Math.round(minutes / 6.0) / 10.0).unit("hours").durationMinutes(minutes)
+                        .qualityRating(1 + random.nextInt(5));
+                metadata.put("interruptions", random.nextInt(5));
+                metadata.put("source", random.nextBoolean() ? "watch" : "manual");
+            }
+            default -> {
+                builder.value(Math.round(random.nextDouble(45, 130) * 10) / 10.0).unit("kg");
+                metadata.put("scale", random.nextBoolean() ? "smart" : "manual");
+                if (random.nextInt(3) == 0) {
+                    metadata.put("bodyFatPercent", Math.round(random.nextDouble(8, 40) * 10) / 10.0);
+                }
+            }
+        }
+        return builder.metadata(metadata);
+    }
+
+    /**
+     * Convert with the application's mapping, so the documents look exactly
+     * like the ones the repositories write, and insert without ordering.
+     */
+    private void insert(Class<?> entityClass, List<?> entities) {
+        if (entities.isEmpty()) {
+            return;
+        }
+        List<Document> documents = new ArrayList<>(entities.size());
+        for (Object entity : entities) {
+            Document document = new Document();
+            mongoTemplate.getConverter().write(entity, document);
+            documents.add(document);
+        }
+        MongoCollection<Document> collection = mongoTemplate.getCollection(mongoTemplate.getCollectionName(entityClass));
+        collection.insertMany(documents, new InsertManyOptions().ordered(false));
+    }
+
+    private void ensureIndexes(Class<?> entityClass) {
+        IndexOperations indexOps = mongoTemplate.indexOps(entityClass);
+        new MongoPersistentEntityIndexResolver(mongoTemplate.getConverter().getMappingContext())
+                .resolveIndexFor(entityClass)
+                .forEach(indexOps::ensureIndex);
+    }
+
+    private static void awaitAll(List<Future<?>> pending) throws InterruptedException, ExecutionException {
+        for (Future<?> future : pending) {
+            future.get();
+        }
+        pending.clear();
+    }
+
+    private static String pick(String[] values, int[] weights, SplittableRandom random) {
+        int total = 0;
+        for (int weight : weights) {
+            total += weight;
+        }
+        int roll = random.nextInt(total);
+        for (int i = 0; i < values.length; i++) {
+            roll -= weights[i];
+            if (roll < 0) {
+                return values[i];
+            }
+        }
+        return values[values.length - 1];
+    }
+
+    private SplittableRandom random(int tag, int userIndex, long sequence) {
+        long state = population.seed;
+        state = state * 0x9e3779b97f4a7c15L + tag;
+        state = state * 0x9e3779b97f4a7c15L + userIndex;
+        state = state * 0x9e3779b97f4a7c15L + sequence;
+        return new SplittableRandom(state);
+    }
+
+    /**
+     * ObjectId from the document's position, so IDs are stable across runs.
+     */
+    private static ObjectId objectId(int tag, int userIndex, long sequence) {
+        return new ObjectId(ByteBuffer.allocate(12)
+                .putInt(userIndex)
+                .putLong((long) tag << 56 | sequence)
+                .array());
+    }
+}
@@ -0,0 +1,49 @@
+package com.dailyhealthreminder.metrics;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Tests for the streaming Flight Recorder statistics.
+ *
+ * @author Daily Health Reminder Team
+ * @version 1.0
+ */
+class FlightRecorderStatisticsTest {
+
+    /**
+     * Service operation events are aggregated per operation and published as gauges.
+     */
+    @Test
+    void publishesServiceOperationStatistics() throws InterruptedException {
+        SimpleMeterRegistry registry = new SimpleMeterRegistry();
+        FlightRecorderStatistics statistics = new FlightRecorderStatistics(registry, 200, "100/s");
+        FlightRecorderStatistics.OperationKey key =
+                new FlightRecorderStatistics.OperationKey("service_operation", "ReminderService.getUserReminders");
+        statistics.start();
+        try {
+            long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(20);
+            while (!statistics.snapshot().operations().containsKey(key) && System.nanoTime() < deadline) {
+                ServiceOperationEvent event = new ServiceOperationEvent();
+                event.begin();
+                event.operation = "ReminderService.getUserReminders";
+                event.documentCount = 3;
+                event.commit();
+                Thread.sleep(10);
+            }
+        } finally {
+            statistics.stop();
+        }
+
+        FlightRecorderStatistics.OperationStats stats = statistics.snapshot().operations().get(key);
+        assertThat(stats).isNotNull();
+        assertThat(stats.documents()).isEqualTo(3 * stats.count());
+        assertThat(registry.find("jfr.window.events")
+                .tags("event", "service_operation", "name", "ReminderService.getUserReminders")
+                .gauge()).isNotNull();
+    }
+}
@@ -0,0 +1,74 @@
+package com.dailyhealthreminder.metrics;
+
+import org.bson.BsonDocument;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Tests for slow query fingerprints and plan summaries.
+ *
+ * @author Daily Health Reminder Team
+ * @version 1.0
+ */
+class SlowQueryRecorderTest {
+
+    /**
+     * Queries differing only in their values share a fingerprint; the sort is kept.
+     */
+    @Test
+    void fingerprintIgnoresValues() {
+        BsonDocument first = BsonDocument.parse("{find: 'reminders', filter: {user: {$ref: 'users', $id: 'a'},"
+                + " isActive: true, type: {$in: ['water', 'walk']}}, sort: {reminderTime: 1}, $db: 'app'}");
+        BsonDocument second = BsonDocument.parse("{find: 'reminders', filter: {user: {$ref: 'users', $id: 'b'},"
+                + " isActive: false, type: {$in: ['sleep']}}, sort: {reminderTime: 1}, $db: 'app'}");
+
+        String fingerprint = SlowQueryRecorder.fingerprint("find", first);
+
+        assertThat(fingerprint).isEqualTo(SlowQueryRecorder.fingerprint("find", second));
+        assertThat(fingerprint).isEqualTo("find reminders filter={user:{$ref:?,$id:?},isActive:?,type:{$in:[?]}}"
+                + " sort={\"reminderTime\": 1}");
+    }
+
+    /**
+     * Only the first statement of a batched write is copied, without session
+     * fields or the replacement document.
+     */
+    @Test
+    void copiesShapeOfFirstStatementOnly() {
+        BsonDocument command = BsonDocument.parse("{update: 'users', updates: [{q: {_id: 'a'}, u: {email: 'a@x'},"
+                + " upsert: true}, {q: {_id: 'b'}, u: {email: 'b@x'}}], ordered: true, lsid: {id: 1}, $db: 'app'}");
+
+        assertThat(SlowQueryRecorder.shapeOf("update", command)).isEqualTo(BsonDocument.parse(
+                "{update: 'users', updates: [{q: {_id: 'a'}, u: {}, upsert: true}]}"));
+    }
+
+    /**
+     * Update operators are kept, since an explained update needs them.
+     */
+    @Test
+    void keepsUpdateOperators() {
+        BsonDocument command = BsonDocument.parse("{findAndModify: 'reminders', query: {_id: 'a'},"
+                + " update: {$set: {isActive: false}}, new: true, $db: 'app'}");
+
+        assertThat(SlowQueryRecorder.shapeOf("findAndModify", command)).isEqualTo(BsonDocument.parse(
+                "{findAndModify: 'reminders', query: {_id: 'a'}, update: {$set: {isActive: false}}, new: true}"));
+    }
+
+    /**
+     * The plan summary reports the scan type and the examined versus returned counts.
+     */
+    @Test
+    void summarisesExplainOutput() {
+        BsonDocument explain = BsonDocument.parse("{queryPlanner: {winningPlan: {stage: 'FETCH', inputStage:"
+                + " {stage: 'IXSCAN', indexName: 'user_1_logDate_-1'}}},"
+                + " executionStats: {nReturned: 10, totalKeysExamined: 10, totalDocsExamined: 10}}");
+
+        QueryPlan plan = QueryPlan.from(explain);
+
+        assertThat(plan.scanType()).isEqualTo("IXSCAN");
+        assertThat(plan.summary()).isEqualTo("FETCH <- IXSCAN [user_1_logDate_-1]");
+        assertThat(plan.docsExamined()).isEqualTo(10L);
+        assertThat(plan.docsReturned()).isEqualTo(10L);
+    }
+}
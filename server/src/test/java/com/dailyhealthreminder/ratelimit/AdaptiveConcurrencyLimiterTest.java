@@ -0,0 +1,97 @@
+package com.dailyhealthreminder.ratelimit;
+
+import com.dailyhealthreminder.ratelimit.AdaptiveConcurrencyLimiter.Priority;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Tests for the gradient concurrency limiter.
+ *
+ * @author Daily Health Reminder Team
+ * @version 1.0
+ */
+class AdaptiveConcurrencyLimiterTest {
+
+    private static final long WINDOW_MS = 100;
+
+    private final AtomicLong clock = new AtomicLong();
+
+    /**
+     * Background requests are shed before normal ones, normal before critical.
+     */
+    @Test
+    void admitsByPriorityShare() {
+        AdaptiveConcurrencyLimiter limiter = new AdaptiveConcurrencyLimiter(10, 10, 10, WINDOW_MS, clock::get);
+
+        int background = 0;
+        while (limiter.tryAcquire(Priority.BACKGROUND)) {
+            background++;
+        }
+        int normal = background;
+        while (limiter.tryAcquire(Priority.NORMAL)) {
+            normal++;
+        }
+        int critical = normal;
+        while (limiter.tryAcquire(Priority.CRITICAL)) {
+            critical++;
+        }
+
+        assertThat(background).isEqualTo(6);
+        assertThat(normal).isEqualTo(9);
+        assertThat(critical).isEqualTo(10);
+        assertThat(limiter.getInFlight()).isEqualTo(10);
+    }
+
+    /**
+     * The limit grows while latency holds and shrinks once it rises.
+     */
+    @Test
+    void followsLatency() {
+        AdaptiveConcurrencyLimiter limiter = new AdaptiveConcurrencyLimiter(20, 10, 200, WINDOW_MS, clock::get);
+
+        for (int i = 0; i < 20; i++) {
+            runSaturatedWindow(limiter, TimeUnit.MILLISECONDS.toNanos(10));
+        }
+        int grown = limiter.getLimit();
+        assertThat(grown).isGreaterThan(20);
+
+        for (int i = 0; i < 20; i++) {
+            runSaturatedWindow(limiter, TimeUnit.MILLISECONDS.toNanos(100));
+        }
+        assertThat(limiter.getLimit()).isLessThan(grown / 2).isGreaterThanOrEqualTo(10);
+    }
+
+    /**
+     * Requests the backend failed to serve shrink the limit, down to its minimum.
+     */
+    @Test
+    void backsOffOnDrops() {
+        AdaptiveConcurrencyLimiter limiter = new AdaptiveConcurrencyLimiter(100, 10, 200, WINDOW_MS, clock::get);
+
+        for (int i = 0; i < 100; i++) {
+            assertThat(limiter.tryAcquire(Priority.CRITICAL)).isTrue();
+            limiter.onDropped();
+        }
+
+        assertThat(limiter.getLimit()).isEqualTo(10);
+        assertThat(limiter.getInFlight()).isZero();
+    }
+
+    /**
+     * Fill the limit, let a window pass and complete everything with the given latency.
+     */
+    private void runSaturatedWindow(AdaptiveConcurrencyLimiter limiter, long rttNanos) {
+        int admitted = 0;
+        while (limiter.tryAcquire(Priority.CRITICAL)) {
+            admitted++;
+        }
+        clock.addAndGet(TimeUnit.MILLISECONDS.toNanos(WINDOW_MS));
+        for (int i = 0; i < admitted; i++) {
+            limiter.onSuccess(clock.get() - rttNanos);
+        }
+    }
+}
@@ -0,0 +1,55 @@
+package com.dailyhealthreminder.ratelimit;
+
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Tests for the striped token bucket limiter.
+ *
+ * @author Daily Health Reminder Team
+ * @version 1.0
+ */
+class TokenBucketLimiterTest {
+
+    /**
+     * A key gets its burst, then is told how long to wait.
+     */
+    @Test
+    void rejectsOnceBurstIsUsed() {
+        TokenBucketLimiter limiter = new TokenBucketLimiter(3, 1, 100, 4);
+
+        assertThat(limiter.tryAcquire("a")).isZero();
+        assertThat(limiter.tryAcquire("a")).isZero();
+        assertThat(limiter.tryAcquire("a")).isZero();
+        assertThat(limiter.tryAcquire("a")).isBetween(1L, 60_000L);
+        assertThat(limiter.tryAcquire("b")).isZero();
+    }
+
+    /**
+     * Checking a key does not use its tokens.
+     */
+    @Test
+    void retryAfterDoesNotTakeTokens() {
+        TokenBucketLimiter limiter = new TokenBucketLimiter(1, 1, 100, 4);
+
+        assertThat(limiter.retryAfter("a")).isZero();
+        assertThat(limiter.retryAfter("a")).isZero();
+        assertThat(limiter.tryAcquire("a")).isZero();
+        assertThat(limiter.retryAfter("a")).isBetween(1L, 60_000L);
+    }
+
+    /**
+     * The number of tracked keys never exceeds the bound.
+     */
+    @Test
+    void boundsTrackedKeys() {
+        TokenBucketLimiter limiter = new TokenBucketLimiter(1, 1, 64, 4);
+
+        for (int i = 0; i < 10_000; i++) {
+            limiter.tryAcquire("key-" + i);
+        }
+
+        assertThat(limiter.size()).isLessThanOrEqualTo(64);
+    }
+}
@@ -0,0 +1,314 @@
+package com.dailyhealthreminder.repository;
+
+import com.dailyhealthreminder.config.MongoIndexInitializer;
+import com.dailyhealthreminder.dto.response.HealthLogResponse;
+import com.dailyhealthreminder.entity.RefreshToken;
+import com.dailyhealthreminder.entity.User;
+import com.dailyhealthreminder.load.SyntheticDataGenerator;
+import com.dailyhealthreminder.metrics.QueryPlan;
+import com.dailyhealthreminder.service.HealthLogService;
+import com.dailyhealthreminder.util.Constants;
+import com.mongodb.event.CommandListener;
+import com.mongodb.event.CommandStartedEvent;
+import org.bson.BsonDocument;
+import org.bson.BsonString;
+import org.bson.BsonValue;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestInstance;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.Arguments;
+import org.junit.jupiter.params.provider.MethodSource;
+import org.junit.jupiter.params.provider.ValueSource;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.mongo.MongoClientSettingsBuilderCustomizer;
+import org.springframework.boot.test.autoconfigure.data.mongo.DataMongoTest;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Import;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.mongodb.core.MongoTemplate;
+
+import java.lang.reflect.Method;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.function.Consumer;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Query plan regression tests for the repository methods.
+ * Runs every declared repository method against embedded Mongo with the
+ * indexes created by the production {@link MongoIndexInitializer} and a
+ * synthetic dataset, for a power user and a regular
+ * user, explains each command it sends and asserts that the winning plan
+ * uses an index and examines a bounded number of documents per document
+ * returned. A new repository method fails the build until it has a case
+ * here, and a case fails until its query shape is backed by an index.
+ *
+ * @author Daily Health Reminder Team
+ * @version 1.0
+ */
+@DataMongoTest(properties = "de.flapdoodle.mongodb.embedded.version=7.0.2")
+@Import(MongoIndexInitializer.class)
+@TestInstance(TestInstance.Lifecycle.PER_CLASS)
+class RepositoryQueryPlanTest {
+
+    private static final long MAX_DOCS_EXAMINED_PER_RETURNED = 10;
+    private static final Set<String> EXPLAINABLE_COMMANDS = Set.of("find", "aggregate", "count", "distinct", "delete");
+    private static final List<Class<?>> REPOSITORIES = List.of(
+            HealthLogRepository.class, ReminderRepository.class, UserRepository.class, RefreshTokenRepository.class);
+    private static final Pageable FIRST_PAGE = PageRequest.of(0, 20);
+
+    private static final List<CapturedCommand> COMMANDS = new CopyOnWriteArrayList<>();
+
+    @TestConfiguration
+    static class CommandCaptureConfig {
+
+        @Bean
+        MongoClientSettingsBuilderCustomizer commandCapture() {
+            return builder -> builder.addCommandListener(new CommandListener() {
+                @Override
+                public void commandStarted(CommandStartedEvent event) {
+                    if (EXPLAINABLE_COMMANDS.contains(event.getCommandName())) {
+                        // The driver may reuse the command's buffer once the callback returns
+                        COMMANDS.add(new CapturedCommand(event.getCommandName(), event.getCommand().clone()));
+                    }
+                }
+            });
+        }
+    }
+
+    /**
+     * Command sent to the server, copied when it was sent.
+     *
+     * @param name Command name, e.g. "find"
+     * @param command Command document
+     */
+    record CapturedCommand(String name, BsonDocument command) {
+    }
+
+    /**
+     * Repository method call for one user.
+     *
+     * @param method Repository and method name, e.g. "UserRepository.findByEmail"
+     * @param call Invocation of the method for the given user
+     */
+    record QueryCase(String method, Consumer<User> call) {
+
+        @Override
+        public String toString() {
+            return method;
+        }
+    }
+
+    @Autowired
+    private MongoTemplate mongoTemplate;
+
+    @Autowired
+    private HealthLogRepository healthLogRepository;
+
+    @Autowired
+    private ReminderRepository reminderRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private RefreshTokenRepository refreshTokenRepository;
+
+    private User powerUser;
+    private User regularUser;
+
+    @BeforeAll
+    void seed() throws Exception {
+        SyntheticDataGenerator.Population population = SyntheticDataGenerator.Population.builder()
+                .users(500)
+                .powerUsers(1)
+                .powerUserLogs(5_000)
+                .meanLogsPerUser(20)
+                .batchSize(500)
+                .threads(2)
+                .build();
+        List<User> users = new SyntheticDataGenerator(mongoTemplate, population).generate().users();
+
+        List<RefreshToken> refreshTokens = new ArrayList<>();
+        for (User user : users) {
+            refreshTokens.add(RefreshToken.builder()
+                    .token(tokenOf(user))
+                    .user(user)
+                    .expiryDate(LocalDateTime.now().plusDays(7))
+                    .build());
+        }
+        refreshTokenRepository.saveAll(refreshTokens);
+
+        powerUser = users.get(0);
+        regularUser = users.stream()
+                .skip(1)
+                .filter(user -> healthLogRepository.countByUser(user) > 0)
+                .findFirst()
+                .orElseThrow();
+    }
+
+    /**
+     * Every repository method has a case, so new query shapes cannot skip the plan check.
+     */
+    @Test
+    void everyRepositoryMethodHasACase() {
+        Set<String> declared = REPOSITORIES.stream()
+                .flatMap(repository -> Arrays.stream(repository.getDeclaredMethods())
+                        .filter(method -> !method.isSynthetic())
+                        .map(Method::getName)
+                        .map(name -> repository.getSimpleName() + "." + name))
+                .collect(Collectors.toSet());
+
+        assertThat(cases().map(QueryCase::method).collect(Collectors.toSet()))
+                .containsExactlyInAnyOrderElementsOf(declared);
+    }
+
+    @ParameterizedTest(name = "{0} for {1}")
+    @MethodSource("invocations")
+    void queryUsesAnIndexWithBoundedExamination(QueryCase queryCase, String userKind) {
+        User user = "power user".equals(userKind) ? powerUser : regularUser;
+
+        COMMANDS.clear();
+        queryCase.call().accept(user);
+        List<CapturedCommand> commands = List.copyOf(COMMANDS);
+
+        assertThat(commands).as("commands sent by %s", queryCase.method()).isNotEmpty();
+        for (CapturedCommand command : commands) {
+            QueryPlan plan = explain(command);
+            String description = queryCase.method() + " " + command.name() + ": " + plan.summary();
+
+            assertThat(plan.scanType()).as(description).isNotIn("COLLSCAN", "UNKNOWN");
+            assertThat(plan.docsExamined()).as(description)
+                    .isLessThanOrEqualTo(MAX_DOCS_EXAMINED_PER_RETURNED * Math.max(1, plan.docsReturned()));
+        }
+    }
+
+    /**
+     * The latest log per type sorts on user_logType_logDate_idx so that its
+     * $group/$first runs as a distinct scan: one index entry and one document
+     * per log type, however long the user's history.
+     */
+    @ParameterizedTest(name = "for {0}")
+    @ValueSource(strings = {"power user", "regular user"})
+    void latestHealthLogPerTypeUsesADistinctScan(String userKind) {
+        User user = "power user".equals(userKind) ? powerUser : regularUser;
+        // Only the aggregation is exercised, which needs neither the stats nor a separate analytics pool
+        HealthLogService healthLogService = new HealthLogService(
+                healthLogRepository, mongoTemplate, mongoTemplate, userRepository, null);
+
+        COMMANDS.clear();
+        Map<String, HealthLogResponse> latest = healthLogService.getLatestHealthLogs(user);
+        List<CapturedCommand> aggregates = COMMANDS.stream()
+                .filter(command -> "aggregate".equals(command.name()))
+                .toList();
+
+        assertThat(latest).isNotEmpty();
+        assertThat(aggregates).hasSize(1);
+        QueryPlan plan = explain(aggregates.get(0));
+        assertThat(plan.summary()).contains("DISTINCT_SCAN").contains("user_logType_logDate_idx");
+        assertThat(plan.keysExamined()).as(plan.summary()).isLessThanOrEqualTo(2L * latest.size() + 2);
+        assertThat(plan.docsExamined()).as(plan.summary()).isLessThanOrEqualTo(latest.size());
+    }
+
+    /**
+     * Each case for both users; deletes run last so they do not empty the
+     * dataset under the other cases.
+     */
+    Stream<Arguments> invocations() {
+        return cases()
+                .sorted(Comparator.comparing(queryCase -> queryCase.method().contains(".delete")))
+                .flatMap(queryCase -> Stream.of(
+                        Arguments.of(queryCase, "power user"),
+                        Arguments.of(queryCase, "regular user")));
+    }
+
+    private Stream<QueryCase> cases() {
+        LocalDateTime anchor = SyntheticDataGenerator.Population.builder().build().getAnchor();
+        LocalDateTime from = anchor.minusDays(30);
+        String logType = Constants.HEALTH_LOG_TYPE_WATER;
+        return Stream.of(
+                new QueryCase("HealthLogRepository.findByUser",
+                        user -> healthLogRepository.findByUser(user, FIRST_PAGE)),
+                new QueryCase("HealthLogRepository.findByUserOrderByLogDateDesc",
+                        user -> healthLogRepository.findByUserOrderByLogDateDesc(user, FIRST_PAGE)),
+                new QueryCase("HealthLogRepository.findByUserAndLogType",
+                        user -> healthLogRepository.findByUserAndLogType(user, logType, FIRST_PAGE)),
+                new QueryCase("HealthLogRepository.findByUserAndLogDateBetween",
+                        user -> healthLogRepository.findByUserAndLogDateBetween(user, from, anchor, FIRST_PAGE)),
+                new QueryCase("HealthLogRepository.findByUserAndLogTypeAndLogDateBetween",
+                        user -> healthLogRepository.findByUserAndLogTypeAndLogDateBetween(user, logType, from, anchor)),
+                new QueryCase("HealthLogRepository.countByUser",
+                        user -> healthLogRepository.countByUser(user)),
+                new QueryCase("HealthLogRepository.countByUserAndLogType",
+                        user -> healthLogRepository.countByUserAndLogType(user, logType)),
+                new QueryCase("HealthLogRepository.deleteByUser",
+                        user -> healthLogRepository.deleteByUser(user)),
+                new QueryCase("ReminderRepository.findByUser",
+                        user -> reminderRepository.findByUser(user)),
+                new QueryCase("ReminderRepository.findByUserOrderByReminderTimeAsc",
+                        user -> reminderRepository.findByUserOrderByReminderTimeAsc(user)),
+                new QueryCase("ReminderRepository.findByUserAndIsActive",
+                        user -> reminderRepository.findByUserAndIsActive(user, true)),
+                new QueryCase("ReminderRepository.findByUserAndReminderType",
+                        user -> reminderRepository.findByUserAndReminderType(user, logType)),
+                new QueryCase("ReminderRepository.findByUserAndFrequency",
+                        user -> reminderRepository.findByUserAndFrequency(user, Constants.FREQUENCY_DAILY)),
+                new QueryCase("ReminderRepository.findByUserAndIsActiveAndStartDateLessThanEqualAndEndDateGreaterThanEqual",
+                        user -> reminderRepository.findByUserAndIsActiveAndStartDateLessThanEqualAndEndDateGreaterThanEqual(
+                                user, true, anchor, anchor)),
+                new QueryCase("ReminderRepository.countByUser",
+                        user -> reminderRepository.countByUser(user)),
+                new QueryCase("UserRepository.findByEmail",
+                        user -> userRepository.findByEmail(user.getEmail())),
+                new QueryCase("UserRepository.existsByEmail",
+                        user -> userRepository.existsByEmail(user.getEmail())),
+                new QueryCase("UserRepository.existsByPhoneNumber",
+                        user -> userRepository.existsByPhoneNumber("+15550000000")),
+                new QueryCase("RefreshTokenRepository.findByToken",
+                        user -> refreshTokenRepository.findByToken(tokenOf(user))),
+                new QueryCase("RefreshTokenRepository.findByUser",
+                        user -> refreshTokenRepository.findByUser(user)),
+                new QueryCase("RefreshTokenRepository.deleteByUser",
+                        user -> refreshTokenRepository.deleteByUser(user)),
+                new QueryCase("RefreshTokenRepository.deleteByToken",
+                        user -> refreshTokenRepository.deleteByToken(tokenOf(user))));
+    }
+
+    /**
+     * Explain a captured command with execution stats. Deletes are explained
+     * as the equivalent find, so the stats count matched documents rather
+     * than documents that would be deleted.
+     */
+    private QueryPlan explain(CapturedCommand captured) {
+        BsonDocument command = new BsonDocument();
+        for (String key : captured.command().keySet()) {
+            if (!key.startsWith("$") && !key.equals("lsid") && !key.equals("txnNumber")) {
+                command.put(key, captured.command().get(key));
+            }
+        }
+        if ("delete".equals(captured.name())) {
+            BsonValue filter = command.getArray("deletes").get(0).asDocument().get("q");
+            command = new BsonDocument("find", command.get("delete")).append("filter", filter);
+        }
+        BsonDocument explain = mongoTemplate.getDb().runCommand(
+                new BsonDocument("explain", command).append("verbosity", new BsonString("executionStats")),
+                BsonDocument.class);
+        return QueryPlan.from(explain);
+    }
+
+    private static String tokenOf(User user) {
+        return "token-" + user.getId();
+    }
+}
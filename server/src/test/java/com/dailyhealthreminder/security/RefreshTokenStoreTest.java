@@ -0,0 +1,205 @@
+package com.dailyhealthreminder.security;
+
+import com.dailyhealthreminder.entity.RefreshToken;
+import com.dailyhealthreminder.entity.RevokedAccessToken;
+import com.dailyhealthreminder.entity.User;
+import com.dailyhealthreminder.repository.RevokedAccessTokenRepository;
+import com.mongodb.DBRef;
+import com.mongodb.client.FindIterable;
+import com.mongodb.client.MongoCollection;
+import com.mongodb.client.MongoCursor;
+import org.bson.Document;
+import org.bson.conversions.Bson;
+import org.bson.types.ObjectId;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InOrder;
+import org.springframework.dao.DataAccessResourceFailureException;
+import org.springframework.data.mongodb.core.BulkOperations;
+import org.springframework.data.mongodb.core.FindAndReplaceOptions;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.core.query.Update;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.Date;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.inOrder;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+/**
+ * Tests for the refresh token store: write-behind ordering, copy-on-write
+ * changes, and revocations reaching other instances through the access
+ * token revocation list.
+ *
+ * @author Daily Health Reminder Team
+ * @version 1.0
+ */
+class RefreshTokenStoreTest {
+
+    private static final String USER_ID = "65f1a2b3c4d5e6f708192a3b";
+
+    /**
+     * Stands in for the revoked_access_tokens collection shared by all instances.
+     */
+    private final List<RevokedAccessToken> revocations = new CopyOnWriteArrayList<>();
+
+    private MongoTemplate mongoTemplate;
+    private FindIterable<Document> found;
+    private BulkOperations userBulk;
+    private BulkOperations tokenBulk;
+    private RefreshTokenStore store;
+
+    @BeforeEach
+    @SuppressWarnings("unchecked")
+    void setUp() {
+        mongoTemplate = mock(MongoTemplate.class);
+        MongoCollection<Document> collection = mock(MongoCollection.class);
+        found = mock(FindIterable.class);
+        MongoCursor<Document> empty = mock(MongoCursor.class);
+        when(mongoTemplate.getCollection("refresh_tokens")).thenReturn(collection);
+        when(collection.find(any(Bson.class))).thenReturn(found);
+        when(found.iterator()).thenReturn(empty);
+
+        userBulk = mock(BulkOperations.class);
+        tokenBulk = mock(BulkOperations.class);
+        when(mongoTemplate.bulkOps(any(BulkOperations.BulkMode.class), eq("refresh_tokens"))).thenReturn(userBulk);
+        when(mongoTemplate.bulkOps(any(BulkOperations.BulkMode.class), eq(RefreshToken.class))).thenReturn(tokenBulk);
+
+        store = newStore(mongoTemplate, newRevocationList());
+    }
+
+    /**
+     * A token is found in memory right after it is issued, and a flush writes
+     * user-wide operations before the token's own latest state.
+     */
+    @Test
+    void flushesUserOperationsBeforeTokenWrites() {
+        String token = store.issue(session());
+        assertThat(store.find(token))
+                .hasValueSatisfying(refreshToken -> assertThat(refreshToken.isRevoked()).isFalse());
+
+        store.revokeAllForUser(USER_ID);
+        store.flush();
+
+        InOrder order = inOrder(userBulk, tokenBulk);
+        order.verify(userBulk).updateMulti(any(Query.class), any(Update.class));
+        order.verify(userBulk).execute();
+        ArgumentCaptor<RefreshToken> written = ArgumentCaptor.forClass(RefreshToken.class);
+        order.verify(tokenBulk).replaceOne(any(Query.class), written.capture(), any(FindAndReplaceOptions.class));
+        order.verify(tokenBulk).execute();
+        assertThat(written.getValue().isRevoked()).isTrue();
+        assertThat(store.find(token))
+                .hasValueSatisfying(refreshToken -> assertThat(refreshToken.isRevoked()).isTrue());
+    }
+
+    /**
+     * Revoking replaces the held token with a copy, leaving snapshots already
+     * handed out or queued for writing untouched.
+     */
+    @Test
+    void revokeDoesNotMutateHeldToken() {
+        String token = store.issue(session());
+        RefreshToken before = store.find(token).orElseThrow();
+
+        store.revoke(before);
+
+        assertThat(before.isRevoked()).isFalse();
+        assertThat(store.find(token).orElseThrow().isRevoked()).isTrue();
+    }
+
+    /**
+     * A write that fails stays pending and is retried by the next flush.
+     */
+    @Test
+    void retriesFailedWrites() {
+        when(tokenBulk.execute()).thenThrow(new DataAccessResourceFailureException("down")).thenReturn(null);
+        store.issue(session());
+
+        store.flush();
+        store.flush();
+        store.flush();
+
+        verify(tokenBulk, times(2)).replaceOne(any(Query.class), any(RefreshToken.class),
+                any(FindAndReplaceOptions.class));
+    }
+
+    /**
+     * A token revoked on one instance is reported revoked by another once
+     * that instance has polled, without reading the token again.
+     */
+    @Test
+    void revocationReachesOtherInstance() {
+        String token = store.issue(session());
+        RefreshToken issued = store.find(token).orElseThrow();
+
+        AccessTokenRevocationList otherList = newRevocationList();
+        RefreshTokenStore other = newStore(mongoTemplate, otherList);
+        when(found.first()).thenReturn(stored(issued));
+        assertThat(other.find(token))
+                .hasValueSatisfying(refreshToken -> assertThat(refreshToken.isRevoked()).isFalse());
+
+        store.revoke(issued);
+        otherList.poll();
+
+        assertThat(other.find(token))
+                .hasValueSatisfying(refreshToken -> assertThat(refreshToken.isRevoked()).isTrue());
+        assertThat(other.findSession(USER_ID, issued.getId())).isEmpty();
+        verify(found, times(1)).first();
+        verify(tokenBulk, never()).execute();
+    }
+
+    private RefreshTokenStore newStore(MongoTemplate mongoTemplate, AccessTokenRevocationList revocationList) {
+        RefreshTokenStore refreshTokenStore = new RefreshTokenStore(mongoTemplate, revocationList);
+        ReflectionTestUtils.setField(refreshTokenStore, "flushBatchSize", 500);
+        ReflectionTestUtils.setField(refreshTokenStore, "maxLoaded", 1000);
+        ReflectionTestUtils.setField(refreshTokenStore, "accessTokenExpirationMs", 3_600_000L);
+        return refreshTokenStore;
+    }
+
+    private AccessTokenRevocationList newRevocationList() {
+        RevokedAccessTokenRepository repository = mock(RevokedAccessTokenRepository.class);
+        when(repository.save(any(RevokedAccessToken.class))).thenAnswer(invocation -> {
+            RevokedAccessToken revoked = invocation.getArgument(0);
+            revocations.add(revoked);
+            return revoked;
+        });
+        when(repository.findByRevokedAtAfter(any(LocalDateTime.class))).thenAnswer(invocation -> {
+            LocalDateTime after = invocation.getArgument(0);
+            return revocations.stream().filter(revoked -> revoked.getRevokedAt().isAfter(after)).toList();
+        });
+        when(repository.findByExpiresAtAfter(any(LocalDateTime.class))).thenReturn(List.of());
+        AccessTokenRevocationList revocationList = new AccessTokenRevocationList(repository, 1000, 0.001);
+        revocationList.load();
+        return revocationList;
+    }
+
+    private static RefreshToken session() {
+        return RefreshToken.builder()
+                .user(User.builder().id(USER_ID).build())
+                .expiryDate(LocalDateTime.now().plusDays(7))
+                .deviceName("Test device")
+                .build();
+    }
+
+    private static Document stored(RefreshToken refreshToken) {
+        return new Document("_id", new ObjectId(refreshToken.getId()))
+                .append("token", refreshToken.getToken())
+                .append("user", new DBRef("users", new ObjectId(USER_ID)))
+                .append("expiryDate", Date.from(refreshToken.getExpiryDate()
+                        .atZone(ZoneId.systemDefault()).toInstant()))
+                .append("revoked", false);
+    }
+}
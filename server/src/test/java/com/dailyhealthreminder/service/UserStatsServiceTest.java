@@ -0,0 +1,191 @@
+package com.dailyhealthreminder.service;
+
+import com.dailyhealthreminder.entity.HealthLog;
+import com.dailyhealthreminder.entity.User;
+import com.dailyhealthreminder.entity.UserStats;
+import com.dailyhealthreminder.repository.UserStatsRepository;
+import com.mongodb.client.result.UpdateResult;
+import org.bson.BsonString;
+import org.bson.Document;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.aggregation.AggregationResults;
+import org.springframework.data.mongodb.core.aggregation.TypedAggregation;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.core.query.Update;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+/**
+ * Tests for the per-user counters: atomic increments and the versioned
+ * reconciliation that must not overwrite increments racing with it.
+ *
+ * @author Daily Health Reminder Team
+ * @version 1.0
+ */
+class UserStatsServiceTest {
+
+    private static final UpdateResult NOT_MATCHED = UpdateResult.acknowledged(0, 0L, null);
+    private static final UpdateResult MATCHED = UpdateResult.acknowledged(1, 1L, null);
+
+    private final User user = User.builder().id("65f1a2b3c4d5e6f708192a3b").build();
+
+    private MongoTemplate mongoTemplate;
+    private UserStatsRepository userStatsRepository;
+    private UserStatsService userStatsService;
+
+    @BeforeEach
+    void setUp() {
+        mongoTemplate = mock(MongoTemplate.class);
+        userStatsRepository = mock(UserStatsRepository.class);
+        userStatsService = new UserStatsService(mongoTemplate, userStatsRepository);
+        ReflectionTestUtils.setField(userStatsService, "reconciliationEnabled", true);
+
+        // Three water logs and one reminder of type walk
+        when(mongoTemplate.aggregate(any(TypedAggregation.class), eq(Document.class))).thenAnswer(invocation -> {
+            TypedAggregation<?> aggregation = invocation.getArgument(0);
+            Document count = aggregation.getInputType() == HealthLog.class
+                    ? new Document("_id", "water").append("count", 3)
+                    : new Document("_id", "walk").append("count", 1);
+            return new AggregationResults<>(List.of(count), new Document());
+        });
+    }
+
+    /**
+     * A change is one $inc of the total, the per-type counter and the version.
+     */
+    @Test
+    void incrementsCountersAndVersion() {
+        when(mongoTemplate.updateFirst(any(Query.class), any(Update.class), eq(UserStats.class))).thenReturn(MATCHED);
+
+        userStatsService.recordHealthLogCreated(user, "blood.pressure");
+
+        ArgumentCaptor<Update> update = ArgumentCaptor.forClass(Update.class);
+        verify(mongoTemplate).updateFirst(any(Query.class), update.capture(), eq(UserStats.class));
+        Document inc = update.getValue().getUpdateObject().get("$inc", Document.class);
+        assertThat(inc).containsEntry("healthLogCount", 1L)
+                .containsEntry("healthLogCountsByType.blood．pressure", 1L)
+                .containsEntry("version", 1);
+        verify(mongoTemplate, never()).upsert(any(Query.class), any(Update.class), eq(UserStats.class));
+    }
+
+    /**
+     * A user without a stats document is seeded from the source collections.
+     */
+    @Test
+    void seedsMissingStatsOnFirstChange() {
+        when(mongoTemplate.updateFirst(any(Query.class), any(Update.class), eq(UserStats.class)))
+                .thenReturn(NOT_MATCHED);
+        when(userStatsRepository.findById(user.getId())).thenReturn(Optional.empty());
+        when(mongoTemplate.upsert(any(Query.class), any(Update.class), eq(UserStats.class)))
+                .thenReturn(UpdateResult.acknowledged(0, 0L, new BsonString(user.getId())));
+
+        userStatsService.recordReminderDeleted(user, "walk");
+
+        ArgumentCaptor<Query> query = ArgumentCaptor.forClass(Query.class);
+        ArgumentCaptor<Update> update = ArgumentCaptor.forClass(Update.class);
+        verify(mongoTemplate).upsert(query.capture(), update.capture(), eq(UserStats.class));
+        assertThat(query.getValue().getQueryObject().toJson()).contains("\"version\": {\"$exists\": false}");
+        Document set = update.getValue().getUpdateObject().get("$set", Document.class);
+        assertThat(set).containsEntry("healthLogCount", 3L).containsEntry("reminderCount", 1L);
+    }
+
+    /**
+     * An increment landing between the read and the overwrite bumps the
+     * version, so the overwrite misses and the counts are taken again.
+     */
+    @Test
+    void recountsWhenVersionChangedDuringReconcile() {
+        when(userStatsRepository.findById(user.getId()))
+                .thenReturn(Optional.of(stats(4, 2)))
+                .thenReturn(Optional.of(stats(5, 3)));
+        when(mongoTemplate.upsert(any(Query.class), any(Update.class), eq(UserStats.class)))
+                .thenThrow(new DuplicateKeyException("version moved"))
+                .thenReturn(MATCHED);
+
+        UserStats reconciled = userStatsService.reconcile(user);
+
+        ArgumentCaptor<Query> queries = ArgumentCaptor.forClass(Query.class);
+        verify(mongoTemplate, times(2)).upsert(queries.capture(), any(Update.class), eq(UserStats.class));
+        assertThat(queries.getAllValues().get(0).getQueryObject().toJson()).contains("\"version\": 4");
+        assertThat(queries.getAllValues().get(1).getQueryObject().toJson()).contains("\"version\": 5");
+        verify(mongoTemplate, times(4)).aggregate(any(TypedAggregation.class), eq(Document.class));
+        assertThat(reconciled.getHealthLogCount()).isEqualTo(3);
+        assertThat(reconciled.getVersion()).isEqualTo(6);
+    }
+
+    /**
+     * A user whose counters keep changing is left to the next run after a bounded number of attempts.
+     */
+    @Test
+    void givesUpWhenCountersKeepChanging() {
+        when(userStatsRepository.findById(user.getId())).thenReturn(Optional.of(stats(7, 0)));
+        when(mongoTemplate.upsert(any(Query.class), any(Update.class), eq(UserStats.class))).thenReturn(NOT_MATCHED);
+
+        userStatsService.reconcile(user);
+
+        verify(mongoTemplate, times(3)).upsert(any(Query.class), any(Update.class), eq(UserStats.class));
+    }
+
+    /**
+     * Counters already in line with the source collections are not overwritten.
+     */
+    @Test
+    void leavesCountsOfUndriftedStats() {
+        UserStats current = stats(2, 3);
+        current.setReminderCount(1);
+        current.setHealthLogCountsByType(Map.of("water", 3L));
+        current.setReminderCountsByType(Map.of("walk", 1L, "sleep", 0L));
+        when(userStatsRepository.findById(user.getId())).thenReturn(Optional.of(current));
+        when(mongoTemplate.upsert(any(Query.class), any(Update.class), eq(UserStats.class))).thenReturn(MATCHED);
+
+        userStatsService.reconcile(user);
+
+        ArgumentCaptor<Update> update = ArgumentCaptor.forClass(Update.class);
+        verify(mongoTemplate).upsert(any(Query.class), update.capture(), eq(UserStats.class));
+        assertThat(update.getValue().getUpdateObject().get("$set", Document.class))
+                .containsOnlyKeys("reconciledAt");
+    }
+
+    /**
+     * One failing user does not stop the run for the others.
+     */
+    @Test
+    void reconcileAllContinuesAfterFailure() {
+        User failing = User.builder().id("65f1a2b3c4d5e6f708192a3c").build();
+        when(mongoTemplate.stream(any(Query.class), eq(User.class))).thenReturn(Stream.of(failing, user));
+        when(userStatsRepository.findById(failing.getId())).thenThrow(new IllegalStateException("boom"));
+        when(userStatsRepository.findById(user.getId())).thenReturn(Optional.of(stats(1, 0)));
+        when(mongoTemplate.upsert(any(Query.class), any(Update.class), eq(UserStats.class))).thenReturn(MATCHED);
+
+        userStatsService.reconcileAll();
+
+        verify(mongoTemplate).upsert(any(Query.class), any(Update.class), eq(UserStats.class));
+    }
+
+    private UserStats stats(long version, long healthLogCount) {
+        return UserStats.builder()
+                .id(user.getId())
+                .healthLogCount(healthLogCount)
+                .healthLogCountsByType(Map.of("water", healthLogCount))
+                .reminderCountsByType(Map.of())
+                .version(version)
+                .build();
+    }
+}
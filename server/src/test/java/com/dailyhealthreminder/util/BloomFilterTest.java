@@ -0,0 +1,38 @@
+package com.dailyhealthreminder.util;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Tests for the Bloom filter.
+ *
+ * @author Daily Health Reminder Team
+ * @version 1.0
+ */
+class BloomFilterTest {
+
+    /**
+     * Added elements are always reported, others rarely.
+     */
+    @Test
+    void hasNoFalseNegativesAndFewFalsePositives() {
+        BloomFilter filter = new BloomFilter(10_000, 0.01);
+        for (int i = 0; i < 10_000; i++) {
+            filter.put("added-" + i);
+        }
+
+        for (int i = 0; i < 10_000; i++) {
+            assertThat(filter.mightContain("added-" + i)).isTrue();
+        }
+        long falsePositives = 0;
+        for (int i = 0; i < 10_000; i++) {
+            if (filter.mightContain(UUID.randomUUID().toString())) {
+                falsePositives++;
+            }
+        }
+        assertThat(falsePositives).isLessThan(300);
+    }
+}
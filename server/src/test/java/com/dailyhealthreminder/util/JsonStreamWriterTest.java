@@ -0,0 +1,61 @@
+package com.dailyhealthreminder.util;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Tests for the streamed JSON writer.
+ *
+ * @author Daily Health Reminder Team
+ * @version 1.0
+ */
+class JsonStreamWriterTest {
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+    /**
+     * Elements are written as one JSON array and the source stream is closed.
+     */
+    @Test
+    void writesJsonArray() throws IOException {
+        AtomicBoolean closed = new AtomicBoolean();
+        Stream<Map<String, Integer>> elements = Stream.of(Map.of("value", 1), Map.of("value", 2))
+                .onClose(() -> closed.set(true));
+
+        assertThat(write(elements, false)).isEqualTo("[{\"value\":1},{\"value\":2}]");
+        assertThat(closed).isTrue();
+    }
+
+    /**
+     * Elements are written one per line without separators.
+     */
+    @Test
+    void writesNewlineDelimitedJson() throws IOException {
+        Stream<Map<String, Integer>> elements = Stream.of(Map.of("value", 1), Map.of("value", 2));
+
+        assertThat(write(elements, true)).isEqualTo("{\"value\":1}\n{\"value\":2}\n");
+    }
+
+    /**
+     * An empty result is still valid JSON.
+     */
+    @Test
+    void writesEmptyArray() throws IOException {
+        assertThat(write(Stream.empty(), false)).isEqualTo("[]");
+    }
+
+    private String write(Stream<?> elements, boolean ndjson) throws IOException {
+        ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+        JsonStreamWriter.write(objectMapper, () -> elements, ndjson).writeTo(outputStream);
+        return outputStream.toString(StandardCharsets.UTF_8);
+    }
+}
@@ -0,0 +1,78 @@
+package com.dailyhealthreminder.util;
+
+import com.dailyhealthreminder.entity.Reminder;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Tests for reminder occurrence calculations.
+ *
+ * @author Daily Health Reminder Team
+ * @version 1.0
+ */
+class ReminderScheduleTest {
+
+    private static final LocalDate MONDAY = LocalDate.of(2024, 1, 1);
+
+    /**
+     * Weekly reminders fire only on their configured days.
+     */
+    @Test
+    void weeklyReminderOccursOnConfiguredDays() {
+        Reminder reminder = reminder(Constants.FREQUENCY_WEEKLY).daysOfWeek(List.of(1, 3)).build();
+
+        assertThat(ReminderSchedule.occursOn(reminder, MONDAY)).isTrue();
+        assertThat(ReminderSchedule.occursOn(reminder, MONDAY.plusDays(1))).isFalse();
+        assertThat(ReminderSchedule.occursOn(reminder, MONDAY.plusDays(2))).isTrue();
+    }
+
+    /**
+     * Monthly reminders on day 31 fire on the last day of shorter months.
+     */
+    @Test
+    void monthlyReminderClampsToEndOfMonth() {
+        Reminder reminder = reminder(Constants.FREQUENCY_MONTHLY).dayOfMonth(31).build();
+
+        assertThat(ReminderSchedule.occursOn(reminder, LocalDate.of(2024, 2, 29))).isTrue();
+        assertThat(ReminderSchedule.occursOn(reminder, LocalDate.of(2024, 2, 28))).isFalse();
+    }
+
+    /**
+     * Inactive reminders and dates outside the start/end window never fire.
+     */
+    @Test
+    void inactiveOrOutOfWindowReminderDoesNotOccur() {
+        Reminder inactive = reminder(Constants.FREQUENCY_DAILY).isActive(false).build();
+        Reminder ended = reminder(Constants.FREQUENCY_DAILY).endDate(MONDAY.minusDays(1).atStartOfDay()).build();
+
+        assertThat(ReminderSchedule.occursOn(inactive, MONDAY)).isFalse();
+        assertThat(ReminderSchedule.occursOn(ended, MONDAY)).isFalse();
+        assertThat(ReminderSchedule.nextOccurrence(ended, MONDAY.atStartOfDay())).isEmpty();
+    }
+
+    /**
+     * The next occurrence skips today's slot once it has passed.
+     */
+    @Test
+    void nextOccurrenceRollsOverToNextMatchingDay() {
+        Reminder reminder = reminder(Constants.FREQUENCY_WEEKLY).daysOfWeek(List.of(1)).build();
+
+        assertThat(ReminderSchedule.nextOccurrence(reminder, MONDAY.atTime(7, 0)))
+                .contains(MONDAY.atTime(8, 0));
+        assertThat(ReminderSchedule.nextOccurrence(reminder, MONDAY.atTime(9, 0)))
+                .contains(MONDAY.plusWeeks(1).atTime(8, 0));
+    }
+
+    private static Reminder.ReminderBuilder reminder(String frequency) {
+        return Reminder.builder()
+                .frequency(frequency)
+                .reminderTime(LocalTime.of(8, 0))
+                .startDate(LocalDateTime.of(2023, 1, 1, 0, 0));
+    }
+}